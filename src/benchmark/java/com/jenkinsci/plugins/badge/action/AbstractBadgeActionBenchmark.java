@@ -0,0 +1,141 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.action;
+
+import com.sun.net.httpserver.HttpServer;
+import hudson.markup.RawHtmlMarkupFormatter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+import jenkins.benchmark.jmh.JmhBenchmark;
+import jenkins.benchmark.jmh.JmhBenchmarkState;
+import jenkins.model.Jenkins;
+import jenkins.model.JenkinsLocationConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks the getters of {@link AbstractBadgeAction} called whenever a badge is rendered.
+ */
+@JmhBenchmark
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AbstractBadgeActionBenchmark {
+
+    /**
+     * Jenkins with the OWASP markup formatter, its root URL pointing to a local stub answering every request with
+     * 404 so that unresolvable icons are looked up without depending on the network.
+     */
+    public static class JenkinsState extends JmhBenchmarkState {
+
+        private HttpServer stub;
+
+        @Override
+        public void setup() throws Exception {
+            stub = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            stub.createContext("/", exchange -> {
+                exchange.sendResponseHeaders(404, -1);
+                exchange.close();
+            });
+            stub.start();
+            JenkinsLocationConfiguration.get()
+                    .setUrl("http://localhost:" + stub.getAddress().getPort() + "/");
+            Jenkins.get().setMarkupFormatter(new RawHtmlMarkupFormatter(false));
+        }
+
+        @Override
+        public void tearDown() {
+            stub.stop(0);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class IconState {
+
+        @Param({"symbol-rocket plugin-ionicons-api", "info.gif", "https://jenkins.io/icon.png", "unknown.png"})
+        public String icon;
+
+        private BadgeAction action;
+
+        @Setup
+        public void setup() {
+            action = new BadgeAction("icon", icon, null, null, null, null, null);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class TextState {
+
+        @Param({"32", "1048576"})
+        public int length;
+
+        private BadgeAction action;
+
+        @Setup
+        public void setup() {
+            String fragment = "<b>Deployed</b> to <a href=\"https://jenkins.io\">staging</a> ";
+            StringBuilder text = new StringBuilder(length + fragment.length());
+            while (text.length() < length) {
+                text.append(fragment);
+            }
+            text.setLength(length);
+            action = new BadgeAction("text", null, text.toString(), null, null, null, null);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class LinkState {
+
+        @Param({"/job/test/", "https://jenkins.io", "mailto:jenkins@example.com", "javascript:alert(1)"})
+        public String link;
+
+        private BadgeAction action;
+
+        @Setup
+        public void setup() {
+            action = new BadgeAction("link", null, null, null, null, link, null);
+        }
+    }
+
+    @Benchmark
+    public String getIcon(JenkinsState jenkins, IconState state) {
+        return state.action.getIcon();
+    }
+
+    @Benchmark
+    public String getText(JenkinsState jenkins, TextState state) {
+        return state.action.getText();
+    }
+
+    @Benchmark
+    public String getLink(LinkState state) {
+        return state.action.getLink();
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.action;
+
+import hudson.model.FreeStyleBuild;
+import hudson.model.FreeStyleProject;
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.util.concurrent.TimeUnit;
+import jenkins.benchmark.jmh.JmhBenchmark;
+import jenkins.benchmark.jmh.JmhBenchmarkState;
+import jenkins.model.Jenkins;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks writing and reading the <code>build.xml</code> of a build carrying many badges and summaries through the
+ * XStream configuration of runs, in the temporary Jenkins home of the benchmark. Besides the time, the size of the
+ * file and the heap retained by a loaded build are reported as secondary results.
+ * Texts vary in size: every 1000th action has a text of 1 MiB, every 10th of 1 KiB, all others of 16 bytes. The
+ * largest builds need a heap of a few GiB.
+ */
+@JmhBenchmark
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BuildPersistenceBenchmark {
+
+    public static class JenkinsState extends JmhBenchmarkState {
+
+        @Param({"10", "1000", "100000"})
+        public int actions;
+
+        private FreeStyleProject project;
+        private FreeStyleBuild build;
+
+        @Override
+        public void setup() throws Exception {
+            project = Jenkins.get().createProject(FreeStyleProject.class, "persistence");
+            build = project.createExecutable();
+            for (int i = 0; i < actions; i++) {
+                String text = text(i);
+                build.addAction(
+                        i % 2 == 0
+                                ? new BadgeAction("badge-" + i, "symbol-rocket", text, null, null, null, null)
+                                : new BadgeSummaryAction("summary-" + i, null, text, null, null, null, null));
+            }
+            build.save();
+        }
+
+        private static String text(int i) {
+            int length = i % 1000 == 0 ? 1024 * 1024 : i % 10 == 0 ? 1024 : 16;
+            return "<b>" + "x".repeat(length - 7) + "</b>";
+        }
+
+        private File getFile() {
+            return new File(build.getRootDir(), "build.xml");
+        }
+
+        private FreeStyleBuild load() throws Exception {
+            return new FreeStyleBuild(project, build.getRootDir());
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        public long fileBytes;
+
+        public long retainedBytes;
+    }
+
+    @Benchmark
+    public void save(JenkinsState state, Footprint footprint) throws Exception {
+        state.build.save();
+        footprint.fileBytes = state.getFile().length();
+    }
+
+    @Benchmark
+    public FreeStyleBuild load(JenkinsState state) throws Exception {
+        return state.load();
+    }
+
+    /**
+     * Loads the build once per invocation and reports the growth of the used heap, after collecting garbage, while
+     * the loaded build is still referenced.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public void retained(JenkinsState state, Footprint footprint) throws Exception {
+        long before = usedHeap();
+        FreeStyleBuild loaded = state.load();
+        footprint.retainedBytes = usedHeap() - before;
+        Reference.reachabilityFence(loaded);
+    }
+
+    private static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -23,8 +23,11 @@
  */
 package com.jenkinsci.plugins.badge.action;
 
+import com.jenkinsci.plugins.badge.event.BadgeListener;
+import com.jenkinsci.plugins.badge.metrics.BadgeMetrics;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
-import hudson.model.Action;
+import hudson.model.Run;
 import io.jenkins.plugins.emoji.symbols.Emojis;
 import io.jenkins.plugins.ionicons.Ionicons;
 import java.io.IOException;
@@ -33,10 +36,12 @@ import java.io.Serializable;
 import java.net.HttpURLConnection;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import jenkins.model.Jenkins;
+import jenkins.model.RunAction2;
 import org.jenkinsci.plugins.scriptsecurity.sandbox.whitelists.Whitelisted;
 import org.kohsuke.stapler.export.Exported;
 import org.kohsuke.stapler.export.ExportedBean;
@@ -46,13 +51,23 @@ import org.kohsuke.stapler.export.ExportedBean;
  * Most of the implementation resides in this class in order to be shared with badges and summaries.
  */
 @ExportedBean(defaultVisibility = 2)
-public abstract class AbstractBadgeAction implements Action, Serializable {
+public abstract class AbstractBadgeAction implements RunAction2, Serializable {
 
     @Serial
     private static final long serialVersionUID = 1L;
 
     private static final Logger LOGGER = Logger.getLogger(AbstractBadgeAction.class.getName());
 
+    // class names of the replacements for legacy icons, built once instead of on every call
+    private static final String LEGACY_CLOUD_UPLOAD = Ionicons.getIconClassName("cloud-upload-outline");
+    private static final String LEGACY_CLOUD_DOWNLOAD = Ionicons.getIconClassName("cloud-download-outline");
+    private static final String LEGACY_GREEN_SQUARE = Emojis.getIconClassName("green_square");
+    private static final String LEGACY_RED_SQUARE = Emojis.getIconClassName("red_square");
+    private static final String LEGACY_SAVE = Ionicons.getIconClassName("save-outline");
+    private static final String LEGACY_YELLOW_SQUARE = Emojis.getIconClassName("yellow_square");
+    private static final String LEGACY_CHECKMARK_CIRCLE = Ionicons.getIconClassName("checkmark-circle-outline");
+    private static final String LEGACY_FOLDER_OPEN = Ionicons.getIconClassName("folder-open-outline");
+
     private final String id;
     private String icon;
     private String text;
@@ -60,6 +75,9 @@ public abstract class AbstractBadgeAction implements Action, Serializable {
     private String style;
     private String link;
     private String target;
+    private Double value;
+
+    private transient Run<?, ?> run;
 
     /**
      * Ctor.
@@ -107,6 +125,7 @@ public abstract class AbstractBadgeAction implements Action, Serializable {
     @Whitelisted
     public void setIcon(String icon) {
         this.icon = icon;
+        fireUpdated();
     }
 
     @Exported
@@ -117,44 +136,69 @@ public abstract class AbstractBadgeAction implements Action, Serializable {
                 || icon.startsWith("/")
                 || icon.startsWith("symbol-")
                 || icon.startsWith("icon-")
-                || icon.matches("^https?://.*")) {
+                || isHttpUrl(icon)) {
             return icon;
         }
 
         // backwards compatible replacement for old GIFs and SVGs - since 2.8
+        String replacement = replaceLegacyIcon(icon);
+        if (replacement != null) {
+            return replacement;
+        }
+
+        String path = Jenkins.RESOURCE_PATH + "/images/16x16/" + icon;
+        if (!isJenkinsResource(path)) {
+            path = Jenkins.RESOURCE_PATH + "/images/svgs/" + icon;
+            if (!isJenkinsResource(path)) {
+                BadgeMetrics.get().iconLookup(false);
+                LOGGER.log(Level.WARNING, () -> "Icon '" + icon + "' not found as Jenkins resource");
+                return icon;
+            }
+        }
+        BadgeMetrics.get().iconLookup(true);
+        return path;
+    }
+
+    /**
+     * @param icon a legacy icon name.
+     * @return the replacement of a legacy icon shipped with older versions of Jenkins, or null if the icon is none
+     * of them.
+     */
+    @CheckForNull
+    private static String replaceLegacyIcon(@NonNull String icon) {
         return switch (icon) {
             case "completed.gif" -> "symbol-status-blue";
-            case "db_in.gif" -> Ionicons.getIconClassName("cloud-upload-outline");
-            case "db_out.gif" -> Ionicons.getIconClassName("cloud-download-outline");
+            case "db_in.gif" -> LEGACY_CLOUD_UPLOAD;
+            case "db_out.gif" -> LEGACY_CLOUD_DOWNLOAD;
             case "delete.gif" -> "symbol-trash";
             case "error.gif" -> "symbol-status-red";
             case "folder.gif" -> "symbol-folder";
-            case "green.gif" -> Emojis.getIconClassName("green_square");
+            case "green.gif" -> LEGACY_GREEN_SQUARE;
             case "info.gif" -> "symbol-information-circle";
-            case "red.gif" -> Emojis.getIconClassName("red_square");
-            case "save.gif" -> Ionicons.getIconClassName("save-outline");
+            case "red.gif" -> LEGACY_RED_SQUARE;
+            case "save.gif" -> LEGACY_SAVE;
             case "success.gif" -> "symbol-status-blue";
             case "text.gif" -> "symbol-document-text";
             case "warning.gif" -> "symbol-status-yellow";
-            case "yellow.gif" -> Emojis.getIconClassName("yellow_square");
-            case "accept.svg" -> Ionicons.getIconClassName("checkmark-circle-outline");
+            case "yellow.gif" -> LEGACY_YELLOW_SQUARE;
+            case "accept.svg" -> LEGACY_CHECKMARK_CIRCLE;
             case "error.svg" -> "symbol-status-red";
-            case "folder-delete.svg" -> Ionicons.getIconClassName("folder-open-outline");
+            case "folder-delete.svg" -> LEGACY_FOLDER_OPEN;
             case "warning.svg" -> "symbol-status-yellow";
-            default -> {
-                if (isJenkinsResource(Jenkins.RESOURCE_PATH + "/images/16x16/" + icon)) {
-                    yield Jenkins.RESOURCE_PATH + "/images/16x16/" + icon;
-                } else if (isJenkinsResource(Jenkins.RESOURCE_PATH + "/images/svgs/" + icon)) {
-                    yield Jenkins.RESOURCE_PATH + "/images/svgs/" + icon;
-                } else {
-                    LOGGER.log(Level.WARNING, () -> "Icon '" + icon + "' not found as Jenkins resource");
-                    yield icon;
-                }
-            }
+            default -> null;
         };
     }
 
+    /**
+     * Checked on every render, so plain prefix comparisons instead of regular expressions that would be compiled on
+     * each call.
+     */
+    private static boolean isHttpUrl(String value) {
+        return value.startsWith("http://") || value.startsWith("https://");
+    }
+
     private static boolean isJenkinsResource(String iconPath) {
+        long start = System.nanoTime();
         try {
             String url = Jenkins.get().getRootUrl() + iconPath;
             HttpURLConnection conn = (HttpURLConnection) new URI(url).toURL().openConnection();
@@ -165,32 +209,76 @@ public abstract class AbstractBadgeAction implements Action, Serializable {
         } catch (IOException | URISyntaxException ex) {
             LOGGER.log(Level.WARNING, ex, () -> "Unable to validate Jenkins resource '" + iconPath + "'.");
             return false;
+        } finally {
+            BadgeMetrics.get().iconProbe(System.nanoTime() - start);
         }
     }
 
     @Whitelisted
     public void setText(String text) {
-        this.text = text;
+        setRawText(text);
+        fireUpdated();
     }
 
     @Exported
     @Whitelisted
     public String getText() {
+        return translate(getRawText());
+    }
+
+    /**
+     * Exported for API consumers that sanitize the text themselves, so it is only included when requested,
+     * e.g. with <code>tree=actions[id,rawText]</code>, and does not pay for the markup formatter.
+     * @return the text as stored, before applying the markup formatter.
+     */
+    @Exported(visibility = 1)
+    public String getRawText() {
+        return text;
+    }
+
+    /**
+     * Replaces the text without notifying the {@link BadgeListener}s, for changes made on behalf of the plugin like
+     * migrations. The caller saves the run.
+     * @param text the new text.
+     */
+    protected void setRawText(String text) {
+        this.text = text;
+    }
+
+    /**
+     * Exported like {@link #getRawText()}, skipping the lookup of legacy icons.
+     * @return the icon as stored, without replacing legacy icon names.
+     */
+    @Exported(visibility = 1)
+    public String getRawIcon() {
+        return icon;
+    }
+
+    /**
+     * Applies the markup formatter to the given text.
+     * @param text the text to translate.
+     * @return the translated text or an error message if the text could not be translated.
+     */
+    protected static String translate(String text) {
         if (text == null || text.isBlank()) {
             return text;
         }
 
+        long start = System.nanoTime();
         try {
             return Jenkins.get().getMarkupFormatter().translate(text);
         } catch (IOException ex) {
             LOGGER.log(Level.WARNING, "Error preparing badge text for UI", ex);
             return "<b><font color=\"var(--error-color)\">Error preparing badge text for UI</font></b>";
+        } finally {
+            BadgeMetrics.get().translation(System.nanoTime() - start);
         }
     }
 
     @Whitelisted
     public void setCssClass(String cssClass) {
         this.cssClass = cssClass;
+        fireUpdated();
     }
 
     @Exported
@@ -202,6 +290,7 @@ public abstract class AbstractBadgeAction implements Action, Serializable {
     @Whitelisted
     public void setStyle(String style) {
         this.style = style;
+        fireUpdated();
     }
 
     @Exported
@@ -213,16 +302,13 @@ public abstract class AbstractBadgeAction implements Action, Serializable {
     @Whitelisted
     public void setLink(String link) {
         this.link = link;
+        fireUpdated();
     }
 
     @Exported
     @Whitelisted
     public String getLink() {
-        if (link == null
-                || link.isBlank()
-                || link.startsWith("/")
-                || link.matches("^https?://.*")
-                || link.matches("^mailto:.*")) {
+        if (link == null || link.isBlank() || link.startsWith("/") || isHttpUrl(link) || link.startsWith("mailto:")) {
             return link;
         }
 
@@ -233,6 +319,7 @@ public abstract class AbstractBadgeAction implements Action, Serializable {
     @Whitelisted
     public void setTarget(String target) {
         this.target = target;
+        fireUpdated();
     }
 
     @Exported
@@ -241,6 +328,72 @@ public abstract class AbstractBadgeAction implements Action, Serializable {
         return target;
     }
 
+    @Whitelisted
+    public void setValue(Double value) {
+        this.value = value;
+        fireUpdated();
+    }
+
+    /**
+     * @return the optional numeric value of this badge, e.g. a coverage or a duration, kept apart from the text to
+     * be charted over builds.
+     */
+    @Exported
+    @Whitelisted
+    public Double getValue() {
+        return value;
+    }
+
+    /**
+     * Rewrites values stored in a legacy format in place, without notifying the {@link BadgeListener}s. Called by the
+     * background migration of existing builds, which increments the {@link BadgeVersionAction} and saves the run if
+     * anything changed. Subclasses overriding this method must call it.
+     * @return whether this action was changed.
+     */
+    public boolean migrate() {
+        String replacement = icon != null ? replaceLegacyIcon(icon) : null;
+        if (replacement != null) {
+            icon = replacement;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return a hash of the stored fields of this action, stable across restarts as it only uses the hash codes of
+     * strings and numbers, which are specified by the JDK.
+     */
+    int contentHash() {
+        return Objects.hash(getClass().getName(), id, icon, text, cssClass, style, link, target, value);
+    }
+
+    /**
+     * @return the run this badge is attached to or null if it was not attached yet.
+     */
+    @CheckForNull
+    protected Run<?, ?> getRun() {
+        return run;
+    }
+
+    /**
+     * Notifies the {@link BadgeListener}s about a changed property, to be called by setters of subclasses.
+     */
+    protected void fireUpdated() {
+        if (run != null) {
+            BadgeListener.fireUpdated(run, this);
+        }
+    }
+
+    @Override
+    public void onAttached(Run<?, ?> r) {
+        this.run = r;
+    }
+
+    @Override
+    public void onLoad(Run<?, ?> r) {
+        this.run = r;
+    }
+
     @Override
     public String getIconFileName() {
         return null;
@@ -0,0 +1,146 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.action;
+
+import com.jenkinsci.plugins.badge.index.JobBadgeSeries;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Util;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * An SVG line chart of the values of a badge id by build, served by {@link JobBadgesAction#doChart}.
+ */
+final class BadgeChart {
+
+    static final int WIDTH = 600;
+
+    static final int HEIGHT = 200;
+
+    private static final int LEFT = 60;
+
+    private static final int RIGHT = 10;
+
+    private static final int TOP = 25;
+
+    private static final int BOTTOM = 25;
+
+    private BadgeChart() {}
+
+    /**
+     * Renders the values as a polyline, spaced evenly by build, scaled between the smallest and largest value.
+     * @param id the badge id, used as title.
+     * @param points the values.
+     * @return the SVG image.
+     */
+    @NonNull
+    static String render(@NonNull String id, @NonNull JobBadgeSeries.Points points) {
+        StringBuilder svg = new StringBuilder()
+                .append("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"")
+                .append(WIDTH)
+                .append("\" height=\"")
+                .append(HEIGHT)
+                .append("\" role=\"img\" aria-label=\"")
+                .append(Util.xmlEscape(id))
+                .append("\" font-family=\"Verdana,Geneva,DejaVu Sans,sans-serif\" font-size=\"11\">")
+                .append("<title>")
+                .append(Util.xmlEscape(id))
+                .append("</title>")
+                .append("<text x=\"")
+                .append(LEFT)
+                .append("\" y=\"15\" font-weight=\"bold\">")
+                .append(Util.xmlEscape(id))
+                .append("</text>")
+                .append("<rect x=\"")
+                .append(LEFT)
+                .append("\" y=\"")
+                .append(TOP)
+                .append("\" width=\"")
+                .append(WIDTH - LEFT - RIGHT)
+                .append("\" height=\"")
+                .append(HEIGHT - TOP - BOTTOM)
+                .append("\" fill=\"none\" stroke=\"#ccc\"/>");
+
+        int size = points.size();
+        if (size == 0) {
+            return svg.append("<text x=\"")
+                    .append(WIDTH / 2)
+                    .append("\" y=\"")
+                    .append(HEIGHT / 2)
+                    .append("\" text-anchor=\"middle\" fill=\"#999\">No values</text></svg>")
+                    .toString();
+        }
+
+        double[] values = points.values();
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (double value : values) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        double range = max > min ? max - min : 1;
+        double width = WIDTH - LEFT - RIGHT;
+        double height = HEIGHT - TOP - BOTTOM;
+
+        svg.append("<polyline fill=\"none\" stroke=\"#007ec6\" stroke-width=\"2\" points=\"");
+        for (int i = 0; i < size; i++) {
+            double x = LEFT + (size > 1 ? width * i / (size - 1) : width / 2);
+            double y = TOP + height - (max > min ? height * (values[i] - min) / range : height / 2);
+            if (i > 0) {
+                svg.append(' ');
+            }
+            svg.append(format(x, 1)).append(',').append(format(y, 1));
+        }
+        svg.append("\"/>");
+
+        int[] numbers = points.numbers();
+        label(svg, LEFT - 5, TOP + 4, "end", format(max, 2));
+        label(svg, LEFT - 5, HEIGHT - BOTTOM, "end", format(min, 2));
+        label(svg, LEFT, HEIGHT - 8, "start", "#" + numbers[0]);
+        label(svg, WIDTH - RIGHT, HEIGHT - 8, "end", "#" + numbers[size - 1]);
+        return svg.append("</svg>").toString();
+    }
+
+    private static void label(StringBuilder svg, int x, int y, String anchor, String text) {
+        svg.append("<text x=\"")
+                .append(x)
+                .append("\" y=\"")
+                .append(y)
+                .append("\" text-anchor=\"")
+                .append(anchor)
+                .append("\" fill=\"#555\">")
+                .append(text)
+                .append("</text>");
+    }
+
+    private static String format(double value, int scale) {
+        if (!Double.isFinite(value)) {
+            return String.valueOf(value);
+        }
+        return BigDecimal.valueOf(value)
+                .setScale(scale, RoundingMode.HALF_UP)
+                .stripTrailingZeros()
+                .toPlainString();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.action;
+
+import com.jenkinsci.plugins.badge.index.BadgeFootprint;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.model.ManagementLink;
+import hudson.security.Permission;
+import java.io.IOException;
+import jenkins.model.Jenkins;
+import net.sf.json.JSONNull;
+import net.sf.json.JSONObject;
+import org.kohsuke.stapler.HttpResponse;
+import org.kohsuke.stapler.HttpResponses;
+import org.kohsuke.stapler.StaplerResponse2;
+import org.kohsuke.stapler.interceptor.RequirePOST;
+
+/**
+ * The page <em>Badge Footprint</em> in <em>Manage Jenkins</em> showing the last {@link BadgeFootprint}, also
+ * available as <code>manage/badge-footprint/api/json</code>. Reports are computed in the background, the first one
+ * when it is requested and new ones on demand.
+ */
+@Extension
+public class BadgeFootprintLink extends ManagementLink {
+
+    /**
+     * @return the last report, scheduling the first one if there is none yet.
+     */
+    @CheckForNull
+    public BadgeFootprint getReport() {
+        BadgeFootprint report = BadgeFootprint.getLast();
+        if (report == null) {
+            BadgeFootprint.scheduleScan();
+        }
+        return report;
+    }
+
+    public boolean isScanning() {
+        return BadgeFootprint.isScanning();
+    }
+
+    public BadgeFootprintLink getApi() {
+        return this;
+    }
+
+    /**
+     * Returns the last report as JSON, or null as report while the first one is computed.
+     */
+    public void doJson(StaplerResponse2 rsp) throws IOException {
+        Jenkins.get().checkPermission(getRequiredPermission());
+        BadgeFootprint report = getReport();
+
+        JSONObject json = new JSONObject();
+        json.put("scanning", isScanning());
+        json.put("report", report != null ? report.toJSON() : JSONNull.getInstance());
+        rsp.setContentType("application/json;charset=UTF-8");
+        json.write(rsp.getWriter());
+    }
+
+    /**
+     * Computes a new report in the background.
+     */
+    @RequirePOST
+    public HttpResponse doScan() {
+        Jenkins.get().checkPermission(getRequiredPermission());
+        BadgeFootprint.scheduleScan();
+        return HttpResponses.redirectToDot();
+    }
+
+    @Override
+    public String getIconFileName() {
+        return "symbol-server-outline plugin-ionicons-api";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "Badge Footprint";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Storage used by badges and summaries per job and folder, and the builds using the most.";
+    }
+
+    @Override
+    public String getUrlName() {
+        return "badge-footprint";
+    }
+
+    @NonNull
+    @Override
+    public Permission getRequiredPermission() {
+        return Jenkins.ADMINISTER;
+    }
+
+    @NonNull
+    @Override
+    public Category getCategory() {
+        return Category.STATUS;
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.action;
+
+import com.jenkinsci.plugins.badge.index.BadgeRecord;
+import com.jenkinsci.plugins.badge.index.BuildRecord;
+import com.jenkinsci.plugins.badge.index.JobBadgeStats;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Util;
+import hudson.model.Job;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A shields-style SVG image of the badges of a build, served by {@link JobBadgesAction#doSvg}.
+ * Images are cached per job for the {@link BuildRecord} they were rendered from. Records are replaced in the index
+ * whenever the badges of a build change or the build completes, which invalidates the cached image.
+ */
+final class BadgeImage {
+
+    private static final int MAX_IMAGES_PER_JOB = 16;
+
+    /**
+     * Texts longer than this number of characters are cut and end with an ellipsis.
+     */
+    static final int MAX_TEXT_LENGTH = 64;
+
+    private static final Pattern TAGS = Pattern.compile("<[^>]*>");
+
+    private static final Pattern ENTITIES = Pattern.compile("&(?:#(\\d{1,7})|#[xX]([0-9a-fA-F]{1,6})|([a-zA-Z]+));");
+
+    private static final Map<Job<?, ?>, Map<String, BadgeImage>> CACHE = new WeakHashMap<>();
+
+    private final BuildRecord record;
+    private final String svg;
+    private final String etag;
+
+    private BadgeImage(@CheckForNull BuildRecord record, @NonNull String svg) {
+        this.record = record;
+        this.svg = svg;
+        this.etag =
+                "W/\"" + (record != null ? record.getNumber() : 0) + "-" + Integer.toHexString(svg.hashCode()) + "\"";
+    }
+
+    @NonNull
+    String getSvg() {
+        return svg;
+    }
+
+    @NonNull
+    String getETag() {
+        return etag;
+    }
+
+    /**
+     * @param job the job.
+     * @param record the record of the build to render or null if there is none.
+     * @param id the id of the badges to render or null for all badges.
+     * @param label the label to render left of the badges.
+     * @return the cached image of the record or a newly rendered one.
+     */
+    @NonNull
+    static BadgeImage get(
+            @NonNull Job<?, ?> job, @CheckForNull BuildRecord record, @CheckForNull String id, @NonNull String label) {
+        String key = id + "\n" + label;
+        synchronized (CACHE) {
+            BadgeImage image = CACHE.computeIfAbsent(job, k -> createCache()).get(key);
+            if (image != null && image.record == record) {
+                return image;
+            }
+        }
+
+        List<BadgeRecord> badges = record == null
+                ? List.of()
+                : record.getBadges().stream()
+                        .filter(badge -> badge.getKind() == BadgeRecord.Kind.BADGE)
+                        .filter(badge -> id == null || id.equals(badge.getId()))
+                        .toList();
+        BadgeImage image = new BadgeImage(record, render(label, badges));
+        synchronized (CACHE) {
+            CACHE.computeIfAbsent(job, k -> createCache()).put(key, image);
+        }
+        return image;
+    }
+
+    private static Map<String, BadgeImage> createCache() {
+        return new LinkedHashMap<>(MAX_IMAGES_PER_JOB, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, BadgeImage> eldest) {
+                return size() > MAX_IMAGES_PER_JOB;
+            }
+        };
+    }
+
+    /**
+     * Renders a label followed by one segment per badge, colored by the type of the badge.
+     * @param label the label.
+     * @param badges the badges.
+     * @return the SVG image.
+     */
+    @NonNull
+    static String render(@NonNull String label, @NonNull List<BadgeRecord> badges) {
+        StringBuilder rects = new StringBuilder();
+        StringBuilder texts = new StringBuilder();
+        String labelText = truncate(label);
+        StringBuilder title = new StringBuilder(labelText);
+
+        int x = segment(rects, texts, 0, labelText, "#555");
+        if (badges.isEmpty()) {
+            x = segment(rects, texts, x, "none", "#9f9f9f");
+            title.append(": none");
+        }
+        for (BadgeRecord badge : badges) {
+            String text = getText(badge);
+            x = segment(rects, texts, x, text, getColor(badge));
+            title.append(": ").append(text);
+        }
+
+        String escapedTitle = Util.xmlEscape(title.toString());
+        return "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"" + x + "\" height=\"20\" role=\"img\" aria-label=\""
+                + escapedTitle + "\">"
+                + "<title>" + escapedTitle + "</title>"
+                + "<linearGradient id=\"s\" x2=\"0\" y2=\"100%\">"
+                + "<stop offset=\"0\" stop-color=\"#bbb\" stop-opacity=\".1\"/><stop offset=\"1\" stop-opacity=\".1\"/>"
+                + "</linearGradient>"
+                + "<clipPath id=\"r\"><rect width=\"" + x + "\" height=\"20\" rx=\"3\" fill=\"#fff\"/></clipPath>"
+                + "<g clip-path=\"url(#r)\">" + rects + "<rect width=\"" + x + "\" height=\"20\" fill=\"url(#s)\"/></g>"
+                + "<g fill=\"#fff\" text-anchor=\"middle\" font-family=\"Verdana,Geneva,DejaVu Sans,sans-serif\""
+                + " font-size=\"11\">" + texts + "</g>"
+                + "</svg>";
+    }
+
+    private static int segment(StringBuilder rects, StringBuilder texts, int x, String text, String color) {
+        // approximation of the average character width of Verdana 11px, exact widths are not worth the cost
+        int width = text.length() * 7 + 10;
+        rects.append("<rect x=\"")
+                .append(x)
+                .append("\" width=\"")
+                .append(width)
+                .append("\" height=\"20\" fill=\"")
+                .append(color)
+                .append("\"/>");
+        texts.append("<text x=\"")
+                .append(x + width / 2)
+                .append("\" y=\"14\">")
+                .append(Util.xmlEscape(text))
+                .append("</text>");
+        return x + width;
+    }
+
+    private static String getText(BadgeRecord badge) {
+        // entities are decoded after the tags are stripped, the text is escaped again when rendered
+        String text = badge.getText() != null
+                ? decode(TAGS.matcher(badge.getText()).replaceAll("")).trim()
+                : "";
+        return truncate(text.isEmpty() ? badge.getId() : text);
+    }
+
+    /**
+     * @param text the text of a badge without tags.
+     * @return the text with numeric and common named character references replaced by their characters, unknown
+     *     references are kept as they are.
+     */
+    @NonNull
+    static String decode(@NonNull String text) {
+        if (text.indexOf('&') < 0) {
+            return text;
+        }
+        return ENTITIES.matcher(text).replaceAll(match -> {
+            String decoded;
+            if (match.group(1) != null || match.group(2) != null) {
+                int codePoint = match.group(1) != null
+                        ? Integer.parseInt(match.group(1))
+                        : Integer.parseInt(match.group(2), 16);
+                // characters that are not allowed in XML are kept as references
+                decoded = Character.isValidCodePoint(codePoint)
+                                && !Character.isISOControl(codePoint)
+                                && Character.getType(codePoint) != Character.SURROGATE
+                        ? Character.toString(codePoint)
+                        : match.group();
+            } else {
+                decoded = switch (match.group(3)) {
+                    case "amp" -> "&";
+                    case "lt" -> "<";
+                    case "gt" -> ">";
+                    case "quot" -> "\"";
+                    case "apos" -> "'";
+                    case "nbsp" -> "\u00a0";
+                    default -> match.group();
+                };
+            }
+            return Matcher.quoteReplacement(decoded);
+        });
+    }
+
+    /**
+     * @param text the text.
+     * @return the text, cut to {@value #MAX_TEXT_LENGTH} characters with an ellipsis if it is longer.
+     */
+    @NonNull
+    static String truncate(@NonNull String text) {
+        if (text.length() <= MAX_TEXT_LENGTH) {
+            return text;
+        }
+        int end = MAX_TEXT_LENGTH - 1;
+        if (Character.isHighSurrogate(text.charAt(end - 1))) {
+            end--;
+        }
+        return text.substring(0, end) + "\u2026";
+    }
+
+    private static String getColor(BadgeRecord badge) {
+        return switch (JobBadgeStats.Type.of(badge)) {
+            case INFO -> "#007ec6";
+            case WARNING -> "#dfb317";
+            case ERROR -> "#e05d44";
+            default -> "#4c1";
+        };
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.action;
+
+import com.jenkinsci.plugins.badge.index.BadgeMigration;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.model.ManagementLink;
+import hudson.security.Permission;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import jenkins.model.Jenkins;
+import org.kohsuke.stapler.HttpResponse;
+import org.kohsuke.stapler.HttpResponses;
+import org.kohsuke.stapler.QueryParameter;
+import org.kohsuke.stapler.StaplerResponse2;
+import org.kohsuke.stapler.interceptor.RequirePOST;
+
+/**
+ * The page <em>Badge Migration</em> in <em>Manage Jenkins</em> to start, pause and resume the
+ * {@link BadgeMigration} of existing builds and follow its progress, also available as
+ * <code>manage/badge-migration/api/json</code>.
+ */
+@Extension
+public class BadgeMigrationLink extends ManagementLink {
+
+    @NonNull
+    public BadgeMigration getMigration() {
+        return BadgeMigration.get();
+    }
+
+    public int getMaxWorkers() {
+        return BadgeMigration.MAX_WORKERS;
+    }
+
+    public BadgeMigrationLink getApi() {
+        return this;
+    }
+
+    /**
+     * Returns the state and progress of the migration as JSON.
+     */
+    public void doJson(StaplerResponse2 rsp) throws IOException {
+        Jenkins.get().checkPermission(getRequiredPermission());
+        rsp.setContentType("application/json;charset=UTF-8");
+        getMigration().toJSON().write(rsp.getWriter());
+    }
+
+    /**
+     * Starts a new migration of all jobs.
+     */
+    @RequirePOST
+    public HttpResponse doStart(@QueryParameter int workers, @QueryParameter int buildsPerSecond) {
+        Jenkins.get().checkPermission(getRequiredPermission());
+        if (workers < 1 || workers > BadgeMigration.MAX_WORKERS || buildsPerSecond < 0) {
+            return HttpResponses.error(
+                    HttpServletResponse.SC_BAD_REQUEST,
+                    "Workers must be between 1 and " + BadgeMigration.MAX_WORKERS
+                            + ", builds per second must not be negative");
+        }
+        getMigration().start(workers, buildsPerSecond);
+        return HttpResponses.redirectToDot();
+    }
+
+    @RequirePOST
+    public HttpResponse doPause() {
+        Jenkins.get().checkPermission(getRequiredPermission());
+        getMigration().pause();
+        return HttpResponses.redirectToDot();
+    }
+
+    @RequirePOST
+    public HttpResponse doResume() {
+        Jenkins.get().checkPermission(getRequiredPermission());
+        getMigration().resume();
+        return HttpResponses.redirectToDot();
+    }
+
+    @Override
+    public String getIconFileName() {
+        return "symbol-swap-horizontal-outline plugin-ionicons-api";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "Badge Migration";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Rewrite the badges and summaries of existing builds in the current format and backfill badge indexes.";
+    }
+
+    @Override
+    public String getUrlName() {
+        return "badge-migration";
+    }
+
+    @NonNull
+    @Override
+    public Permission getRequiredPermission() {
+        return Jenkins.ADMINISTER;
+    }
+
+    @NonNull
+    @Override
+    public Category getCategory() {
+        return Category.TROUBLESHOOTING;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.action;
+
+import com.jenkinsci.plugins.badge.index.BadgeExport;
+import com.jenkinsci.plugins.badge.index.BadgeRecord;
+import com.jenkinsci.plugins.badge.index.BadgeSearchIndex;
+import hudson.Extension;
+import hudson.model.Item;
+import hudson.model.ItemGroup;
+import hudson.model.RootAction;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Locale;
+import jenkins.model.Jenkins;
+import net.sf.json.JSONArray;
+import net.sf.json.JSONObject;
+import org.kohsuke.stapler.QueryParameter;
+import org.kohsuke.stapler.StaplerRequest2;
+import org.kohsuke.stapler.StaplerResponse2;
+
+/**
+ * An invisible root action providing queries over the badges of all jobs under <code>badges/api/json</code>,
+ * answered by the {@link BadgeSearchIndex}, and an export of all badges under <code>badges/export</code>.
+ */
+@Extension
+public class BadgeSearchAction implements RootAction {
+
+    static final int DEFAULT_LIMIT = 100;
+
+    static final int MAX_LIMIT = 1000;
+
+    public BadgeSearchAction getApi() {
+        return this;
+    }
+
+    /**
+     * Finds builds with badges matching all given parameters, newest first.
+     * <code>id</code> and <code>icon</code> must match exactly, every term of <code>text</code> must be contained in
+     * the text of the badge and <code>kind</code> is either <code>badge</code> or <code>summary</code>.
+     */
+    public void doJson(
+            StaplerRequest2 req,
+            StaplerResponse2 rsp,
+            @QueryParameter String id,
+            @QueryParameter String text,
+            @QueryParameter String kind,
+            @QueryParameter String icon,
+            @QueryParameter String limit)
+            throws IOException {
+        BadgeRecord.Kind badgeKind;
+        int size;
+        try {
+            badgeKind = kind == null || kind.isBlank() ? null : BadgeRecord.Kind.valueOf(kind.toUpperCase(Locale.ROOT));
+            size = limit == null || limit.isBlank() ? DEFAULT_LIMIT : Integer.parseInt(limit);
+        } catch (IllegalArgumentException ex) {
+            rsp.sendError(HttpServletResponse.SC_BAD_REQUEST, "Invalid kind or limit");
+            return;
+        }
+        size = Math.max(1, Math.min(size, MAX_LIMIT));
+
+        BadgeSearchIndex index = BadgeSearchIndex.get();
+        JSONArray results = new JSONArray();
+        for (BadgeSearchIndex.Hit hit : index.search(blankToNull(id), text, badgeKind, blankToNull(icon), size)) {
+            JSONArray badges = new JSONArray();
+            hit.getBadges().forEach(badge -> badges.add(badge.toJSON(null)));
+
+            JSONObject result = hit.getBuild().toJSON(null);
+            result.put("job", hit.getJob().getFullName());
+            result.put("url", hit.getJob().getUrl() + hit.getBuild().getNumber() + "/");
+            result.put("badges", badges);
+            results.add(result);
+        }
+
+        JSONObject json = new JSONObject();
+        json.put("results", results);
+        json.put("complete", !index.isLoading());
+
+        rsp.setContentType("application/json;charset=UTF-8");
+        json.write(rsp.getWriter());
+    }
+
+    /**
+     * Streams the badges of all builds of the jobs in <code>folder</code>, or of all jobs, as newline-delimited JSON.
+     * An interrupted export is continued by passing the <code>resume</code> token of the last received line.
+     * @see BadgeExport
+     */
+    public void doExport(StaplerResponse2 rsp, @QueryParameter String folder, @QueryParameter String resume)
+            throws IOException {
+        ItemGroup<?> group = Jenkins.get();
+        if (folder != null && !folder.isBlank()) {
+            Item item = Jenkins.get().getItemByFullName(folder);
+            if (!(item instanceof ItemGroup<?> itemGroup)) {
+                rsp.sendError(HttpServletResponse.SC_NOT_FOUND, "No such folder");
+                return;
+            }
+            group = itemGroup;
+        }
+
+        BadgeExport export;
+        try {
+            export = new BadgeExport(group, blankToNull(resume));
+        } catch (IllegalArgumentException ex) {
+            rsp.sendError(HttpServletResponse.SC_BAD_REQUEST, "Invalid resume token");
+            return;
+        }
+
+        rsp.setContentType("application/x-ndjson;charset=UTF-8");
+        export.write(rsp.getWriter());
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    @Override
+    public String getIconFileName() {
+        return null;
+    }
+
+    @Override
+    public String getDisplayName() {
+        return null;
+    }
+
+    @Override
+    public String getUrlName() {
+        return "badges";
+    }
+}
@@ -23,7 +23,26 @@
  */
 package com.jenkinsci.plugins.badge.action;
 
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Functions;
+import hudson.Util;
+import hudson.markup.MarkupFormatter;
+import hudson.model.Run;
+import java.io.IOException;
+import java.io.Reader;
 import java.io.Serial;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jenkins.model.Jenkins;
+import jenkins.util.SystemProperties;
+import org.jenkinsci.plugins.scriptsecurity.sandbox.whitelists.Whitelisted;
+import org.kohsuke.stapler.export.Exported;
 
 /**
  * Common action for build summaries.
@@ -33,17 +52,428 @@ public class BadgeSummaryAction extends AbstractBadgeAction {
     @Serial
     private static final long serialVersionUID = 1L;
 
+    private static final Logger LOGGER = Logger.getLogger(BadgeSummaryAction.class.getName());
+
+    /**
+     * Summaries with a text longer than this number of characters are rendered as a preview on the run page,
+     * the full text is streamed on demand by {@link RunBadgesAction#doSummary}.
+     */
+    private static final int LARGE_TEXT_THRESHOLD =
+            SystemProperties.getInteger(BadgeSummaryAction.class.getName() + ".largeTextThreshold", 256 * 1024);
+
+    /**
+     * The number of characters of a large summary text shown as preview.
+     */
+    private static final int PREVIEW_LENGTH =
+            SystemProperties.getInteger(BadgeSummaryAction.class.getName() + ".previewLength", 4096);
+
+    /**
+     * Summaries with a text longer than this number of characters store it compressed, see {@link CompressedText}.
+     */
+    private static final int COMPRESSION_THRESHOLD =
+            SystemProperties.getInteger(BadgeSummaryAction.class.getName() + ".compressionThreshold", 16 * 1024);
+
+    private static final int WRITE_BUFFER_SIZE = 8192;
+
+    private String title;
+
+    /**
+     * The compressed text of a large summary, in which case the text of the super class is null.
+     */
+    private String compressedText;
+
+    /**
+     * The number of characters, the size encoded as UTF-8 and the digest of a compressed text, so it is not
+     * decompressed to be measured or compared.
+     */
+    private int textLength;
+
+    private long textBytes;
+
+    private String textDigest;
+
+    private String removedTextDigest;
+
+    private long removedTextSize;
+
     /**
      * @deprecated Use {@link BadgeSummaryAction#BadgeSummaryAction(String, String, String, String, String, String, String)} instead.
      */
     @Deprecated(since = "2.8", forRemoval = true)
     public BadgeSummaryAction(String id, String icon, String text, String cssClass, String style, String link) {
         super(id, icon, text, cssClass, style, link);
+        setRawText(text);
     }
 
     public BadgeSummaryAction(
             String id, String icon, String text, String cssClass, String style, String link, String target) {
         super(id, icon, text, cssClass, style, link, target);
+        setRawText(text);
+    }
+
+    /**
+     * @return the title of a collapsible summary, whose text is only loaded when expanded, or null.
+     */
+    @Exported
+    @Whitelisted
+    public String getTitle() {
+        return title;
+    }
+
+    @Whitelisted
+    public void setTitle(String title) {
+        this.title = title;
+        fireUpdated();
+    }
+
+    /**
+     * @return the text as stored, decompressed if it was stored compressed.
+     */
+    @Override
+    public String getRawText() {
+        String data = compressedText;
+        if (data == null) {
+            return super.getRawText();
+        }
+        try {
+            return CompressedText.get().getText(data);
+        } catch (IllegalArgumentException ex) {
+            LOGGER.log(Level.WARNING, ex, () -> "Unable to decompress the text of summary " + getId());
+            return null;
+        }
+    }
+
+    /**
+     * Stores texts longer than the compression threshold compressed, unless they do not compress.
+     */
+    @Override
+    protected void setRawText(String text) {
+        byte[] bytes =
+                text != null && text.length() > COMPRESSION_THRESHOLD ? text.getBytes(StandardCharsets.UTF_8) : null;
+        String data = bytes != null ? CompressedText.compress(bytes) : null;
+        if (data != null && data.length() < text.length()) {
+            compressedText = data;
+            textLength = text.length();
+            textBytes = bytes.length;
+            textDigest = Util.getDigestOf(text);
+            super.setRawText(null);
+        } else {
+            compressedText = null;
+            textLength = 0;
+            textBytes = 0;
+            textDigest = null;
+            super.setRawText(text);
+        }
+    }
+
+    /**
+     * @return the number of characters of the text, without decompressing it.
+     */
+    public int getTextLength() {
+        if (compressedText == null) {
+            String text = super.getRawText();
+            return text != null ? text.length() : 0;
+        }
+        return textLength;
+    }
+
+    /**
+     * @return the size of the text encoded as UTF-8, without decompressing it.
+     */
+    public long getTextBytes() {
+        if (compressedText == null) {
+            String text = super.getRawText();
+            return text != null ? text.getBytes(StandardCharsets.UTF_8).length : 0;
+        }
+        return textBytes;
+    }
+
+    /**
+     * @return the digest of the text as computed by {@link Util#getDigestOf(String)}, without decompressing it, or
+     *     null if there is no text.
+     */
+    @CheckForNull
+    public String getTextDigest() {
+        if (compressedText == null) {
+            String text = super.getRawText();
+            return text != null ? Util.getDigestOf(text) : null;
+        }
+        return textDigest;
+    }
+
+    /**
+     * @param length the maximum number of characters.
+     * @return the beginning of the text, decompressing no more of it than needed, or null if there is no text.
+     */
+    @CheckForNull
+    public String getTextPrefix(int length) {
+        String data = compressedText;
+        if (data == null) {
+            String text = super.getRawText();
+            return text != null && text.length() > length ? text.substring(0, length) : text;
+        }
+        try {
+            return CompressedText.get().getPrefix(data, length);
+        } catch (IllegalArgumentException ex) {
+            LOGGER.log(Level.WARNING, ex, () -> "Unable to decompress the text of summary " + getId());
+            return null;
+        }
+    }
+
+    /**
+     * @return whether the text is stored compressed.
+     */
+    public boolean isCompressed() {
+        return compressedText != null;
+    }
+
+    @Override
+    int contentHash() {
+        return 31 * super.contentHash() + Objects.hash(title, compressedText, removedTextDigest);
+    }
+
+    /**
+     * Compresses a large text stored by an older version in addition to the migration of the super class.
+     */
+    @Override
+    public boolean migrate() {
+        boolean migrated = super.migrate();
+        if (compressedText == null) {
+            setRawText(super.getRawText());
+            migrated |= compressedText != null;
+        }
+        return migrated;
+    }
+
+    /**
+     * @return whether the text of this summary is too large to be rendered with the run page.
+     */
+    public boolean isLarge() {
+        return getTextLength() > LARGE_TEXT_THRESHOLD;
+    }
+
+    /**
+     * @return the translated beginning of the text of a large summary, the translated text otherwise.
+     */
+    public String getPreview() {
+        if (getTextLength() <= PREVIEW_LENGTH) {
+            return getText();
+        }
+        String text = getTextPrefix(PREVIEW_LENGTH);
+        return text != null ? translate(text.substring(0, previewEnd(text, PREVIEW_LENGTH))) : null;
+    }
+
+    /**
+     * The end of the preview of the given text, at most the given length but never within a tag, an entity or a
+     * surrogate pair. Tags left open by the preview are closed by the markup formatter.
+     */
+    static int previewEnd(@NonNull String text, int length) {
+        int end = Character.isHighSurrogate(text.charAt(length - 1)) ? length - 1 : length;
+        int tag = text.lastIndexOf('<', end - 1);
+        if (tag >= 0 && text.lastIndexOf('>', end - 1) < tag) {
+            end = tag;
+        }
+        int entity = text.lastIndexOf('&', end - 1);
+        if (entity >= 0 && text.lastIndexOf(';', end - 1) < entity && isEntityPrefix(text, entity + 1, end)) {
+            end = entity;
+        }
+        return end;
+    }
+
+    private static boolean isEntityPrefix(String text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (!Character.isLetterOrDigit(c) && c != '#') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes the translated text to the given writer without building the translated text in memory. A compressed
+     * text is decompressed while it is written and translated in fragments ending at a line break or tag outside of
+     * any element, so it is only held in memory as a whole if it consists of a single element.
+     * @param writer the writer to write to.
+     * @throws IOException if the text cannot be decompressed, translated or written.
+     */
+    public void writeText(@NonNull Writer writer) throws IOException {
+        MarkupFormatter formatter = Jenkins.get().getMarkupFormatter();
+        String data = compressedText;
+        if (data == null) {
+            String text = super.getRawText();
+            if (text != null) {
+                formatter.translate(text, writer);
+            }
+            return;
+        }
+
+        Reader reader;
+        try {
+            reader = CompressedText.get().openText(data);
+        } catch (IllegalArgumentException ex) {
+            throw new IOException("Unable to decompress the text of summary " + getId(), ex);
+        }
+        try (reader) {
+            StringBuilder pending = new StringBuilder();
+            FragmentScanner scanner = new FragmentScanner();
+            char[] buffer = new char[WRITE_BUFFER_SIZE];
+            for (int read = reader.read(buffer); read != -1; read = reader.read(buffer)) {
+                pending.append(buffer, 0, read);
+                int end = scanner.scan(pending);
+                if (end > 0) {
+                    formatter.translate(pending.substring(0, end), writer);
+                    pending.delete(0, end);
+                    scanner.shift(end);
+                }
+            }
+            if (!pending.isEmpty()) {
+                formatter.translate(pending.toString(), writer);
+            }
+        }
+    }
+
+    /**
+     * Finds the ends of fragments of a text read in parts, after a line break or a tag outside of any element, where
+     * the text can be translated piece by piece. Tags are only told apart by their name, so unbalanced markup
+     * results in fewer fragments.
+     */
+    static final class FragmentScanner {
+
+        private static final Set<String> VOID_ELEMENTS = Set.of(
+                "area", "base", "br", "col", "embed", "hr", "img", "input", "link", "meta", "param", "source", "track",
+                "wbr");
+
+        private int position;
+        private int tagStart = -1;
+        private int depth;
+
+        /**
+         * Scans the characters appended to the text since the last call.
+         * @param text the text read so far, without the fragments already removed.
+         * @return the end of the last complete fragment or 0 if there is none.
+         */
+        int scan(@NonNull CharSequence text) {
+            int end = 0;
+            for (; position < text.length(); position++) {
+                char c = text.charAt(position);
+                if (tagStart >= 0) {
+                    if (c == '>' && !isOpenComment(text, tagStart, position)) {
+                        depth = Math.max(0, depth + nesting(text, tagStart, position));
+                        tagStart = -1;
+                        if (depth == 0) {
+                            end = position + 1;
+                        }
+                    }
+                } else if (c == '<') {
+                    if (position + 1 == text.length()) {
+                        // whether it starts a tag is decided once the next character was read
+                        break;
+                    }
+                    char next = text.charAt(position + 1);
+                    if (Character.isLetter(next) || next == '/' || next == '!' || next == '?') {
+                        tagStart = position;
+                    }
+                } else if (c == '\n' && depth == 0) {
+                    end = position + 1;
+                }
+            }
+            return end;
+        }
+
+        /**
+         * Continues after the given number of characters were removed from the beginning of the text.
+         */
+        void shift(int count) {
+            position -= count;
+            if (tagStart >= 0) {
+                tagStart -= count;
+            }
+        }
+
+        private static boolean isOpenComment(CharSequence text, int start, int end) {
+            return startsWith(text, start, "<!--")
+                    && (end - start < 6 || text.charAt(end - 1) != '-' || text.charAt(end - 2) != '-');
+        }
+
+        private static int nesting(CharSequence text, int start, int end) {
+            char first = text.charAt(start + 1);
+            if (first == '/') {
+                return -1;
+            }
+            if (first == '!' || first == '?' || text.charAt(end - 1) == '/') {
+                return 0;
+            }
+            int nameEnd = start + 1;
+            while (nameEnd < end && Character.isLetterOrDigit(text.charAt(nameEnd))) {
+                nameEnd++;
+            }
+            String name = text.subSequence(start + 1, nameEnd).toString().toLowerCase(Locale.ROOT);
+            return VOID_ELEMENTS.contains(name) ? 0 : 1;
+        }
+
+        private static boolean startsWith(CharSequence text, int start, String prefix) {
+            if (start + prefix.length() > text.length()) {
+                return false;
+            }
+            for (int i = 0; i < prefix.length(); i++) {
+                if (text.charAt(start + i) != prefix.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * @return the URL of the full text of this summary relative to the root URL or null if it is not attached.
+     */
+    @CheckForNull
+    public String getTextUrl() {
+        Run<?, ?> run = getRun();
+        return run != null ? run.getUrl() + "badges/summary?id=" + Util.rawEncode(getId()) : null;
+    }
+
+    /**
+     * Replaces the text with a short note keeping the size and the digest of the removed text, used by the
+     * badge retention policy on old builds. Listeners are not notified, the caller increments the
+     * {@link BadgeVersionAction} and saves the run.
+     * @return whether the text was replaced, false if there is no text or it is shorter than the note.
+     */
+    public boolean compact() {
+        String text = getRawText();
+        if (text == null || removedTextDigest != null) {
+            return false;
+        }
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        // the same digest as the one of the text, so the removed text can be matched with exported texts
+        String digest = Util.getDigestOf(text);
+        String note = "Removed by the badge retention policy, the summary had "
+                + Functions.humanReadableByteSize(bytes.length) + " with MD5 " + digest + ".";
+        if (note.length() >= text.length()) {
+            return false;
+        }
+        setRawText(note);
+        removedTextDigest = digest;
+        removedTextSize = bytes.length;
+        return true;
+    }
+
+    /**
+     * @return the digest of the text removed by the badge retention policy as computed by
+     *     {@link Util#getDigestOf(String)}, or null if the text was kept.
+     */
+    @Exported
+    public String getRemovedTextDigest() {
+        return removedTextDigest;
+    }
+
+    /**
+     * @return the size in bytes of the text removed by the badge retention policy, 0 if the text was kept.
+     */
+    @Exported
+    public long getRemovedTextSize() {
+        return removedTextSize;
     }
 
     @Override
@@ -0,0 +1,142 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.action;
+
+import com.jenkinsci.plugins.badge.event.BadgeListener;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.model.InvisibleAction;
+import hudson.model.Run;
+import java.io.IOException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An invisible action persisting the version of the badges and summaries of a run.
+ * The version is incremented whenever a badge or summary is added, updated or removed and is used to answer
+ * conditional requests for badge content, see {@link RunBadgesAction}.
+ */
+public class BadgeVersionAction extends InvisibleAction {
+
+    private static final Logger LOGGER = Logger.getLogger(BadgeVersionAction.class.getName());
+
+    private static final Object LOCK = new Object();
+
+    private long version;
+    private long lastModified;
+    private boolean modifiedAfterCompletion;
+
+    /**
+     * @return the number of badge changes on the run.
+     */
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return the time of the latest badge change on the run.
+     */
+    public synchronized long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * @return whether badges were changed after the run had completed.
+     */
+    public synchronized boolean isModifiedAfterCompletion() {
+        return modifiedAfterCompletion;
+    }
+
+    private synchronized void increment(boolean completed) {
+        version++;
+        lastModified = System.currentTimeMillis();
+        modifiedAfterCompletion |= completed;
+    }
+
+    /**
+     * @param run the run.
+     * @return the version action of the run or null if its badges were never changed.
+     */
+    @CheckForNull
+    public static BadgeVersionAction of(@NonNull Run<?, ?> run) {
+        return run.getAction(BadgeVersionAction.class);
+    }
+
+    /**
+     * Increments the version of a run whose badges were changed in place without notifying the
+     * {@link BadgeListener}s, e.g. by {@link AbstractBadgeAction#migrate()}, so cached badge content is not served
+     * anymore. The caller saves the run.
+     * @param run the run.
+     */
+    public static void changedInPlace(@NonNull Run<?, ?> run) {
+        getOrCreate(run).increment(!run.isLogUpdated());
+    }
+
+    private static BadgeVersionAction getOrCreate(Run<?, ?> run) {
+        synchronized (LOCK) {
+            BadgeVersionAction action = of(run);
+            if (action == null) {
+                action = new BadgeVersionAction();
+                run.addAction(action);
+            }
+            return action;
+        }
+    }
+
+    private static void changed(Run<?, ?> run) {
+        BadgeVersionAction action = getOrCreate(run);
+
+        // running builds are saved on completion, completed ones have to be saved right away
+        boolean completed = !run.isLogUpdated();
+        action.increment(completed);
+        if (completed) {
+            try {
+                run.save();
+            } catch (IOException ex) {
+                LOGGER.log(Level.WARNING, ex, () -> "Unable to save badge changes of " + run);
+            }
+        }
+    }
+
+    @Extension
+    @SuppressWarnings("unused")
+    public static class ListenerImpl extends BadgeListener {
+
+        @Override
+        public void onAdded(@NonNull Run<?, ?> run, @NonNull AbstractBadgeAction action) {
+            changed(run);
+        }
+
+        @Override
+        public void onUpdated(@NonNull Run<?, ?> run, @NonNull AbstractBadgeAction action) {
+            changed(run);
+        }
+
+        @Override
+        public void onRemoved(@NonNull Run<?, ?> run, @NonNull AbstractBadgeAction action) {
+            changed(run);
+        }
+    }
+}
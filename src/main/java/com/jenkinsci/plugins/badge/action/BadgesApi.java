@@ -0,0 +1,110 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.action;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.model.Api;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.util.List;
+import org.kohsuke.stapler.QueryParameter;
+import org.kohsuke.stapler.StaplerRequest2;
+import org.kohsuke.stapler.StaplerResponse2;
+import org.kohsuke.stapler.export.Exported;
+import org.kohsuke.stapler.export.ExportedBean;
+
+/**
+ * The remote API of the badges and summaries of a run, available under <code>badges/api/</code>.
+ * Conditional requests are answered with <code>304 Not Modified</code> as long as the badges did not change.
+ */
+public class BadgesApi extends Api {
+
+    private final RunBadgesAction action;
+
+    public BadgesApi(@NonNull RunBadgesAction action) {
+        super(new Badges(action));
+        this.action = action;
+    }
+
+    @Override
+    public void doXml(
+            StaplerRequest2 req,
+            StaplerResponse2 rsp,
+            @QueryParameter String xpath,
+            @QueryParameter String wrapper,
+            @QueryParameter String tree,
+            @QueryParameter int depth)
+            throws IOException, ServletException {
+        if (!action.checkNotModified(req, rsp)) {
+            super.doXml(req, rsp, xpath, wrapper, tree, depth);
+        }
+    }
+
+    @Override
+    public void doJson(StaplerRequest2 req, StaplerResponse2 rsp) throws IOException, ServletException {
+        if (!action.checkNotModified(req, rsp)) {
+            super.doJson(req, rsp);
+        }
+    }
+
+    @Override
+    public void doPython(StaplerRequest2 req, StaplerResponse2 rsp) throws IOException, ServletException {
+        if (!action.checkNotModified(req, rsp)) {
+            super.doPython(req, rsp);
+        }
+    }
+
+    /**
+     * The exported badges and summaries of a run.
+     */
+    @ExportedBean
+    public static class Badges {
+
+        private final RunBadgesAction action;
+
+        Badges(RunBadgesAction action) {
+            this.action = action;
+        }
+
+        @Exported
+        public long getVersion() {
+            return action.getVersion();
+        }
+
+        @Exported
+        public boolean isBuilding() {
+            return action.getRun().isBuilding();
+        }
+
+        @Exported(inline = true)
+        public List<BadgeAction> getBadges() {
+            return action.getBadgeActions();
+        }
+
+        @Exported(inline = true)
+        public List<BadgeSummaryAction> getSummaries() {
+            return action.getSummaryActions();
+        }
+    }
+}
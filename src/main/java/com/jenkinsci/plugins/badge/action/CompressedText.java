@@ -0,0 +1,231 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.action;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import jenkins.util.SystemProperties;
+
+/**
+ * Compresses texts with a {@link Deflater} at its fastest level, encoded as Base64 to be stored in the XML of a build,
+ * and keeps the most recently used decompressed texts in a cache bounded by the total number of characters of the
+ * texts and their compressed forms.
+ * Texts are cached by their compressed form, so a changed text never hits a stale entry.
+ */
+final class CompressedText {
+
+    private static final long CACHE_SIZE =
+            SystemProperties.getLong(CompressedText.class.getName() + ".cacheSize", 16L * 1024 * 1024);
+
+    private static final CompressedText INSTANCE = new CompressedText(CACHE_SIZE);
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final long maxChars;
+    private final Map<String, String> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private long chars;
+
+    CompressedText(long maxChars) {
+        this.maxChars = maxChars;
+    }
+
+    @NonNull
+    static CompressedText get() {
+        return INSTANCE;
+    }
+
+    /**
+     * @param text the text.
+     * @return the compressed text encoded as Base64.
+     */
+    @NonNull
+    static String compress(@NonNull String text) {
+        return compress(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param input the text encoded as UTF-8.
+     * @return the compressed text encoded as Base64.
+     */
+    @NonNull
+    static String compress(@NonNull byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream output = new ByteArrayOutputStream(input.length / 4 + 64);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                output.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return Base64.getEncoder().encodeToString(output.toByteArray());
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * @param data a text compressed by {@link #compress(String)}.
+     * @return the text.
+     * @throws IllegalArgumentException if the data is no compressed text.
+     */
+    @NonNull
+    static String decompress(@NonNull String data) {
+        return inflate(data, Long.MAX_VALUE).toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param data a text compressed by {@link #compress(String)}.
+     * @param limit the number of bytes after which to stop inflating.
+     * @return at least the given number of bytes of the text, or all of them.
+     */
+    private static ByteArrayOutputStream inflate(String data, long limit) {
+        byte[] input = Base64.getDecoder().decode(data);
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            ByteArrayOutputStream output =
+                    new ByteArrayOutputStream((int) Math.min(limit, Math.min(input.length * 4L, Integer.MAX_VALUE)));
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished() && output.size() < limit) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("Truncated compressed text");
+                }
+                output.write(buffer, 0, length);
+            }
+            return output;
+        } catch (DataFormatException ex) {
+            throw new IllegalArgumentException("Invalid compressed text", ex);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * @param data a text compressed by {@link #compress(String)}.
+     * @return the text, decompressed on the first access.
+     * @throws IllegalArgumentException if the data is no compressed text.
+     */
+    @NonNull
+    String getText(@NonNull String data) {
+        synchronized (this) {
+            String text = cache.get(data);
+            if (text != null) {
+                return text;
+            }
+        }
+
+        // decompressed without holding the lock, concurrent misses of the same text decompress it twice
+        String text = decompress(data);
+        // the compressed text is kept as key, so it counts towards the size of the cache
+        long size = (long) text.length() + data.length();
+        if (size <= maxChars) {
+            synchronized (this) {
+                if (cache.putIfAbsent(data, text) == null) {
+                    chars += size;
+                    evict();
+                }
+            }
+        }
+        return text;
+    }
+
+    /**
+     * Reads a text while it is decompressed, without caching it, or from the cache if it is cached already.
+     * @param data a text compressed by {@link #compress(String)}.
+     * @return a reader of the text, failing with an {@link java.io.IOException} if the data is no compressed text.
+     * @throws IllegalArgumentException if the data is not encoded as Base64.
+     */
+    @NonNull
+    Reader openText(@NonNull String data) {
+        String text;
+        synchronized (this) {
+            text = cache.get(data);
+        }
+        if (text != null) {
+            return new StringReader(text);
+        }
+        return new InputStreamReader(
+                new InflaterInputStream(
+                        new ByteArrayInputStream(Base64.getDecoder().decode(data))),
+                StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the beginning of a text without decompressing all of it, unless it is cached. The prefix is not cached.
+     * @param data a text compressed by {@link #compress(String)}.
+     * @param length the maximum number of characters.
+     * @return the first characters of the text, the whole text if it is not longer.
+     * @throws IllegalArgumentException if the data is no compressed text.
+     */
+    @NonNull
+    String getPrefix(@NonNull String data, int length) {
+        String text;
+        synchronized (this) {
+            text = cache.get(data);
+        }
+        if (text == null) {
+            // a character takes at most three bytes, a surrogate pair four bytes for two characters
+            text = inflate(data, 3L * length + 3).toString(StandardCharsets.UTF_8);
+        }
+        return text.length() > length ? text.substring(0, length) : text;
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<String, String>> entries = cache.entrySet().iterator();
+        while (chars > maxChars && entries.hasNext()) {
+            Map.Entry<String, String> entry = entries.next();
+            chars -= (long) entry.getKey().length() + entry.getValue().length();
+            entries.remove();
+        }
+    }
+
+    /**
+     * @return the number of cached texts.
+     */
+    synchronized int size() {
+        return cache.size();
+    }
+
+    /**
+     * @return the number of characters of all cached texts and their compressed forms.
+     */
+    synchronized long getChars() {
+        return chars;
+    }
+}
@@ -0,0 +1,309 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.action;
+
+import com.jenkinsci.plugins.badge.index.BadgeRecord;
+import com.jenkinsci.plugins.badge.index.BadgeSearchIndex;
+import com.jenkinsci.plugins.badge.index.BuildRecord;
+import com.jenkinsci.plugins.badge.index.JobBadgeIndex;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.model.AbstractItem;
+import hudson.model.Action;
+import hudson.model.ItemGroup;
+import hudson.model.Items;
+import hudson.model.Job;
+import io.jenkins.plugins.ionicons.Ionicons;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.PriorityQueue;
+import jenkins.model.Jenkins;
+import jenkins.model.TransientActionFactory;
+import net.sf.json.JSONArray;
+import net.sf.json.JSONNull;
+import net.sf.json.JSONObject;
+import org.kohsuke.stapler.QueryParameter;
+import org.kohsuke.stapler.StaplerResponse2;
+
+/**
+ * A page of a folder, e.g. a multibranch project, showing the badges of the latest build with badges of every job
+ * in it under <code>badges/</code>, also available as <code>badges/api/json</code>.
+ * Badges are read from the latest builds kept by the {@link BadgeSearchIndex}, which is kept current on every change
+ * of a badge, so no build is loaded and no {@link JobBadgeIndex} is read or built.
+ */
+public class FolderBadgesAction implements Action {
+
+    static final int PAGE_SIZE = 50;
+
+    private static final Comparator<Entry> NEWEST =
+            Comparator.comparingLong(Entry::getTimestamp).reversed().thenComparingInt(Entry::getPosition);
+
+    private final AbstractItem folder;
+
+    public FolderBadgesAction(@NonNull AbstractItem folder) {
+        this.folder = folder;
+    }
+
+    @NonNull
+    public AbstractItem getFolder() {
+        return folder;
+    }
+
+    /**
+     * @param page the page, starting with 0.
+     * @param sort <code>name</code> to sort by job name, otherwise jobs with the newest badges come first.
+     * @return a page of the jobs in the folder.
+     */
+    @NonNull
+    public Page getPage(int page, @CheckForNull String sort) {
+        List<Job<?, ?>> jobs = new ArrayList<>();
+        for (Job<?, ?> job : Items.allItems2(Jenkins.getAuthentication2(), (ItemGroup<?>) folder, Job.class)) {
+            jobs.add(job);
+        }
+
+        int pages = Math.max(1, (jobs.size() + PAGE_SIZE - 1) / PAGE_SIZE);
+        int current = Math.max(0, Math.min(page, pages - 1));
+        int from = current * PAGE_SIZE;
+        int to = Math.min(from + PAGE_SIZE, jobs.size());
+        List<Entry> entries;
+        if ("name".equals(sort)) {
+            entries = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                entries.add(Entry.of(jobs.get(i), i));
+            }
+        } else {
+            // only the newest jobs up to the requested page are kept and sorted, the others are never shown
+            PriorityQueue<Entry> newest = new PriorityQueue<>(to + 1, NEWEST.reversed());
+            for (int i = 0; i < jobs.size(); i++) {
+                newest.add(Entry.of(jobs.get(i), i));
+                if (newest.size() > to) {
+                    newest.poll();
+                }
+            }
+            List<Entry> sorted = new ArrayList<>(newest);
+            sorted.sort(NEWEST);
+            entries = sorted.subList(from, sorted.size());
+        }
+        return new Page(entries, current, pages, !BadgeSearchIndex.get().isLoading());
+    }
+
+    /**
+     * @param page the requested page, starting with 0, invalid values are ignored.
+     * @param sort the requested sort order.
+     * @return a page of the jobs in the folder.
+     * @see #getPage(int, String)
+     */
+    @NonNull
+    public Page getRequestedPage(@CheckForNull String page, @CheckForNull String sort) {
+        int number = 0;
+        try {
+            number = page == null ? 0 : Integer.parseInt(page);
+        } catch (NumberFormatException ex) {
+            // show the first page
+        }
+        return getPage(number, sort);
+    }
+
+    public FolderBadgesAction getApi() {
+        return this;
+    }
+
+    public void doJson(StaplerResponse2 rsp, @QueryParameter String page, @QueryParameter String sort)
+            throws IOException {
+        int number;
+        try {
+            number = page == null || page.isBlank() ? 0 : Integer.parseInt(page);
+        } catch (NumberFormatException ex) {
+            rsp.sendError(HttpServletResponse.SC_BAD_REQUEST, "Invalid page");
+            return;
+        }
+        Page result = getPage(number, sort);
+
+        JSONArray jobs = new JSONArray();
+        for (Entry entry : result.getEntries()) {
+            JSONObject json = new JSONObject();
+            json.put("job", entry.getJob().getFullName());
+            json.put("url", entry.getJob().getUrl());
+            json.put("build", entry.getBuild() != null ? entry.getBuild().toJSON(null) : JSONNull.getInstance());
+            jobs.add(json);
+        }
+
+        JSONObject json = new JSONObject();
+        json.put("jobs", jobs);
+        json.put("page", result.getPage());
+        json.put("pages", result.getPages());
+        json.put("complete", result.isComplete());
+
+        rsp.setContentType("application/json;charset=UTF-8");
+        json.write(rsp.getWriter());
+    }
+
+    @Override
+    public String getIconFileName() {
+        // not checking the jobs for badges, which would be done on every render of the folder
+        return Ionicons.getIconClassName("pricetags-outline");
+    }
+
+    @Override
+    public String getDisplayName() {
+        return Messages.FolderBadgesAction_DisplayName();
+    }
+
+    @Override
+    public String getUrlName() {
+        return "badges";
+    }
+
+    /**
+     * A page of jobs.
+     */
+    public static final class Page {
+
+        private final List<Entry> entries;
+        private final int page;
+        private final int pages;
+        private final boolean complete;
+
+        Page(List<Entry> entries, int page, int pages, boolean complete) {
+            this.entries = entries;
+            this.page = page;
+            this.pages = pages;
+            this.complete = complete;
+        }
+
+        @NonNull
+        public List<Entry> getEntries() {
+            return entries;
+        }
+
+        public int getPage() {
+            return page;
+        }
+
+        public int getPages() {
+            return pages;
+        }
+
+        /**
+         * @return whether the latest builds of all jobs were loaded on startup.
+         */
+        public boolean isComplete() {
+            return complete;
+        }
+    }
+
+    /**
+     * A job with the latest build with badges.
+     */
+    public static final class Entry {
+
+        private final Job<?, ?> job;
+        private final int position;
+        private final BuildRecord build;
+
+        Entry(Job<?, ?> job, int position, BuildRecord build) {
+            this.job = job;
+            this.position = position;
+            this.build = build;
+        }
+
+        static Entry of(Job<?, ?> job, int position) {
+            // jobs without an index are shown without badges rather than building indexes to show the page
+            return new Entry(job, position, BadgeSearchIndex.get().getLatest(job.getFullName()));
+        }
+
+        @NonNull
+        public Job<?, ?> getJob() {
+            return job;
+        }
+
+        /**
+         * @return the latest build with badges or null if there is none.
+         */
+        @CheckForNull
+        public BuildRecord getBuild() {
+            return build;
+        }
+
+        public long getTimestamp() {
+            return build != null ? build.getTimestamp() : 0;
+        }
+
+        @CheckForNull
+        public Date getDate() {
+            return build != null ? new Date(build.getTimestamp()) : null;
+        }
+
+        int getPosition() {
+            return position;
+        }
+
+        /**
+         * @return the badges of the build as unattached actions, to be rendered like the badges of a build.
+         */
+        @NonNull
+        public List<BadgeAction> getBadges() {
+            if (build == null) {
+                return List.of();
+            }
+            return build.getBadges().stream()
+                    .filter(badge -> badge.getKind() == BadgeRecord.Kind.BADGE)
+                    .map(badge -> new BadgeAction(
+                            badge.getId(),
+                            badge.getIcon(),
+                            badge.getText(),
+                            badge.getCssClass(),
+                            badge.getStyle(),
+                            badge.getLink(),
+                            badge.getTarget()))
+                    .toList();
+        }
+    }
+
+    @Extension
+    @SuppressWarnings("unused")
+    public static class FolderBadgesActionFactory extends TransientActionFactory<AbstractItem> {
+
+        @Override
+        public Class<AbstractItem> type() {
+            return AbstractItem.class;
+        }
+
+        @NonNull
+        @Override
+        public Collection<FolderBadgesAction> createFor(@NonNull AbstractItem target) {
+            // jobs that are item groups, like matrix projects, have their own badges
+            if (target instanceof ItemGroup<?> && !(target instanceof Job<?, ?>)) {
+                return List.of(new FolderBadgesAction(target));
+            }
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.action;
+
+import com.jenkinsci.plugins.badge.index.JobBadgeIndex;
+import com.jenkinsci.plugins.badge.index.JobBadgeStats;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.model.Action;
+import hudson.model.Job;
+import io.jenkins.plugins.ionicons.Ionicons;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import jenkins.model.TransientActionFactory;
+import net.sf.json.JSONObject;
+import org.kohsuke.stapler.StaplerResponse2;
+
+/**
+ * A job page with statistics of its badges under <code>badge-stats/</code>, also available as
+ * <code>badge-stats/api/json</code>. Statistics are maintained by the {@link JobBadgeIndex} of the job, so neither
+ * needs to load any build.
+ */
+public class JobBadgeStatsAction implements Action {
+
+    private final Job<?, ?> job;
+
+    public JobBadgeStatsAction(@NonNull Job<?, ?> job) {
+        this.job = job;
+    }
+
+    @NonNull
+    public Job<?, ?> getJob() {
+        return job;
+    }
+
+    /**
+     * @return the index of the job, or an empty one if the job has none, without building it.
+     */
+    @NonNull
+    public JobBadgeIndex getIndex() {
+        return JobBadgeIndex.getOrEmpty(job);
+    }
+
+    @NonNull
+    public JobBadgeStats getStats() {
+        return getIndex().getStats();
+    }
+
+    /**
+     * @return the types of badges, in the order shown on the page.
+     */
+    public List<JobBadgeStats.Type> getTypes() {
+        return List.of(JobBadgeStats.Type.values());
+    }
+
+    /**
+     * @param type the type.
+     * @return the rate of builds with badges of the type as percentage.
+     */
+    public String formatRate(@NonNull JobBadgeStats.Type type) {
+        return String.format(Locale.ROOT, "%.1f %%", getStats().getRate(type) * 100);
+    }
+
+    public JobBadgeStatsAction getApi() {
+        return this;
+    }
+
+    public void doJson(StaplerResponse2 rsp) throws IOException {
+        JobBadgeIndex index = getIndex();
+        JSONObject json = index.getStats().toJSON();
+        json.put("complete", index.isComplete());
+
+        rsp.setContentType("application/json;charset=UTF-8");
+        json.write(rsp.getWriter());
+    }
+
+    @Override
+    public String getIconFileName() {
+        // only shown for jobs with badges, the page is available regardless
+        JobBadgeIndex index = JobBadgeIndex.getIfExists(job);
+        return index != null && index.getStats().getBuilds() > 0
+                ? Ionicons.getIconClassName("analytics-outline")
+                : null;
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "Badge Statistics";
+    }
+
+    @Override
+    public String getUrlName() {
+        return "badge-stats";
+    }
+
+    @Extension
+    @SuppressWarnings("unused")
+    public static class JobBadgeStatsActionFactory extends TransientActionFactory<Job> {
+
+        @Override
+        public Class<Job> type() {
+            return Job.class;
+        }
+
+        @NonNull
+        @Override
+        public Collection<JobBadgeStatsAction> createFor(@NonNull Job target) {
+            return List.of(new JobBadgeStatsAction(target));
+        }
+    }
+}
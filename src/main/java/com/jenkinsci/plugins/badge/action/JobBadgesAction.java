@@ -0,0 +1,300 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.action;
+
+import com.jenkinsci.plugins.badge.index.BadgeSearchIndex;
+import com.jenkinsci.plugins.badge.index.BuildRecord;
+import com.jenkinsci.plugins.badge.index.JobBadgeIndex;
+import com.jenkinsci.plugins.badge.index.JobBadgeSeries;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.Util;
+import hudson.model.Action;
+import hudson.model.Job;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import jenkins.model.TransientActionFactory;
+import jenkins.util.SystemProperties;
+import net.sf.json.JSONArray;
+import net.sf.json.JSONObject;
+import org.kohsuke.stapler.QueryParameter;
+import org.kohsuke.stapler.StaplerRequest2;
+import org.kohsuke.stapler.StaplerResponse2;
+
+/**
+ * An invisible action providing the badge related endpoints of a job under <code>badges/</code>, backed by the
+ * {@link JobBadgeIndex} of the job. Its page filters the builds of the job by badge id and text using the
+ * {@link BadgeSearchIndex}, a form for it is shown on the job page. Images of the latest badges are served as
+ * <code>badges/svg</code> and builds are compared under <code>badges/diff/</code>. Numeric badge values are served
+ * as series under <code>badges/series</code> and charted under <code>badges/chart</code>.
+ */
+public class JobBadgesAction implements Action {
+
+    static final int FILTER_LIMIT = 100;
+
+    static final int SERIES_LIMIT = 1000;
+
+    static final int MAX_SERIES_LIMIT = 100000;
+
+    /**
+     * The number of charts shown on the job page at most.
+     */
+    static final int MAX_CHARTS = SystemProperties.getInteger(JobBadgesAction.class.getName() + ".maxCharts", 5);
+
+    private final Job<?, ?> job;
+
+    public JobBadgesAction(@NonNull Job<?, ?> job) {
+        this.job = job;
+    }
+
+    @NonNull
+    public Job<?, ?> getJob() {
+        return job;
+    }
+
+    /**
+     * @return the index of the job, or an empty one if the job has none, without building it.
+     */
+    @NonNull
+    public JobBadgeIndex getIndex() {
+        return JobBadgeIndex.getOrEmpty(job);
+    }
+
+    /**
+     * @return the index of the job if it exists, without building one for jobs that have none.
+     */
+    @CheckForNull
+    public JobBadgeIndex getExistingIndex() {
+        return JobBadgeIndex.getIfExists(job);
+    }
+
+    /**
+     * @param id the badge id, or null or blank for any.
+     * @param text terms that must all be contained in the badge text, or null for any.
+     * @return the builds of the job with matching badges, newest first, up to {@value #FILTER_LIMIT} builds.
+     */
+    @NonNull
+    public List<BadgeSearchIndex.Hit> filter(@CheckForNull String id, @CheckForNull String text) {
+        return filter(id, text, FILTER_LIMIT);
+    }
+
+    private List<BadgeSearchIndex.Hit> filter(String id, String text, int limit) {
+        return BadgeSearchIndex.get().search(job.getFullName(), Util.fixEmptyAndTrim(id), text, null, null, limit);
+    }
+
+    /**
+     * @return whether the search index is still being loaded and filter results may be incomplete.
+     */
+    public boolean isFilterIncomplete() {
+        return BadgeSearchIndex.get().isLoading() || !getIndex().isComplete();
+    }
+
+    /**
+     * Returns the numbers of builds with badges matching <code>id</code> and <code>text</code> as JSON, newest first.
+     */
+    public void doFilter(
+            StaplerResponse2 rsp, @QueryParameter String id, @QueryParameter String text, @QueryParameter String limit)
+            throws IOException {
+        int size;
+        try {
+            size = limit == null || limit.isBlank() ? JobBadgesApi.DEFAULT_LIMIT : Integer.parseInt(limit);
+        } catch (NumberFormatException ex) {
+            rsp.sendError(HttpServletResponse.SC_BAD_REQUEST, "Invalid limit");
+            return;
+        }
+        size = Math.max(1, Math.min(size, JobBadgesApi.MAX_LIMIT));
+
+        JSONArray builds = new JSONArray();
+        filter(id, text, size).forEach(hit -> builds.add(hit.getBuild().getNumber()));
+
+        JSONObject json = new JSONObject();
+        json.put("builds", builds);
+        json.put("complete", !isFilterIncomplete());
+
+        rsp.setContentType("application/json;charset=UTF-8");
+        json.write(rsp.getWriter());
+    }
+
+    /**
+     * Serves a shields-style SVG image of the badges of the newest build with badges, or of the newest build with a
+     * badge with <code>id</code>, labeled with <code>label</code> or the name of the job. Answers conditional
+     * requests, images are only rendered again when the badges of the build changed.
+     */
+    public void doSvg(
+            StaplerRequest2 req, StaplerResponse2 rsp, @QueryParameter String id, @QueryParameter String label)
+            throws IOException {
+        JobBadgeIndex index = getIndex();
+        String badgeId = Util.fixEmptyAndTrim(id);
+        BuildRecord record;
+        if (badgeId == null) {
+            List<BuildRecord> builds = index.getBuilds(null, 1);
+            record = builds.isEmpty() ? null : builds.get(0);
+        } else {
+            record = index.getBuild(index.getStats().getLastBuild(badgeId));
+        }
+
+        String text = Util.fixEmptyAndTrim(label);
+        BadgeImage image = BadgeImage.get(job, record, badgeId, text != null ? text : job.getDisplayName());
+        rsp.setHeader("ETag", image.getETag());
+        rsp.setHeader("Cache-Control", "private, no-cache");
+        String ifNoneMatch = req.getHeader("If-None-Match");
+        if (ifNoneMatch != null && RunBadgesAction.matches(ifNoneMatch, image.getETag())) {
+            rsp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        rsp.setContentType("image/svg+xml;charset=UTF-8");
+        rsp.getWriter().write(image.getSvg());
+    }
+
+    /**
+     * @return the ids of badges with numeric values.
+     */
+    @NonNull
+    public Set<String> getSeriesIds() {
+        return getIndex().getSeries().getIds();
+    }
+
+    /**
+     * @return the ids of the series charted on the job page, up to {@link #MAX_CHARTS}, or none if the job has no
+     *     index yet.
+     */
+    @NonNull
+    public List<String> getChartIds() {
+        JobBadgeIndex index = getExistingIndex();
+        if (index == null || index.size() == 0) {
+            return List.of();
+        }
+        return index.getSeries().getIds().stream().limit(MAX_CHARTS).toList();
+    }
+
+    /**
+     * Returns the values of the badges with <code>id</code> of the newest builds as JSON, with one array each for the
+     * build numbers, timestamps and values, oldest first. Without <code>id</code>, returns the ids with values.
+     */
+    public void doSeries(StaplerResponse2 rsp, @QueryParameter String id, @QueryParameter String limit)
+            throws IOException {
+        Integer size = parseSeriesLimit(rsp, limit);
+        if (size == null) {
+            return;
+        }
+
+        JSONObject json = new JSONObject();
+        String badgeId = Util.fixEmptyAndTrim(id);
+        if (badgeId == null) {
+            json.put("ids", JSONArray.fromObject(getSeriesIds()));
+        } else {
+            JobBadgeSeries.Points points = getIndex().getSeries().getPoints(badgeId, size);
+            JSONArray builds = new JSONArray();
+            JSONArray timestamps = new JSONArray();
+            JSONArray values = new JSONArray();
+            for (int i = 0; i < points.size(); i++) {
+                builds.add(points.numbers()[i]);
+                timestamps.add(points.timestamps()[i]);
+                values.add(points.values()[i]);
+            }
+            json.put("id", badgeId);
+            json.put("builds", builds);
+            json.put("timestamps", timestamps);
+            json.put("values", values);
+        }
+
+        rsp.setContentType("application/json;charset=UTF-8");
+        json.write(rsp.getWriter());
+    }
+
+    /**
+     * Serves an SVG line chart of the values of the badges with <code>id</code> of the newest builds.
+     */
+    public void doChart(StaplerResponse2 rsp, @QueryParameter String id, @QueryParameter String limit)
+            throws IOException {
+        String badgeId = Util.fixEmptyAndTrim(id);
+        if (badgeId == null) {
+            rsp.sendError(HttpServletResponse.SC_BAD_REQUEST, "Missing id");
+            return;
+        }
+        Integer size = parseSeriesLimit(rsp, limit);
+        if (size == null) {
+            return;
+        }
+
+        JobBadgeSeries.Points points = getIndex().getSeries().getPoints(badgeId, size);
+        rsp.setHeader("Cache-Control", "private, no-cache");
+        rsp.setContentType("image/svg+xml;charset=UTF-8");
+        rsp.getWriter().write(BadgeChart.render(badgeId, points));
+    }
+
+    private static Integer parseSeriesLimit(StaplerResponse2 rsp, String limit) throws IOException {
+        int size;
+        try {
+            size = limit == null || limit.isBlank() ? SERIES_LIMIT : Integer.parseInt(limit);
+        } catch (NumberFormatException ex) {
+            rsp.sendError(HttpServletResponse.SC_BAD_REQUEST, "Invalid limit");
+            return null;
+        }
+        return Math.max(1, Math.min(size, MAX_SERIES_LIMIT));
+    }
+
+    public JobBadgesDiff getDiff() {
+        return new JobBadgesDiff(this);
+    }
+
+    public JobBadgesApi getApi() {
+        return new JobBadgesApi(this);
+    }
+
+    @Override
+    public String getIconFileName() {
+        return null;
+    }
+
+    @Override
+    public String getDisplayName() {
+        return null;
+    }
+
+    @Override
+    public String getUrlName() {
+        return "badges";
+    }
+
+    @Extension
+    @SuppressWarnings("unused")
+    public static class JobBadgesActionFactory extends TransientActionFactory<Job> {
+
+        @Override
+        public Class<Job> type() {
+            return Job.class;
+        }
+
+        @NonNull
+        @Override
+        public Collection<JobBadgesAction> createFor(@NonNull Job target) {
+            return List.of(new JobBadgesAction(target));
+        }
+    }
+}
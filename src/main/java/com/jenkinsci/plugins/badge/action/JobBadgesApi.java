@@ -0,0 +1,109 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.action;
+
+import com.jenkinsci.plugins.badge.index.BadgeRecord;
+import com.jenkinsci.plugins.badge.index.BuildRecord;
+import com.jenkinsci.plugins.badge.index.JobBadgeIndex;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import net.sf.json.JSONArray;
+import net.sf.json.JSONNull;
+import net.sf.json.JSONObject;
+import org.kohsuke.stapler.QueryParameter;
+import org.kohsuke.stapler.StaplerRequest2;
+import org.kohsuke.stapler.StaplerResponse2;
+
+/**
+ * The remote API of the badges of all builds of a job, available under <code>badges/api/json</code>.
+ * Builds are returned newest first in pages of <code>limit</code> builds, the <code>nextCursor</code> of a page is
+ * passed as <code>cursor</code> to get the next one. <code>fields</code> selects the badge fields to return.
+ * Texts are returned as stored, without applying the markup formatter.
+ */
+public class JobBadgesApi {
+
+    static final int DEFAULT_LIMIT = 100;
+
+    static final int MAX_LIMIT = 1000;
+
+    private final JobBadgesAction action;
+
+    public JobBadgesApi(@NonNull JobBadgesAction action) {
+        this.action = action;
+    }
+
+    public void doJson(
+            StaplerRequest2 req,
+            StaplerResponse2 rsp,
+            @QueryParameter String cursor,
+            @QueryParameter String limit,
+            @QueryParameter String fields)
+            throws IOException {
+        Integer before;
+        int size;
+        Set<String> selected;
+        try {
+            before = cursor == null || cursor.isBlank() ? null : Integer.valueOf(cursor);
+            size = limit == null || limit.isBlank() ? DEFAULT_LIMIT : Integer.parseInt(limit);
+            selected = parseFields(fields);
+        } catch (IllegalArgumentException ex) {
+            rsp.sendError(HttpServletResponse.SC_BAD_REQUEST, ex.getMessage());
+            return;
+        }
+        size = Math.max(1, Math.min(size, MAX_LIMIT));
+
+        JobBadgeIndex index = action.getIndex();
+        List<BuildRecord> builds = index.getBuilds(before, size + 1);
+
+        JSONArray array = new JSONArray();
+        builds.stream().limit(size).forEach(build -> array.add(build.toJSON(selected)));
+
+        JSONObject json = new JSONObject();
+        json.put("builds", array);
+        json.put("nextCursor", builds.size() > size ? builds.get(size - 1).getNumber() : JSONNull.getInstance());
+        json.put("complete", index.isComplete());
+
+        rsp.setContentType("application/json;charset=UTF-8");
+        json.write(rsp.getWriter());
+    }
+
+    private static Set<String> parseFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<String> selected = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            field = field.trim();
+            if (!BadgeRecord.getFieldNames().contains(field)) {
+                throw new IllegalArgumentException("Unknown field, supported are " + BadgeRecord.getFieldNames());
+            }
+            selected.add(field);
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.action;
+
+import com.jenkinsci.plugins.badge.index.BadgeDiff;
+import com.jenkinsci.plugins.badge.index.BadgeRecord;
+import com.jenkinsci.plugins.badge.index.BuildRecord;
+import com.jenkinsci.plugins.badge.index.JobBadgeIndex;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Util;
+import hudson.model.Job;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import net.sf.json.JSONArray;
+import net.sf.json.JSONNull;
+import net.sf.json.JSONObject;
+import org.kohsuke.stapler.QueryParameter;
+import org.kohsuke.stapler.StaplerResponse2;
+
+/**
+ * Compares the badges and summaries of two builds of a job under <code>badges/diff/</code>, also available as
+ * <code>badges/diff/api/json</code>. <code>to</code> defaults to the newest build with badges and <code>from</code>
+ * to the build with badges before it. The comparison is computed from the {@link JobBadgeIndex} of the job, changed
+ * texts of summaries too large for the index are linked to be loaded on demand.
+ */
+public class JobBadgesDiff {
+
+    private final JobBadgesAction action;
+
+    public JobBadgesDiff(@NonNull JobBadgesAction action) {
+        this.action = action;
+    }
+
+    @NonNull
+    public Job<?, ?> getJob() {
+        return action.getJob();
+    }
+
+    /**
+     * @param from the number of the older build or null for the build with badges before <code>to</code>.
+     * @param to the number of the newer build or null for the newest build with badges.
+     * @return the comparison of the builds.
+     * @throws IllegalArgumentException if a build number is invalid or there is no such build.
+     */
+    @NonNull
+    public Comparison compare(@CheckForNull String from, @CheckForNull String to) {
+        JobBadgeIndex index = action.getIndex();
+        Integer toNumber = parse(to);
+        if (toNumber == null) {
+            BuildRecord latest = index.getLatest();
+            toNumber = latest != null ? latest.getNumber() : null;
+        }
+        Integer fromNumber = parse(from);
+        if (fromNumber == null && toNumber != null) {
+            List<BuildRecord> previous = index.getBuilds(toNumber, 1);
+            fromNumber = previous.isEmpty() ? null : previous.get(0).getNumber();
+        }
+        return new Comparison(fromNumber, toNumber, BadgeDiff.compare(getRecord(fromNumber), getRecord(toNumber)));
+    }
+
+    /**
+     * @return the comparison of the builds or null if a build is invalid.
+     * @see #compare(String, String)
+     */
+    @CheckForNull
+    public Comparison compareQuietly(@CheckForNull String from, @CheckForNull String to) {
+        try {
+            return compare(from, to);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private static Integer parse(String number) {
+        number = Util.fixEmptyAndTrim(number);
+        if (number == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(number);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid build number '" + number + "'", ex);
+        }
+    }
+
+    private BuildRecord getRecord(Integer number) {
+        if (number == null) {
+            return null;
+        }
+        BuildRecord record = action.getIndex().getBuild(number);
+        // builds without badges are not indexed, only then the build has to be looked up
+        if (record == null && getJob().getBuildByNumber(number) == null) {
+            throw new IllegalArgumentException("No such build #" + number);
+        }
+        return record;
+    }
+
+    /**
+     * @param number the build number.
+     * @param badge the summary.
+     * @return the URL of the full text of the summary, relative to the root URL.
+     */
+    @NonNull
+    public String getTextUrl(int number, @NonNull BadgeRecord badge) {
+        return getJob().getUrl() + number + "/badges/summary?id=" + Util.rawEncode(badge.getId());
+    }
+
+    public JobBadgesDiff getApi() {
+        return this;
+    }
+
+    public void doJson(StaplerResponse2 rsp, @QueryParameter String from, @QueryParameter String to)
+            throws IOException {
+        Comparison comparison;
+        try {
+            comparison = compare(from, to);
+        } catch (IllegalArgumentException ex) {
+            rsp.sendError(HttpServletResponse.SC_BAD_REQUEST, ex.getMessage());
+            return;
+        }
+        BadgeDiff diff = comparison.getDiff();
+
+        JSONArray added = new JSONArray();
+        diff.getAdded().forEach(badge -> added.add(badge.toJSON(null)));
+        JSONArray removed = new JSONArray();
+        diff.getRemoved().forEach(badge -> removed.add(badge.toJSON(null)));
+        JSONArray changed = new JSONArray();
+        for (BadgeDiff.Change change : diff.getChanged()) {
+            JSONObject json = new JSONObject();
+            json.put("kind", change.getTo().getKind().name().toLowerCase());
+            json.put("id", change.getTo().getId());
+            json.put("fields", change.getFields());
+            json.put("from", change.getFrom().toJSON(null));
+            json.put("to", change.getTo().toJSON(null));
+            if (change.isTruncated() && change.getTo().getKind() == BadgeRecord.Kind.SUMMARY) {
+                json.put("fromTextUrl", getTextUrl(comparison.getFrom(), change.getFrom()));
+                json.put("toTextUrl", getTextUrl(comparison.getTo(), change.getTo()));
+            }
+            changed.add(json);
+        }
+
+        JSONObject json = new JSONObject();
+        json.put("from", comparison.getFrom() != null ? comparison.getFrom() : JSONNull.getInstance());
+        json.put("to", comparison.getTo() != null ? comparison.getTo() : JSONNull.getInstance());
+        json.put("added", added);
+        json.put("removed", removed);
+        json.put("changed", changed);
+
+        rsp.setContentType("application/json;charset=UTF-8");
+        json.write(rsp.getWriter());
+    }
+
+    /**
+     * The comparison of two builds.
+     */
+    public static final class Comparison {
+
+        private final Integer from;
+        private final Integer to;
+        private final BadgeDiff diff;
+
+        Comparison(Integer from, Integer to, BadgeDiff diff) {
+            this.from = from;
+            this.to = to;
+            this.diff = diff;
+        }
+
+        /**
+         * @return the number of the older build or null if there is none.
+         */
+        @CheckForNull
+        public Integer getFrom() {
+            return from;
+        }
+
+        /**
+         * @return the number of the newer build or null if there is none.
+         */
+        @CheckForNull
+        public Integer getTo() {
+            return to;
+        }
+
+        @NonNull
+        public BadgeDiff getDiff() {
+            return diff;
+        }
+    }
+}
@@ -0,0 +1,338 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.action;
+
+import com.jenkinsci.plugins.badge.event.BadgeUpdates;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.PluginWrapper;
+import hudson.model.Action;
+import hudson.model.Run;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import jenkins.model.Jenkins;
+import jenkins.model.TransientActionFactory;
+import jenkins.util.SystemProperties;
+import org.kohsuke.stapler.QueryParameter;
+import org.kohsuke.stapler.StaplerRequest2;
+import org.kohsuke.stapler.StaplerResponse2;
+
+/**
+ * An invisible action providing the badge related endpoints of a run under <code>badges/</code>.
+ * Rendered badges, summaries and the remote API answer conditional requests based on the {@link BadgeVersionAction}
+ * of the run and are cacheable for a long time once the run completed.
+ */
+public class RunBadgesAction implements Action {
+
+    /**
+     * Max age in seconds for cached badge content of completed runs whose badges did not change after completion.
+     * Kept short, as badges may still be added without notifying listeners, e.g. by scripts calling
+     * {@link Run#addAction}, and the URLs of the content do not change with it.
+     */
+    private static final long IMMUTABLE_MAX_AGE =
+            SystemProperties.getLong(RunBadgesAction.class.getName() + ".immutableMaxAge", 3600L);
+
+    private final Run<?, ?> run;
+
+    public RunBadgesAction(@NonNull Run<?, ?> run) {
+        this.run = run;
+    }
+
+    @NonNull
+    public Run<?, ?> getRun() {
+        return run;
+    }
+
+    /**
+     * @return whether badges of the run may still change and pages should poll for updates.
+     */
+    public boolean isLive() {
+        return run.isBuilding();
+    }
+
+    /**
+     * @return the sequence number of the latest badge change, to be passed back to {@link #doUpdates}.
+     */
+    public long getSequence() {
+        return BadgeUpdates.get().getSequence(run);
+    }
+
+    /**
+     * @return the badges of the run.
+     */
+    @NonNull
+    public List<BadgeAction> getBadgeActions() {
+        return run.getActions(BadgeAction.class);
+    }
+
+    /**
+     * @return the summaries of the run.
+     */
+    @NonNull
+    public List<BadgeSummaryAction> getSummaryActions() {
+        return run.getActions(BadgeSummaryAction.class);
+    }
+
+    /**
+     * @return the number of badge changes on the run.
+     */
+    public long getVersion() {
+        BadgeVersionAction action = BadgeVersionAction.of(run);
+        return action != null ? action.getVersion() : 0;
+    }
+
+    /**
+     * @return the time of the latest badge change, falling back to the time the run started or completed.
+     */
+    public long getLastModified() {
+        BadgeVersionAction action = BadgeVersionAction.of(run);
+        if (action != null) {
+            return action.getLastModified();
+        }
+        return run.isLogUpdated() ? run.getStartTimeInMillis() : run.getStartTimeInMillis() + run.getDuration();
+    }
+
+    /**
+     * @return whether badges of the run cannot change anymore, i.e. it completed and was not modified since.
+     */
+    public boolean isImmutable() {
+        BadgeVersionAction action = BadgeVersionAction.of(run);
+        return !run.isLogUpdated() && (action == null || !action.isModifiedAfterCompletion());
+    }
+
+    /**
+     * The entity tag of the badge content of the run. Besides the version it covers the run itself, whether it is
+     * still building, the badge actions present, the markup formatter rendering the badge texts and the plugin
+     * version rendering the views.
+     * @return a weak entity tag.
+     */
+    @NonNull
+    public String getETag() {
+        Jenkins jenkins = Jenkins.get();
+        PluginWrapper plugin = jenkins.getPluginManager().whichPlugin(RunBadgesAction.class);
+        String salt =
+                jenkins.getMarkupFormatter().getClass().getName() + "@" + (plugin != null ? plugin.getVersion() : "");
+        return "W/\"" + Long.toHexString(run.getTimeInMillis()) + "-" + getVersion()
+                + (run.isLogUpdated() ? "-live-" : "-") + getFingerprint() + "-"
+                + Integer.toHexString(salt.hashCode()) + "\"";
+    }
+
+    /**
+     * A fingerprint of the stored content of the badge actions of the run, covering the actions added or changed
+     * without notifying listeners, which do not change the {@link #getVersion() version}. It only depends on what is
+     * saved with the run, so it does not change when the run is loaded again.
+     */
+    private String getFingerprint() {
+        List<AbstractBadgeAction> actions = run.getActions(AbstractBadgeAction.class);
+        int hash = 1;
+        for (AbstractBadgeAction action : actions) {
+            hash = 31 * hash + action.contentHash();
+        }
+        return actions.size() + "." + Integer.toHexString(hash);
+    }
+
+    /**
+     * Sets the caching headers for badge content of the run and answers conditional requests.
+     * @param req the request.
+     * @param rsp the response.
+     * @return true if the response was completed with <code>304 Not Modified</code>, false if the content has
+     * to be sent.
+     */
+    public boolean checkNotModified(StaplerRequest2 req, StaplerResponse2 rsp) {
+        String etag = getETag();
+        long lastModified = getLastModified();
+        boolean immutable = isImmutable();
+
+        rsp.setHeader("ETag", etag);
+        rsp.setDateHeader("Last-Modified", lastModified);
+        rsp.setHeader(
+                "Cache-Control",
+                immutable ? "private, max-age=" + IMMUTABLE_MAX_AGE + ", immutable" : "private, no-cache");
+
+        boolean notModified;
+        String ifNoneMatch = req.getHeader("If-None-Match");
+        if (ifNoneMatch != null) {
+            notModified = matches(ifNoneMatch, etag);
+        } else if (!run.isLogUpdated()) {
+            // timestamps have second precision and are only reliable once the run completed
+            notModified = lastModified / 1000 <= getDateHeader(req, "If-Modified-Since") / 1000;
+        } else {
+            notModified = false;
+        }
+
+        if (notModified) {
+            rsp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        }
+        return notModified;
+    }
+
+    static boolean matches(String ifNoneMatch, String etag) {
+        String opaque = etag.substring(2);
+        for (String candidate : ifNoneMatch.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals("*") || candidate.equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long getDateHeader(StaplerRequest2 req, String name) {
+        try {
+            return req.getDateHeader(name);
+        } catch (IllegalArgumentException ex) {
+            return -1;
+        }
+    }
+
+    /**
+     * Serves the rendered badges of the run, answering conditional requests.
+     */
+    public void doFragment(StaplerRequest2 req, StaplerResponse2 rsp) throws IOException, ServletException {
+        if (!checkNotModified(req, rsp)) {
+            req.getView(this, "fragment-content.jelly").forward(req, rsp);
+        }
+    }
+
+    /**
+     * Serves the rendered summaries of the run as table rows, answering conditional requests.
+     */
+    public void doSummaries(StaplerRequest2 req, StaplerResponse2 rsp) throws IOException, ServletException {
+        if (!checkNotModified(req, rsp)) {
+            req.getView(this, "summaries-content.jelly").forward(req, rsp);
+        }
+    }
+
+    /**
+     * Serves the rendered icon of a badge or summary, used to render badges from the JSON API on the client.
+     */
+    public void doIcon(StaplerRequest2 req, StaplerResponse2 rsp, @QueryParameter String id)
+            throws IOException, ServletException {
+        AbstractBadgeAction action = getAction(AbstractBadgeAction.class, id);
+        if (action == null || action.getIcon() == null || action.getIcon().isBlank()) {
+            rsp.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        if (!checkNotModified(req, rsp)) {
+            req.setAttribute("badge", action);
+            req.getView(this, "icon-content.jelly").forward(req, rsp);
+        }
+    }
+
+    /**
+     * Streams the translated text of a summary, used to load large summaries that are shown as preview only.
+     */
+    public void doSummary(StaplerRequest2 req, StaplerResponse2 rsp, @QueryParameter String id) throws IOException {
+        BadgeSummaryAction action = getAction(BadgeSummaryAction.class, id);
+        if (action == null) {
+            rsp.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        if (!checkNotModified(req, rsp)) {
+            rsp.setContentType("text/html;charset=UTF-8");
+            action.writeText(rsp.getWriter());
+        }
+    }
+
+    private <T extends AbstractBadgeAction> T getAction(Class<T> type, String id) {
+        return run.getActions(type).stream()
+                .filter(action -> action.getId().equals(id))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * @param event a change of the run.
+     * @return the current badge or summary the change refers to, {@code null} if it was removed meanwhile.
+     */
+    @CheckForNull
+    public AbstractBadgeAction getAction(@NonNull BadgeUpdates.Event event) {
+        List<? extends AbstractBadgeAction> actions = event.isSummary() ? getSummaryActions() : getBadgeActions();
+        // the latest badge wins if ids are reused
+        for (int i = actions.size() - 1; i >= 0; i--) {
+            if (actions.get(i).getId().equals(event.getId())) {
+                return actions.get(i);
+            }
+        }
+        return null;
+    }
+
+    public BadgesApi getApi() {
+        return new BadgesApi(this);
+    }
+
+    /**
+     * Serves the badge changes after the given sequence number as rendered fragments, in the style of Jenkins'
+     * progressive rendering: the response header <code>X-More-Data</code> tells the client whether to poll again and
+     * <code>X-Badge-Sequence</code> which sequence number to poll with.
+     */
+    public void doUpdates(StaplerRequest2 req, StaplerResponse2 rsp, @QueryParameter long since)
+            throws IOException, ServletException {
+        BadgeUpdates.Delta delta = BadgeUpdates.get().since(run, since);
+        rsp.setHeader("X-Badge-Sequence", String.valueOf(delta.getSequence()));
+        rsp.setHeader("X-Badge-Reset", String.valueOf(delta.isReset()));
+        rsp.setHeader("X-More-Data", String.valueOf(isLive()));
+        rsp.setHeader("Cache-Control", "no-cache, no-store");
+        req.setAttribute("delta", delta);
+        req.getView(this, "updates-content.jelly").forward(req, rsp);
+    }
+
+    @Override
+    public String getIconFileName() {
+        return null;
+    }
+
+    @Override
+    public String getDisplayName() {
+        return null;
+    }
+
+    @Override
+    public String getUrlName() {
+        return "badges";
+    }
+
+    @Extension
+    @SuppressWarnings("unused")
+    public static class RunBadgesActionFactory extends TransientActionFactory<Run> {
+
+        @Override
+        public Class<Run> type() {
+            return Run.class;
+        }
+
+        @NonNull
+        @Override
+        public Collection<RunBadgesAction> createFor(@NonNull Run target) {
+            return List.of(new RunBadgesAction(target));
+        }
+    }
+}
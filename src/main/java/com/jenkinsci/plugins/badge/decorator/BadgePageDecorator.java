@@ -27,7 +27,7 @@ import hudson.Extension;
 import hudson.model.PageDecorator;
 
 /**
- * A {@link PageDecorator} to load <code>assets.css</code> and <code>copy.js</code> bundled by this plugin.
+ * A {@link PageDecorator} to load <code>assets.css</code> and <code>badges.js</code> bundled by this plugin.
  */
 @Extension
 public class BadgePageDecorator extends PageDecorator {}
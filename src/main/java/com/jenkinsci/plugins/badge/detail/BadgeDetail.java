@@ -24,6 +24,7 @@
 package com.jenkinsci.plugins.badge.detail;
 
 import com.jenkinsci.plugins.badge.action.BadgeAction;
+import com.jenkinsci.plugins.badge.action.RunBadgesAction;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import hudson.Extension;
 import hudson.ExtensionList;
@@ -35,10 +36,12 @@ import jenkins.model.details.DetailGroup;
 
 public class BadgeDetail extends Detail {
 
+    private final Run<?, ?> run;
     private final List<BadgeAction> actions;
 
     public BadgeDetail(Run<?, ?> run) {
         super(run);
+        this.run = run;
         actions = run.getActions(BadgeAction.class);
     }
 
@@ -47,6 +50,11 @@ public class BadgeDetail extends Detail {
         return actions;
     }
 
+    @NonNull
+    public RunBadgesAction getBadges() {
+        return new RunBadgesAction(run);
+    }
+
     @Override
     public DetailGroup getGroup() {
         return BadgeDetailGroup.get();
@@ -73,7 +81,8 @@ public class BadgeDetail extends Detail {
         @Override
         public List<? extends Detail> createFor(@NonNull Run target) {
             BadgeDetail detail = new BadgeDetail(target);
-            if (detail.getActions().isEmpty()) {
+            // running builds get an (empty) detail, so badges added later can be shown without reloading the page
+            if (detail.getActions().isEmpty() && !target.isBuilding()) {
                 return List.of();
             } else {
                 return List.of(detail);
@@ -24,10 +24,12 @@
 package com.jenkinsci.plugins.badge.dsl;
 
 import com.jenkinsci.plugins.badge.action.AbstractBadgeAction;
+import com.jenkinsci.plugins.badge.event.BadgeListener;
 import hudson.model.Run;
 import java.io.Serial;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import org.jenkinsci.plugins.workflow.steps.Step;
 import org.jenkinsci.plugins.workflow.steps.StepContext;
 import org.jenkinsci.plugins.workflow.steps.SynchronousStepExecution;
@@ -45,6 +47,7 @@ public abstract class AbstractAddBadgeStep extends Step {
     private String style;
     private String link;
     private String target;
+    private Double value;
 
     protected AbstractAddBadgeStep(
             String id, String icon, String text, String cssClass, String style, String link, String target) {
@@ -120,32 +123,52 @@ public abstract class AbstractAddBadgeStep extends Step {
         this.target = target;
     }
 
+    public Double getValue() {
+        return value;
+    }
+
+    @DataBoundSetter
+    public void setValue(Double value) {
+        this.value = value;
+    }
+
     @Override
     public String toString() {
-        List<String> fields = new ArrayList<>();
+        return getDescriptor().getFunctionName() + "(" + String.join(", ", getStringFields()) + ")";
+    }
 
-        if (getId() != null) {
-            fields.add("id: '" + getId() + "'");
-        }
-        if (getIcon() != null) {
-            fields.add("icon: '" + getIcon() + "'");
-        }
-        if (getText() != null) {
-            fields.add("text: '" + getText() + "'");
-        }
-        if (getCssClass() != null) {
-            fields.add("cssClass: '" + getCssClass() + "'");
-        }
-        if (getStyle() != null) {
-            fields.add("style: '" + getStyle() + "'");
-        }
-        if (getLink() != null) {
-            fields.add("link: '" + getLink() + "'");
+    /**
+     * @return the non-null parameters of this step as <code>name: 'value'</code>, used by {@link #toString()}.
+     */
+    protected List<String> getStringFields() {
+        List<String> fields = new ArrayList<>();
+        Set<String> fixed = getFixedFields();
+
+        addStringField(fields, fixed, "id", getId());
+        addStringField(fields, fixed, "icon", getIcon());
+        addStringField(fields, fixed, "text", getText());
+        addStringField(fields, fixed, "cssClass", getCssClass());
+        addStringField(fields, fixed, "style", getStyle());
+        addStringField(fields, fixed, "link", getLink());
+        addStringField(fields, fixed, "target", getTarget());
+        if (getValue() != null && !fixed.contains("value")) {
+            fields.add("value: " + getValue());
         }
-        if (getTarget() != null) {
-            fields.add("target: '" + getTarget() + "'");
+        return fields;
+    }
+
+    /**
+     * @return the names of the parameters set by the step itself rather than by the pipeline, which are omitted by
+     * {@link #toString()}.
+     */
+    protected Set<String> getFixedFields() {
+        return Set.of();
+    }
+
+    private static void addStringField(List<String> fields, Set<String> fixed, String name, String value) {
+        if (value != null && !fixed.contains(name)) {
+            fields.add(name + ": '" + value + "'");
         }
-        return getDescriptor().getFunctionName() + "(" + String.join(", ", fields) + ")";
     }
 
     abstract static class Execution extends SynchronousStepExecution<AbstractBadgeAction> {
@@ -160,6 +183,7 @@ public abstract class AbstractAddBadgeStep extends Step {
         private final String style;
         private final String link;
         private final String target;
+        private Double value;
 
         Execution(
                 String id,
@@ -183,10 +207,22 @@ public abstract class AbstractAddBadgeStep extends Step {
         @Override
         protected AbstractBadgeAction run() throws Exception {
             AbstractBadgeAction action = newAction(id, icon, text, cssClass, style, link, target);
-            getContext().get(Run.class).addAction(action);
+            action.setValue(value);
+            Run<?, ?> run = getContext().get(Run.class);
+            run.addAction(action);
+            BadgeListener.fireAdded(run, action);
             return action;
         }
 
+        /**
+         * @param value the numeric value to set on the new action.
+         * @return this execution.
+         */
+        Execution withValue(Double value) {
+            this.value = value;
+            return this;
+        }
+
         protected abstract AbstractBadgeAction newAction(
                 String id, String icon, String text, String cssClass, String style, String link, String target);
     }
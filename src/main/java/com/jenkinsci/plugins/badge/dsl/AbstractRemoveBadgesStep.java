@@ -24,6 +24,8 @@
 package com.jenkinsci.plugins.badge.dsl;
 
 import com.jenkinsci.plugins.badge.action.AbstractBadgeAction;
+import com.jenkinsci.plugins.badge.event.BadgeListener;
+import com.jenkinsci.plugins.badge.metrics.BadgeMetrics;
 import hudson.model.Action;
 import hudson.model.Run;
 import java.io.Serial;
@@ -90,7 +92,16 @@ abstract class AbstractRemoveBadgesStep extends Step {
         @Override
         protected Void run() throws Exception {
             Run<?, ?> run = getContext().get(Run.class);
-            run.getAllActions().stream().filter(this::matches).forEach(run::removeAction);
+            List<? extends Action> actions = run.getAllActions();
+            BadgeMetrics.get().removeScan(actions.size());
+            List<AbstractBadgeAction> removed = actions.stream()
+                    .filter(this::matches)
+                    .map(AbstractBadgeAction.class::cast)
+                    .toList();
+            for (AbstractBadgeAction action : removed) {
+                run.removeAction(action);
+                BadgeListener.fireRemoved(run, action);
+            }
             return null;
         }
 
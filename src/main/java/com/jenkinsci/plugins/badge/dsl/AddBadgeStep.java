@@ -55,7 +55,7 @@ public class AddBadgeStep extends AbstractAddBadgeStep {
                     String id, String icon, String text, String cssClass, String style, String link, String target) {
                 return new BadgeAction(id, icon, text, cssClass, style, link, target);
             }
-        };
+        }.withValue(getValue());
     }
 
     @Extension
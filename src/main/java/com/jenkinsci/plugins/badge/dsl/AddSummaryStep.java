@@ -26,15 +26,19 @@ package com.jenkinsci.plugins.badge.dsl;
 import com.jenkinsci.plugins.badge.action.BadgeSummaryAction;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import hudson.Extension;
+import java.util.List;
 import org.jenkinsci.plugins.workflow.steps.StepContext;
 import org.jenkinsci.plugins.workflow.steps.StepExecution;
 import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.DataBoundSetter;
 
 /**
  * Create a summary text.
  */
 public class AddSummaryStep extends AddBadgeStep {
 
+    private String title;
+
     @DataBoundConstructor
     public AddSummaryStep() {
         this(null, null, null, null, null, null, null);
@@ -45,17 +49,38 @@ public class AddSummaryStep extends AddBadgeStep {
         super(id, icon, text, cssClass, style, link, target);
     }
 
+    public String getTitle() {
+        return title;
+    }
+
+    @DataBoundSetter
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    @Override
+    protected List<String> getStringFields() {
+        List<String> fields = super.getStringFields();
+        if (getTitle() != null) {
+            fields.add("title: '" + getTitle() + "'");
+        }
+        return fields;
+    }
+
     @Override
     public StepExecution start(StepContext context) {
+        String title = getTitle();
         return new Execution(
                 getId(), getIcon(), getText(), getCssClass(), getStyle(), getLink(), getTarget(), context) {
 
             @Override
             protected BadgeSummaryAction newAction(
                     String id, String icon, String text, String cssClass, String style, String link, String target) {
-                return new BadgeSummaryAction(id, icon, text, cssClass, style, link, target);
+                BadgeSummaryAction action = new BadgeSummaryAction(id, icon, text, cssClass, style, link, target);
+                action.setTitle(title);
+                return action;
             }
-        };
+        }.withValue(getValue());
     }
 
     @Extension
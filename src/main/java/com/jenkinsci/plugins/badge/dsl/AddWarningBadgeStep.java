@@ -26,8 +26,7 @@ package com.jenkinsci.plugins.badge.dsl;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import hudson.Extension;
 import io.jenkins.plugins.ionicons.Ionicons;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Set;
 import org.kohsuke.stapler.DataBoundConstructor;
 
 /**
@@ -45,23 +44,9 @@ public class AddWarningBadgeStep extends AddBadgeStep {
     }
 
     @Override
-    public String toString() {
-        List<String> fields = new ArrayList<>();
-
-        if (getId() != null) {
-            fields.add("id: '" + getId() + "'");
-        }
-        if (getText() != null) {
-            fields.add("text: '" + getText() + "'");
-        }
-        if (getLink() != null) {
-            fields.add("link: '" + getLink() + "'");
-        }
-        if (getTarget() != null) {
-            fields.add("target: '" + getTarget() + "'");
-        }
-
-        return getDescriptor().getFunctionName() + "(" + String.join(", ", fields) + ")";
+    protected Set<String> getFixedFields() {
+        // the icon and style are set by this step
+        return Set.of("icon", "cssClass", "style");
     }
 
     @Extension
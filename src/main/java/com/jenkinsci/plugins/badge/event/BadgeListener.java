@@ -0,0 +1,97 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.event;
+
+import com.jenkinsci.plugins.badge.action.AbstractBadgeAction;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.ExtensionList;
+import hudson.ExtensionPoint;
+import hudson.model.Run;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Receives notifications about badges and summaries being added to, updated on or removed from a {@link Run}.
+ * Implementations are registered with {@link hudson.Extension} and must be fast, as they are invoked synchronously
+ * from pipeline steps and from the setters of {@link AbstractBadgeAction}.
+ */
+public abstract class BadgeListener implements ExtensionPoint {
+
+    private static final Logger LOGGER = Logger.getLogger(BadgeListener.class.getName());
+
+    /**
+     * Called after a badge was added to a run.
+     * @param run the run the badge was added to.
+     * @param action the added badge.
+     */
+    public void onAdded(@NonNull Run<?, ?> run, @NonNull AbstractBadgeAction action) {}
+
+    /**
+     * Called after a property of a badge attached to a run was changed.
+     * @param run the run the badge is attached to.
+     * @param action the updated badge.
+     */
+    public void onUpdated(@NonNull Run<?, ?> run, @NonNull AbstractBadgeAction action) {}
+
+    /**
+     * Called after a badge was removed from a run.
+     * @param run the run the badge was removed from.
+     * @param action the removed badge.
+     */
+    public void onRemoved(@NonNull Run<?, ?> run, @NonNull AbstractBadgeAction action) {}
+
+    public static void fireAdded(@NonNull Run<?, ?> run, @NonNull AbstractBadgeAction action) {
+        for (BadgeListener listener : all()) {
+            try {
+                listener.onAdded(run, action);
+            } catch (RuntimeException ex) {
+                LOGGER.log(Level.WARNING, ex, () -> listener + " failed to handle added badge on " + run);
+            }
+        }
+    }
+
+    public static void fireUpdated(@NonNull Run<?, ?> run, @NonNull AbstractBadgeAction action) {
+        for (BadgeListener listener : all()) {
+            try {
+                listener.onUpdated(run, action);
+            } catch (RuntimeException ex) {
+                LOGGER.log(Level.WARNING, ex, () -> listener + " failed to handle updated badge on " + run);
+            }
+        }
+    }
+
+    public static void fireRemoved(@NonNull Run<?, ?> run, @NonNull AbstractBadgeAction action) {
+        for (BadgeListener listener : all()) {
+            try {
+                listener.onRemoved(run, action);
+            } catch (RuntimeException ex) {
+                LOGGER.log(Level.WARNING, ex, () -> listener + " failed to handle removed badge on " + run);
+            }
+        }
+    }
+
+    public static ExtensionList<BadgeListener> all() {
+        return ExtensionList.lookup(BadgeListener.class);
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.event;
+
+import com.jenkinsci.plugins.badge.action.AbstractBadgeAction;
+import com.jenkinsci.plugins.badge.action.BadgeSummaryAction;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.ExtensionList;
+import hudson.model.Run;
+import hudson.model.listeners.RunListener;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import jenkins.util.SystemProperties;
+import jenkins.util.Timer;
+
+/**
+ * Keeps a short, in-memory log of badge changes per running build, so open pages can poll for the changes since
+ * the last sequence number they have seen instead of reloading the whole page.
+ * The log only holds the kind and id of the changed badges, never the actions themselves, so it does not keep runs
+ * in memory, and it is dropped shortly after the build was finalized.
+ */
+@Extension
+public class BadgeUpdates extends BadgeListener {
+
+    private static final int MAX_EVENTS = SystemProperties.getInteger(BadgeUpdates.class.getName() + ".maxEvents", 500);
+
+    private static final int MAX_CHANNELS =
+            SystemProperties.getInteger(BadgeUpdates.class.getName() + ".maxChannels", 256);
+
+    /**
+     * How long the log of a finalized build is kept, so pages get the last changes with their final poll.
+     */
+    private static final long FINAL_POLL_WINDOW =
+            SystemProperties.getLong(BadgeUpdates.class.getName() + ".finalPollWindowMillis", 30000L);
+
+    private final Map<String, Channel> channels = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Channel> eldest) {
+            return size() > MAX_CHANNELS;
+        }
+    };
+
+    public static BadgeUpdates get() {
+        return ExtensionList.lookupSingleton(BadgeUpdates.class);
+    }
+
+    @Override
+    public void onAdded(@NonNull Run<?, ?> run, @NonNull AbstractBadgeAction action) {
+        publish(run, Type.ADDED, action);
+    }
+
+    @Override
+    public void onUpdated(@NonNull Run<?, ?> run, @NonNull AbstractBadgeAction action) {
+        publish(run, Type.UPDATED, action);
+    }
+
+    @Override
+    public void onRemoved(@NonNull Run<?, ?> run, @NonNull AbstractBadgeAction action) {
+        publish(run, Type.REMOVED, action);
+    }
+
+    private void publish(Run<?, ?> run, Type type, AbstractBadgeAction action) {
+        if (!run.isBuilding()) {
+            // nobody is polling for changes of completed builds
+            return;
+        }
+        Channel channel;
+        synchronized (channels) {
+            channel = channels.computeIfAbsent(run.getExternalizableId(), k -> new Channel());
+        }
+        channel.publish(type, action);
+    }
+
+    /**
+     * @param run the run.
+     * @return the sequence number of the latest change of the given run, {@code 0} if there was none.
+     */
+    public long getSequence(@NonNull Run<?, ?> run) {
+        Channel channel = getChannel(run);
+        return channel != null ? channel.getSequence() : 0;
+    }
+
+    /**
+     * @param run the run.
+     * @param since the last sequence number known to the client.
+     * @return the changes of the given run after the given sequence number.
+     */
+    @NonNull
+    public Delta since(@NonNull Run<?, ?> run, long since) {
+        Channel channel = getChannel(run);
+        if (channel == null) {
+            return new Delta(0, List.of(), since != 0);
+        }
+        return channel.since(since);
+    }
+
+    private Channel getChannel(Run<?, ?> run) {
+        synchronized (channels) {
+            return channels.get(run.getExternalizableId());
+        }
+    }
+
+    private void remove(Run<?, ?> run) {
+        remove(run.getExternalizableId());
+    }
+
+    private void remove(String externalizableId) {
+        synchronized (channels) {
+            channels.remove(externalizableId);
+        }
+    }
+
+    /**
+     * Drops the log of the given run after the given delay.
+     */
+    void finalized(Run<?, ?> run, long delay) {
+        String externalizableId = run.getExternalizableId();
+        if (getChannel(run) != null) {
+            Timer.get().schedule(() -> remove(externalizableId), delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public enum Type {
+        ADDED,
+        UPDATED,
+        REMOVED
+    }
+
+    /**
+     * A single change of a badge or summary.
+     */
+    public static final class Event {
+
+        private final long sequence;
+        private final Type type;
+        private final boolean summary;
+        private final String id;
+
+        Event(long sequence, Type type, AbstractBadgeAction action) {
+            this.sequence = sequence;
+            this.type = type;
+            this.summary = action instanceof BadgeSummaryAction;
+            this.id = action.getId();
+        }
+
+        public long getSequence() {
+            return sequence;
+        }
+
+        public Type getType() {
+            return type;
+        }
+
+        /**
+         * @return the id of the changed badge or summary.
+         */
+        public String getId() {
+            return id;
+        }
+
+        public boolean isSummary() {
+            return summary;
+        }
+    }
+
+    /**
+     * The changes after a given sequence number.
+     * If {@link #isReset()} is {@code true}, the client missed changes and has to reload the badges completely.
+     */
+    public static final class Delta {
+
+        private final long sequence;
+        private final List<Event> events;
+        private final boolean reset;
+
+        Delta(long sequence, List<Event> events, boolean reset) {
+            this.sequence = sequence;
+            this.events = events;
+            this.reset = reset;
+        }
+
+        public long getSequence() {
+            return sequence;
+        }
+
+        public List<Event> getEvents() {
+            return events;
+        }
+
+        public boolean isReset() {
+            return reset;
+        }
+    }
+
+    private static final class Channel {
+
+        private final Deque<Event> events = new ArrayDeque<>();
+        private long sequence;
+
+        synchronized void publish(Type type, AbstractBadgeAction action) {
+            events.addLast(new Event(++sequence, type, action));
+            while (events.size() > MAX_EVENTS) {
+                events.removeFirst();
+            }
+        }
+
+        synchronized long getSequence() {
+            return sequence;
+        }
+
+        synchronized Delta since(long since) {
+            if (since > sequence
+                    || (!events.isEmpty() && since < events.getFirst().getSequence() - 1)) {
+                return new Delta(sequence, List.of(), true);
+            }
+            List<Event> result = new ArrayList<>();
+            for (Event event : events) {
+                if (event.getSequence() > since) {
+                    result.add(event);
+                }
+            }
+            return new Delta(sequence, result, false);
+        }
+    }
+
+    @Extension
+    @SuppressWarnings("unused")
+    public static class RunListenerImpl extends RunListener<Run<?, ?>> {
+
+        @Override
+        public void onFinalized(Run<?, ?> run) {
+            get().finalized(run, FINAL_POLL_WINDOW);
+        }
+
+        @Override
+        public void onDeleted(Run<?, ?> run) {
+            get().remove(run);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.index;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * The differences between the badges and summaries of two builds, computed from their {@link BuildRecord}s.
+ * Badges are matched by kind and id, repeated ids in order of their occurrence. Truncated texts are compared by
+ * their digest, so the builds are not loaded.
+ */
+public final class BadgeDiff {
+
+    private static final Map<String, Function<BadgeRecord, Object>> FIELDS = new LinkedHashMap<>();
+
+    static {
+        FIELDS.put("icon", BadgeRecord::getIcon);
+        FIELDS.put("title", BadgeRecord::getTitle);
+        FIELDS.put("cssClass", BadgeRecord::getCssClass);
+        FIELDS.put("style", BadgeRecord::getStyle);
+        FIELDS.put("link", BadgeRecord::getLink);
+        FIELDS.put("target", BadgeRecord::getTarget);
+        FIELDS.put("value", BadgeRecord::getValue);
+    }
+
+    private final List<BadgeRecord> added = new ArrayList<>();
+    private final List<BadgeRecord> removed = new ArrayList<>();
+    private final List<Change> changed = new ArrayList<>();
+
+    private BadgeDiff() {}
+
+    /**
+     * @param from the record of the older build or null if it has no badges.
+     * @param to the record of the newer build or null if it has no badges.
+     * @return the differences from the first to the second build.
+     */
+    @NonNull
+    public static BadgeDiff compare(@CheckForNull BuildRecord from, @CheckForNull BuildRecord to) {
+        BadgeDiff diff = new BadgeDiff();
+        Map<String, List<BadgeRecord>> previous = new LinkedHashMap<>();
+        if (from != null) {
+            for (BadgeRecord badge : from.getBadges()) {
+                previous.computeIfAbsent(getKey(badge), key -> new ArrayList<>())
+                        .add(badge);
+            }
+        }
+
+        if (to != null) {
+            for (BadgeRecord badge : to.getBadges()) {
+                List<BadgeRecord> candidates = previous.get(getKey(badge));
+                if (candidates == null || candidates.isEmpty()) {
+                    diff.added.add(badge);
+                    continue;
+                }
+                BadgeRecord old = candidates.remove(0);
+                List<String> fields = new ArrayList<>();
+                if (!old.hasSameText(badge)) {
+                    fields.add("text");
+                }
+                FIELDS.forEach((name, getter) -> {
+                    if (!Objects.equals(getter.apply(old), getter.apply(badge))) {
+                        fields.add(name);
+                    }
+                });
+                if (!fields.isEmpty()) {
+                    diff.changed.add(new Change(old, badge, fields));
+                }
+            }
+        }
+
+        previous.values().forEach(diff.removed::addAll);
+        return diff;
+    }
+
+    private static String getKey(BadgeRecord badge) {
+        return badge.getKind() + ":" + badge.getId();
+    }
+
+    /**
+     * @return the badges and summaries only in the newer build.
+     */
+    @NonNull
+    public List<BadgeRecord> getAdded() {
+        return Collections.unmodifiableList(added);
+    }
+
+    /**
+     * @return the badges and summaries only in the older build.
+     */
+    @NonNull
+    public List<BadgeRecord> getRemoved() {
+        return Collections.unmodifiableList(removed);
+    }
+
+    /**
+     * @return the badges and summaries in both builds that differ.
+     */
+    @NonNull
+    public List<Change> getChanged() {
+        return Collections.unmodifiableList(changed);
+    }
+
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && changed.isEmpty();
+    }
+
+    /**
+     * A badge or summary that differs between two builds.
+     */
+    public static final class Change {
+
+        private final BadgeRecord from;
+        private final BadgeRecord to;
+        private final List<String> fields;
+
+        Change(BadgeRecord from, BadgeRecord to, List<String> fields) {
+            this.from = from;
+            this.to = to;
+            this.fields = fields;
+        }
+
+        @NonNull
+        public BadgeRecord getFrom() {
+            return from;
+        }
+
+        @NonNull
+        public BadgeRecord getTo() {
+            return to;
+        }
+
+        /**
+         * @return the names of the changed fields, like <code>text</code> or <code>icon</code>.
+         */
+        @NonNull
+        public List<String> getFields() {
+            return Collections.unmodifiableList(fields);
+        }
+
+        /**
+         * @return whether the text changed and one of the texts is only known truncated.
+         */
+        public boolean isTruncated() {
+            return fields.contains("text") && (from.getTextDigest() != null || to.getTextDigest() != null);
+        }
+    }
+}
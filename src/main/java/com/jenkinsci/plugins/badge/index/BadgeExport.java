@@ -0,0 +1,192 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.index;
+
+import com.jenkinsci.plugins.badge.action.AbstractBadgeAction;
+import com.jenkinsci.plugins.badge.action.BadgeSummaryAction;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Util;
+import hudson.model.ItemGroup;
+import hudson.model.Items;
+import hudson.model.Job;
+import hudson.model.Run;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import jenkins.model.Jenkins;
+import net.sf.json.JSONArray;
+import net.sf.json.JSONObject;
+
+/**
+ * Writes the badges and summaries of all builds of the jobs in an item group as newline-delimited JSON, one line per
+ * build with badges. Records are read page by page from the {@link JobBadgeIndex} of each job, so only texts
+ * truncated in the index require loading the build.
+ * Jobs are written in order of their full name and builds oldest first. Every line carries a <code>resume</code>
+ * token, which continues an interrupted export after that build.
+ */
+public final class BadgeExport {
+
+    static final int PAGE_SIZE = 100;
+
+    private final ItemGroup<?> group;
+    private final String resumeJob;
+    private final int resumeNumber;
+
+    /**
+     * @param group the item group to export the jobs of, recursively.
+     * @param resume the <code>resume</code> token of the last received line or null to start from the beginning.
+     * @throws IllegalArgumentException if the token is invalid.
+     */
+    public BadgeExport(@NonNull ItemGroup<?> group, @CheckForNull String resume) {
+        this.group = group;
+        if (resume == null) {
+            resumeJob = null;
+            resumeNumber = 0;
+        } else {
+            // ':' is not allowed in item names
+            int separator = resume.lastIndexOf(':');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid resume token '" + resume + "'");
+            }
+            resumeJob = resume.substring(0, separator);
+            try {
+                resumeNumber = Integer.parseInt(resume.substring(separator + 1));
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException("Invalid resume token '" + resume + "'", ex);
+            }
+        }
+    }
+
+    /**
+     * Writes all builds with badges of jobs readable by the current user.
+     * @param out the writer, flushed after every page of builds.
+     * @return the number of lines written.
+     * @throws IOException if writing fails.
+     */
+    public int write(@NonNull Writer out) throws IOException {
+        SortedSet<String> names = new TreeSet<>();
+        for (Job<?, ?> job : Items.allItems2(Jenkins.getAuthentication2(), group, Job.class)) {
+            names.add(job.getFullName());
+        }
+        if (resumeJob != null) {
+            names = names.tailSet(resumeJob);
+        }
+
+        int lines = 0;
+        for (String name : names) {
+            // jobs may have been deleted or renamed since listing them
+            Job<?, ?> job = Jenkins.get().getItemByFullName(name, Job.class);
+            if (job != null) {
+                lines += write(out, job, name.equals(resumeJob) ? resumeNumber : 0);
+            }
+        }
+        return lines;
+    }
+
+    private static int write(Writer out, Job<?, ?> job, int after) throws IOException {
+        // exporting does not build missing indexes
+        JobBadgeIndex index = JobBadgeIndex.getIfExists(job);
+        int lines = 0;
+        if (index == null || index.isRebuilding()) {
+            // there is no complete index, walk the builds instead
+            for (Run<?, ?> run = job.getNearestBuild(after + 1);
+                    run != null;
+                    run = job.getNearestBuild(run.getNumber() + 1)) {
+                BuildRecord record = BuildRecord.of(run);
+                if (record != null) {
+                    write(out, job, record, run);
+                    if (++lines % PAGE_SIZE == 0) {
+                        out.flush();
+                    }
+                }
+            }
+        } else {
+            List<BuildRecord> page = index.getBuildsAfter(after, PAGE_SIZE);
+            while (!page.isEmpty()) {
+                for (BuildRecord record : page) {
+                    write(out, job, record, null);
+                    lines++;
+                }
+                out.flush();
+                page = index.getBuildsAfter(page.get(page.size() - 1).getNumber(), PAGE_SIZE);
+            }
+        }
+        out.flush();
+        return lines;
+    }
+
+    private static void write(Writer out, Job<?, ?> job, BuildRecord record, @CheckForNull Run<?, ?> run)
+            throws IOException {
+        JSONObject json = new JSONObject();
+        json.put("job", job.getFullName());
+        json.putAll(record.toJSON(null));
+
+        JSONArray badges = json.getJSONArray("badges");
+        List<BadgeRecord> records = record.getBadges();
+        for (int i = 0; i < records.size(); i++) {
+            BadgeRecord badge = records.get(i);
+            if (badge.getTextDigest() == null) {
+                continue;
+            }
+            // the text was truncated in the index
+            if (run == null) {
+                run = job.getBuildByNumber(record.getNumber());
+            }
+            String text = run != null ? getFullText(run, badge) : null;
+            if (text != null) {
+                badges.getJSONObject(i).put("text", text);
+            }
+        }
+
+        json.put("resume", job.getFullName() + ":" + record.getNumber());
+        json.write(out);
+        out.write('\n');
+    }
+
+    /**
+     * @return the full text of the badge of the run a truncated record was created from, null if the badge changed
+     * since or was removed.
+     */
+    @CheckForNull
+    private static String getFullText(Run<?, ?> run, BadgeRecord badge) {
+        for (AbstractBadgeAction action : run.getActions(AbstractBadgeAction.class)) {
+            if (BadgeRecord.Kind.of(action) == badge.getKind() && action.getId().equals(badge.getId())) {
+                if (action instanceof BadgeSummaryAction summary
+                        && !Objects.equals(summary.getTextDigest(), badge.getTextDigest())) {
+                    // the digest of a summary is known without inflating its text
+                    return null;
+                }
+                String text = action.getRawText();
+                if (text != null && Util.getDigestOf(text).equals(badge.getTextDigest())) {
+                    return text;
+                }
+            }
+        }
+        return null;
+    }
+}
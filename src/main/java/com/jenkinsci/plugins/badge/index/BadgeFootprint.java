@@ -0,0 +1,390 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.index;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.model.Item;
+import hudson.model.ItemGroup;
+import hudson.model.Job;
+import hudson.security.ACL;
+import hudson.security.ACLContext;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jenkins.model.Jenkins;
+import jenkins.util.SystemProperties;
+import jenkins.util.Timer;
+import net.sf.json.JSONArray;
+import net.sf.json.JSONObject;
+
+/**
+ * A report of the storage used by badges and summaries per job and folder, with the builds using the most.
+ * Totals of jobs are taken from their {@link JobBadgeStats}, which are maintained incrementally, and the largest
+ * builds from the records of their {@link JobBadgeIndex}. Reports are computed on a background thread pausing
+ * between jobs, the last report is kept in memory.
+ */
+public final class BadgeFootprint {
+
+    private static final Logger LOGGER = Logger.getLogger(BadgeFootprint.class.getName());
+
+    static final int TOP_BUILDS = 20;
+
+    private static final long PAUSE = SystemProperties.getLong(BadgeFootprint.class.getName() + ".pauseMillis", 10L);
+
+    private static volatile BadgeFootprint last;
+
+    private static Future<?> scan;
+
+    private final long timestamp;
+    private final long duration;
+    private final boolean complete;
+    private final List<Entry> jobs;
+    private final List<Entry> folders;
+    private final List<BuildEntry> builds;
+
+    private BadgeFootprint(
+            long timestamp,
+            long duration,
+            boolean complete,
+            List<Entry> jobs,
+            List<Entry> folders,
+            List<BuildEntry> builds) {
+        this.timestamp = timestamp;
+        this.duration = duration;
+        this.complete = complete;
+        this.jobs = jobs;
+        this.folders = folders;
+        this.builds = builds;
+    }
+
+    /**
+     * @return the last computed report or null if none was computed yet.
+     */
+    @CheckForNull
+    public static BadgeFootprint getLast() {
+        return last;
+    }
+
+    /**
+     * @return whether a report is currently computed.
+     */
+    public static synchronized boolean isScanning() {
+        return scan != null && !scan.isDone();
+    }
+
+    /**
+     * Computes a new report in the background unless one is already being computed.
+     */
+    public static synchronized void scheduleScan() {
+        if (!isScanning()) {
+            scan = Timer.get().submit(BadgeFootprint::scan);
+        }
+    }
+
+    private static void scan() {
+        try (ACLContext ignored = ACL.as2(ACL.SYSTEM2)) {
+            last = compute(Jenkins.get().allItems(Job.class), PAUSE);
+            LOGGER.log(Level.FINE, () -> "Computed badge footprint in " + last.duration + " ms");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException ex) {
+            LOGGER.log(Level.WARNING, "Unable to compute badge footprint", ex);
+        }
+    }
+
+    /**
+     * @param jobs the jobs to include.
+     * @param pause the milliseconds to pause after each job.
+     * @return the report.
+     * @throws InterruptedException if interrupted while pausing.
+     */
+    @NonNull
+    static BadgeFootprint compute(@NonNull Iterable<Job> jobs, long pause) throws InterruptedException {
+        long start = System.currentTimeMillis();
+        boolean complete = true;
+        List<Entry> jobEntries = new ArrayList<>();
+        Map<String, Entry> folderEntries = new HashMap<>();
+        PriorityQueue<BuildEntry> top = new PriorityQueue<>(Comparator.comparingLong(BuildEntry::getTextBytes));
+
+        for (Job<?, ?> job : jobs) {
+            // jobs without an index have no badges recorded yet, they are not indexed just for the report
+            JobBadgeIndex index = JobBadgeIndex.getIfExists(job);
+            if (index == null) {
+                continue;
+            }
+            complete &= !index.isRebuilding();
+            JobBadgeStats stats = index.getStats();
+            if (stats.getBuilds() == 0) {
+                continue;
+            }
+
+            Entry entry = new Entry(job.getFullName(), job.getUrl());
+            entry.add(stats);
+            jobEntries.add(entry);
+            for (ItemGroup<?> parent = job.getParent(); parent instanceof Item item; parent = item.getParent()) {
+                folderEntries
+                        .computeIfAbsent(item.getFullName(), name -> new Entry(name, item.getUrl()))
+                        .add(stats);
+            }
+
+            for (BuildRecord record : index.getBuilds()) {
+                if (top.size() < TOP_BUILDS
+                        || record.getTextBytes() > top.peek().getTextBytes()) {
+                    top.add(new BuildEntry(job.getFullName(), job.getUrl(), record));
+                    if (top.size() > TOP_BUILDS) {
+                        top.poll();
+                    }
+                }
+            }
+            if (pause > 0) {
+                Thread.sleep(pause);
+            }
+        }
+
+        Comparator<Entry> largest =
+                Comparator.comparingLong(Entry::getTextBytes).reversed().thenComparing(Entry::getFullName);
+        jobEntries.sort(largest);
+        List<Entry> folders = new ArrayList<>(folderEntries.values());
+        folders.sort(largest);
+        List<BuildEntry> builds = new ArrayList<>(top);
+        builds.sort(Comparator.comparingLong(BuildEntry::getTextBytes).reversed());
+        return new BadgeFootprint(start, System.currentTimeMillis() - start, complete, jobEntries, folders, builds);
+    }
+
+    /**
+     * @return the time the report was started.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    @NonNull
+    public Date getDate() {
+        return new Date(timestamp);
+    }
+
+    /**
+     * @return the milliseconds it took to compute the report.
+     */
+    public long getDuration() {
+        return duration;
+    }
+
+    /**
+     * @return whether no index was being rebuilt while computing the report.
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * @return the jobs with badges, largest texts first.
+     */
+    @NonNull
+    public List<Entry> getJobs() {
+        return jobs;
+    }
+
+    /**
+     * @return the folders containing jobs with badges, largest texts first.
+     */
+    @NonNull
+    public List<Entry> getFolders() {
+        return folders;
+    }
+
+    /**
+     * @return up to {@value #TOP_BUILDS} builds with the largest texts, largest first.
+     */
+    @NonNull
+    public List<BuildEntry> getBuilds() {
+        return builds;
+    }
+
+    @NonNull
+    public JSONObject toJSON() {
+        JSONArray jobsJson = new JSONArray();
+        jobs.forEach(entry -> jobsJson.add(entry.toJSON()));
+        JSONArray foldersJson = new JSONArray();
+        folders.forEach(entry -> foldersJson.add(entry.toJSON()));
+        JSONArray buildsJson = new JSONArray();
+        builds.forEach(entry -> buildsJson.add(entry.toJSON()));
+
+        JSONObject json = new JSONObject();
+        json.put("timestamp", timestamp);
+        json.put("duration", duration);
+        json.put("complete", complete);
+        json.put("jobs", jobsJson);
+        json.put("folders", foldersJson);
+        json.put("builds", buildsJson);
+        return json;
+    }
+
+    /**
+     * The totals of a job or folder.
+     */
+    public static final class Entry {
+
+        private final String fullName;
+        private final String url;
+        private int builds;
+        private long badges;
+        private long summaries;
+        private long textBytes;
+        private long heapBytes;
+
+        Entry(String fullName, String url) {
+            this.fullName = fullName;
+            this.url = url;
+        }
+
+        private void add(JobBadgeStats stats) {
+            int count = stats.getCount();
+            int summaryCount = stats.getCount(JobBadgeStats.Type.SUMMARY);
+            builds += stats.getBuilds();
+            badges += count - summaryCount;
+            summaries += summaryCount;
+            textBytes += stats.getTextBytes();
+            heapBytes += stats.getEstimatedHeapBytes();
+        }
+
+        @NonNull
+        public String getFullName() {
+            return fullName;
+        }
+
+        @NonNull
+        public String getUrl() {
+            return url;
+        }
+
+        public int getBuilds() {
+            return builds;
+        }
+
+        public long getBadges() {
+            return badges;
+        }
+
+        public long getSummaries() {
+            return summaries;
+        }
+
+        public long getTextBytes() {
+            return textBytes;
+        }
+
+        public long getHeapBytes() {
+            return heapBytes;
+        }
+
+        @NonNull
+        JSONObject toJSON() {
+            JSONObject json = new JSONObject();
+            json.put("name", fullName);
+            json.put("url", url);
+            json.put("builds", builds);
+            json.put("badges", badges);
+            json.put("summaries", summaries);
+            json.put("textBytes", textBytes);
+            json.put("heapBytes", heapBytes);
+            return json;
+        }
+    }
+
+    /**
+     * The totals of a build.
+     */
+    public static final class BuildEntry {
+
+        private final String job;
+        private final String url;
+        private final int number;
+        private final int badges;
+        private final int summaries;
+        private final long textBytes;
+        private final long heapBytes;
+
+        BuildEntry(String job, String jobUrl, BuildRecord record) {
+            this.job = job;
+            this.url = jobUrl + record.getNumber() + "/";
+            this.number = record.getNumber();
+            this.badges = record.getCount(BadgeRecord.Kind.BADGE);
+            this.summaries = record.getCount(BadgeRecord.Kind.SUMMARY);
+            this.textBytes = record.getTextBytes();
+            this.heapBytes = record.getEstimatedHeapBytes();
+        }
+
+        @NonNull
+        public String getJob() {
+            return job;
+        }
+
+        @NonNull
+        public String getUrl() {
+            return url;
+        }
+
+        public int getNumber() {
+            return number;
+        }
+
+        public int getBadges() {
+            return badges;
+        }
+
+        public int getSummaries() {
+            return summaries;
+        }
+
+        public long getTextBytes() {
+            return textBytes;
+        }
+
+        public long getHeapBytes() {
+            return heapBytes;
+        }
+
+        @NonNull
+        JSONObject toJSON() {
+            JSONObject json = new JSONObject();
+            json.put("job", job);
+            json.put("number", number);
+            json.put("url", url);
+            json.put("badges", badges);
+            json.put("summaries", summaries);
+            json.put("textBytes", textBytes);
+            json.put("heapBytes", heapBytes);
+            return json;
+        }
+    }
+}
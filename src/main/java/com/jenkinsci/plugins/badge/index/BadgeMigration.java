@@ -0,0 +1,542 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.index;
+
+import com.jenkinsci.plugins.badge.action.AbstractBadgeAction;
+import com.jenkinsci.plugins.badge.action.BadgeVersionAction;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.XmlFile;
+import hudson.init.InitMilestone;
+import hudson.init.Initializer;
+import hudson.init.Terminator;
+import hudson.model.Job;
+import hudson.model.Run;
+import hudson.security.ACL;
+import hudson.security.ACLContext;
+import hudson.util.DaemonThreadFactory;
+import hudson.util.NamingThreadFactory;
+import hudson.util.XStream2;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jenkins.model.Jenkins;
+import jenkins.util.SystemProperties;
+import net.sf.json.JSONArray;
+import net.sf.json.JSONObject;
+
+/**
+ * A background migration of the badges and summaries of existing builds, started by administrators. It walks all
+ * jobs with a bounded number of workers, lets every action rewrite legacy values with
+ * {@link AbstractBadgeAction#migrate()}, saves the builds that changed and makes sure the {@link JobBadgeIndex} of
+ * every job exists and is up to date.
+ * Builds are visited at a limited rate shared by all workers. The migration can be paused and resumed, and its
+ * progress is checkpointed to <code>badge-migration.xml</code> in the Jenkins home, so a migration running when
+ * Jenkins stops is resumed after a restart without visiting the completed jobs again. Migrating a build twice does
+ * no harm, so jobs completed after the last checkpoint are simply visited again.
+ */
+public final class BadgeMigration {
+
+    private static final Logger LOGGER = Logger.getLogger(BadgeMigration.class.getName());
+
+    static final String FILE_NAME = "badge-migration.xml";
+
+    public static final int MAX_WORKERS = 16;
+
+    static final int DEFAULT_WORKERS = SystemProperties.getInteger(BadgeMigration.class.getName() + ".workers", 2);
+
+    static final int DEFAULT_BUILDS_PER_SECOND =
+            SystemProperties.getInteger(BadgeMigration.class.getName() + ".buildsPerSecond", 50);
+
+    private static final long CHECKPOINT_INTERVAL =
+            SystemProperties.getLong(BadgeMigration.class.getName() + ".checkpointMillis", 10000L);
+
+    private static final long STOP_TIMEOUT = 10;
+
+    private static final ThreadFactory THREAD_FACTORY =
+            new NamingThreadFactory(new DaemonThreadFactory(), "BadgeMigration");
+
+    private static final XStream2 XSTREAM = new XStream2();
+
+    private static BadgeMigration instance;
+
+    static {
+        XSTREAM.alias("badge-migration", BadgeMigration.class);
+    }
+
+    public enum State {
+        IDLE,
+        RUNNING,
+        PAUSED,
+        COMPLETED
+    }
+
+    private State state = State.IDLE;
+    private int workers = DEFAULT_WORKERS;
+    private int buildsPerSecond = DEFAULT_BUILDS_PER_SECOND;
+    private long started;
+    private long finished;
+    private int jobs;
+    private Set<String> completed = new HashSet<>();
+    private long builds;
+    private long migratedBuilds;
+    private long migratedActions;
+    private int failures;
+
+    private transient Set<String> current = new TreeSet<>();
+    private transient Future<?> task;
+    private transient boolean stopping;
+    private transient long nextSlot;
+    private transient long lastCheckpoint;
+
+    private BadgeMigration() {}
+
+    private Object readResolve() {
+        if (completed == null) {
+            completed = new HashSet<>();
+        }
+        current = new TreeSet<>();
+        return this;
+    }
+
+    /**
+     * @return the migration, loaded from its checkpoint on first access.
+     */
+    @NonNull
+    public static synchronized BadgeMigration get() {
+        if (instance == null) {
+            instance = load();
+        }
+        return instance;
+    }
+
+    private static BadgeMigration load() {
+        XmlFile file = getFile();
+        if (file.exists()) {
+            try {
+                return (BadgeMigration) file.read();
+            } catch (IOException | RuntimeException ex) {
+                LOGGER.log(Level.WARNING, ex, () -> "Unable to load badge migration checkpoint, starting over");
+            }
+        }
+        return new BadgeMigration();
+    }
+
+    private static XmlFile getFile() {
+        return new XmlFile(XSTREAM, new File(Jenkins.get().getRootDir(), FILE_NAME));
+    }
+
+    /**
+     * Starts a new migration of all jobs, unless one is active.
+     * @param workers the number of jobs migrated in parallel, at most {@value #MAX_WORKERS}.
+     * @param buildsPerSecond the maximum number of builds visited per second by all workers, or 0 for no limit.
+     */
+    public synchronized void start(int workers, int buildsPerSecond) {
+        if (workers < 1 || workers > MAX_WORKERS || buildsPerSecond < 0) {
+            throw new IllegalArgumentException(
+                    "Invalid number of workers " + workers + " or builds per second " + buildsPerSecond);
+        }
+        if (isActive()) {
+            return;
+        }
+        this.workers = workers;
+        this.buildsPerSecond = buildsPerSecond;
+        started = System.currentTimeMillis();
+        finished = 0;
+        jobs = 0;
+        completed.clear();
+        builds = 0;
+        migratedBuilds = 0;
+        migratedActions = 0;
+        failures = 0;
+        launch();
+    }
+
+    /**
+     * Pauses a running migration. Workers stop after the build they are migrating, so the migration remains
+     * {@link #isActive() active} for a short while.
+     */
+    public synchronized void pause() {
+        if (state == State.RUNNING) {
+            state = State.PAUSED;
+            saveQuietly();
+        }
+    }
+
+    /**
+     * Resumes a paused migration with the jobs not completed yet.
+     * @return whether the migration was resumed, i.e. it was paused and its workers have stopped.
+     */
+    public synchronized boolean resume() {
+        if (state != State.PAUSED || isActive()) {
+            return false;
+        }
+        launch();
+        return true;
+    }
+
+    private void launch() {
+        state = State.RUNNING;
+        stopping = false;
+        nextSlot = System.nanoTime();
+        saveQuietly();
+        // the migration runs for long, so not on a shared timer thread
+        ExecutorService coordinator = Executors.newSingleThreadExecutor(THREAD_FACTORY);
+        task = coordinator.submit(this::run);
+        coordinator.shutdown();
+    }
+
+    private void run() {
+        Queue<Job<?, ?>> queue = new ConcurrentLinkedQueue<>();
+        try (ACLContext ignored = ACL.as2(ACL.SYSTEM2)) {
+            int count = 0;
+            for (Job<?, ?> job : Jenkins.get().allItems(Job.class)) {
+                count++;
+                if (!isCompleted(job.getFullName())) {
+                    queue.add(job);
+                }
+            }
+            synchronized (this) {
+                jobs = count;
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers, THREAD_FACTORY);
+        try {
+            for (int i = 0; i < workers; i++) {
+                executor.execute(() -> work(queue));
+            }
+            executor.shutdown();
+            while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                if (isStopping()) {
+                    executor.shutdownNow();
+                }
+            }
+        } catch (InterruptedException ex) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        synchronized (this) {
+            if (state == State.RUNNING && !stopping && queue.isEmpty()) {
+                state = State.COMPLETED;
+                finished = System.currentTimeMillis();
+                LOGGER.log(
+                        Level.INFO,
+                        () -> "Migrated badges of " + migratedBuilds + " of " + builds + " builds in "
+                                + completed.size() + " jobs");
+            }
+            saveQuietly();
+        }
+    }
+
+    private void work(Queue<Job<?, ?>> queue) {
+        try (ACLContext ignored = ACL.as2(ACL.SYSTEM2)) {
+            Job<?, ?> job;
+            while (isRunning() && (job = queue.poll()) != null) {
+                String name = job.getFullName();
+                synchronized (this) {
+                    current.add(name);
+                }
+                try {
+                    if (migrate(job)) {
+                        synchronized (this) {
+                            completed.add(name);
+                        }
+                        checkpoint();
+                    }
+                } catch (InterruptedException ex) {
+                    return;
+                } catch (IOException | RuntimeException ex) {
+                    LOGGER.log(Level.WARNING, ex, () -> "Unable to migrate badges of " + name);
+                    synchronized (this) {
+                        failures++;
+                        completed.add(name);
+                    }
+                } finally {
+                    synchronized (this) {
+                        current.remove(name);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return whether all builds of the job were migrated, false if the migration was paused or stopped.
+     */
+    private boolean migrate(Job<?, ?> job) throws IOException, InterruptedException {
+        List<Run<?, ?>> changed = new ArrayList<>();
+        for (Run<?, ?> run : job.getBuilds()) {
+            if (!isRunning()) {
+                return false;
+            }
+            throttle();
+            int count = 0;
+            // running builds save themselves, their badges are migrated by the next migration
+            if (!run.isBuilding()) {
+                for (AbstractBadgeAction action : run.getActions(AbstractBadgeAction.class)) {
+                    if (action.migrate()) {
+                        count++;
+                    }
+                }
+                if (count > 0) {
+                    BadgeVersionAction.changedInPlace(run);
+                    run.save();
+                    changed.add(run);
+                }
+            }
+            synchronized (this) {
+                builds++;
+                migratedBuilds += count > 0 ? 1 : 0;
+                migratedActions += count;
+            }
+        }
+
+        // loading the index rebuilds it if it is missing
+        JobBadgeIndex index = JobBadgeIndex.get(job);
+        changed.forEach(index::update);
+        return true;
+    }
+
+    /**
+     * Waits for the next slot to visit a build, spacing the builds visited by all workers evenly.
+     */
+    private void throttle() throws InterruptedException {
+        if (buildsPerSecond <= 0) {
+            return;
+        }
+        long interval = TimeUnit.SECONDS.toNanos(1) / buildsPerSecond;
+        long now = System.nanoTime();
+        long slot;
+        synchronized (this) {
+            slot = nextSlot - now > 0 ? nextSlot : now;
+            nextSlot = slot + interval;
+        }
+        if (slot - now > 0) {
+            TimeUnit.NANOSECONDS.sleep(slot - now);
+        }
+    }
+
+    private synchronized void checkpoint() {
+        long now = System.currentTimeMillis();
+        if (now - lastCheckpoint >= CHECKPOINT_INTERVAL) {
+            saveQuietly();
+        }
+    }
+
+    private synchronized void saveQuietly() {
+        lastCheckpoint = System.currentTimeMillis();
+        try {
+            getFile().write(this);
+        } catch (IOException ex) {
+            LOGGER.log(Level.WARNING, "Unable to save badge migration checkpoint", ex);
+        }
+    }
+
+    private synchronized boolean isCompleted(String name) {
+        return completed.contains(name);
+    }
+
+    private synchronized boolean isRunning() {
+        return state == State.RUNNING && !stopping;
+    }
+
+    private synchronized boolean isStopping() {
+        return stopping;
+    }
+
+    @NonNull
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * @return whether workers are migrating builds, which may still be the case shortly after pausing.
+     */
+    public synchronized boolean isActive() {
+        return task != null && !task.isDone();
+    }
+
+    public synchronized int getWorkers() {
+        return workers;
+    }
+
+    public synchronized int getBuildsPerSecond() {
+        return buildsPerSecond;
+    }
+
+    /**
+     * @return the start of the migration or null if it was never started.
+     */
+    @CheckForNull
+    public synchronized Date getStarted() {
+        return started > 0 ? new Date(started) : null;
+    }
+
+    /**
+     * @return the end of the migration or null if it has not completed.
+     */
+    @CheckForNull
+    public synchronized Date getFinished() {
+        return finished > 0 ? new Date(finished) : null;
+    }
+
+    /**
+     * @return the number of jobs to migrate, known once the migration has started.
+     */
+    public synchronized int getJobs() {
+        return jobs;
+    }
+
+    public synchronized int getCompletedJobs() {
+        return completed.size();
+    }
+
+    /**
+     * @return the percentage of completed jobs.
+     */
+    public synchronized int getProgress() {
+        if (state == State.COMPLETED) {
+            return 100;
+        }
+        return jobs > 0 ? (int) Math.min(99, 100L * completed.size() / jobs) : 0;
+    }
+
+    /**
+     * @return the number of builds visited.
+     */
+    public synchronized long getBuilds() {
+        return builds;
+    }
+
+    /**
+     * @return the number of builds changed and saved.
+     */
+    public synchronized long getMigratedBuilds() {
+        return migratedBuilds;
+    }
+
+    public synchronized long getMigratedActions() {
+        return migratedActions;
+    }
+
+    /**
+     * @return the number of jobs that could not be migrated, see the log for details.
+     */
+    public synchronized int getFailures() {
+        return failures;
+    }
+
+    /**
+     * @return the full names of the jobs being migrated.
+     */
+    @NonNull
+    public synchronized List<String> getCurrentJobs() {
+        return new ArrayList<>(current);
+    }
+
+    @NonNull
+    public synchronized JSONObject toJSON() {
+        JSONObject json = new JSONObject();
+        json.put("state", state.name());
+        json.put("active", isActive());
+        json.put("workers", workers);
+        json.put("buildsPerSecond", buildsPerSecond);
+        json.put("started", started);
+        json.put("finished", finished);
+        json.put("jobs", jobs);
+        json.put("completedJobs", completed.size());
+        json.put("progress", getProgress());
+        json.put("builds", builds);
+        json.put("migratedBuilds", migratedBuilds);
+        json.put("migratedActions", migratedActions);
+        json.put("failures", failures);
+        json.put("currentJobs", JSONArray.fromObject(current));
+        return json;
+    }
+
+    /**
+     * Resumes a migration that was running when Jenkins stopped.
+     */
+    @Initializer(after = InitMilestone.COMPLETED)
+    @SuppressWarnings("unused")
+    public static void init() {
+        BadgeMigration migration = load();
+        synchronized (BadgeMigration.class) {
+            instance = migration;
+        }
+        synchronized (migration) {
+            if (migration.state == State.RUNNING) {
+                LOGGER.log(Level.INFO, "Resuming badge migration");
+                migration.launch();
+            }
+        }
+    }
+
+    /**
+     * Stops the workers on shutdown, waiting briefly for the checkpoint to be written with the migration still
+     * running, so it is resumed after the restart.
+     */
+    @Terminator
+    public static void stop() {
+        BadgeMigration migration;
+        synchronized (BadgeMigration.class) {
+            migration = instance;
+        }
+        if (migration == null) {
+            return;
+        }
+        Future<?> task;
+        synchronized (migration) {
+            migration.stopping = true;
+            task = migration.task;
+        }
+        if (task != null) {
+            try {
+                task.get(STOP_TIMEOUT, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | TimeoutException ex) {
+                LOGGER.log(Level.FINE, "Badge migration did not stop in time", ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.index;
+
+import com.jenkinsci.plugins.badge.action.AbstractBadgeAction;
+import com.jenkinsci.plugins.badge.action.BadgeSummaryAction;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Util;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import net.sf.json.JSONObject;
+
+/**
+ * An immutable copy of a badge or summary as stored in a {@link JobBadgeIndex}.
+ * Icon and text are kept as stored in the action, i.e. without replacing legacy icons or applying the markup
+ * formatter, and long texts are truncated. Truncated texts keep a digest of the full text, so they can be compared
+ * without loading the build.
+ */
+public final class BadgeRecord {
+
+    /**
+     * The kind of action a record was created from.
+     */
+    public enum Kind {
+        BADGE,
+        SUMMARY;
+
+        /**
+         * @param action the badge or summary.
+         * @return the kind of the action.
+         */
+        @NonNull
+        public static Kind of(@NonNull AbstractBadgeAction action) {
+            return action instanceof BadgeSummaryAction ? SUMMARY : BADGE;
+        }
+    }
+
+    /**
+     * The maximum number of characters of a text kept in the index.
+     */
+    static final int MAX_TEXT_LENGTH = 1024;
+
+    private static final Map<String, Function<BadgeRecord, Object>> FIELDS = new LinkedHashMap<>();
+
+    static {
+        FIELDS.put("id", BadgeRecord::getId);
+        FIELDS.put("kind", record -> record.getKind().name().toLowerCase(Locale.ROOT));
+        FIELDS.put("icon", BadgeRecord::getIcon);
+        FIELDS.put("text", BadgeRecord::getText);
+        FIELDS.put("title", BadgeRecord::getTitle);
+        FIELDS.put("cssClass", BadgeRecord::getCssClass);
+        FIELDS.put("style", BadgeRecord::getStyle);
+        FIELDS.put("link", BadgeRecord::getLink);
+        FIELDS.put("target", BadgeRecord::getTarget);
+        FIELDS.put("value", BadgeRecord::getValue);
+    }
+
+    private final Kind kind;
+    private final String id;
+    private final String icon;
+    private final String text;
+    private final String title;
+    private final String cssClass;
+    private final String style;
+    private final String link;
+    private final String target;
+    private final String textDigest;
+    private final Double value;
+
+    BadgeRecord(
+            Kind kind,
+            String id,
+            String icon,
+            String text,
+            String title,
+            String cssClass,
+            String style,
+            String link,
+            String target) {
+        this(kind, id, icon, text, title, cssClass, style, link, target, null, null);
+    }
+
+    BadgeRecord(
+            Kind kind,
+            String id,
+            String icon,
+            String text,
+            String title,
+            String cssClass,
+            String style,
+            String link,
+            String target,
+            String textDigest,
+            Double value) {
+        this.kind = kind;
+        this.id = id;
+        this.icon = icon;
+        this.text = text;
+        this.title = title;
+        this.cssClass = cssClass;
+        this.style = style;
+        this.link = link;
+        this.target = target;
+        this.textDigest = textDigest;
+        this.value = value;
+    }
+
+    /**
+     * @param action the badge or summary.
+     * @return a record of the current state of the action.
+     */
+    @NonNull
+    public static BadgeRecord of(@NonNull AbstractBadgeAction action) {
+        if (action instanceof BadgeSummaryAction summary) {
+            // large summaries are stored compressed, only the beginning of the text is inflated
+            return of(
+                    action,
+                    truncate(summary.getTextPrefix(MAX_TEXT_LENGTH)),
+                    summary.getTextLength() > MAX_TEXT_LENGTH ? summary.getTextDigest() : null);
+        }
+        return of(action, action.getRawText());
+    }
+
+    /**
+     * @param action the badge or summary.
+     * @param text the raw text of the action, if already read.
+     * @return a record of the current state of the action.
+     */
+    @NonNull
+    static BadgeRecord of(@NonNull AbstractBadgeAction action, @CheckForNull String text) {
+        String textDigest = null;
+        if (text != null && text.length() > MAX_TEXT_LENGTH) {
+            textDigest = Util.getDigestOf(text);
+            text = truncate(text);
+        }
+        return of(action, text, textDigest);
+    }
+
+    /**
+     * Truncates a text to {@value #MAX_TEXT_LENGTH} characters without splitting a surrogate pair.
+     */
+    @CheckForNull
+    static String truncate(@CheckForNull String text) {
+        if (text == null || text.length() < MAX_TEXT_LENGTH) {
+            return text;
+        }
+        int end = Character.isHighSurrogate(text.charAt(MAX_TEXT_LENGTH - 1)) ? MAX_TEXT_LENGTH - 1 : MAX_TEXT_LENGTH;
+        return text.substring(0, end);
+    }
+
+    @NonNull
+    private static BadgeRecord of(
+            @NonNull AbstractBadgeAction action, @CheckForNull String text, @CheckForNull String textDigest) {
+        Kind kind = Kind.of(action);
+        boolean summary = kind == Kind.SUMMARY;
+        return new BadgeRecord(
+                kind,
+                action.getId(),
+                action.getRawIcon(),
+                text,
+                summary ? ((BadgeSummaryAction) action).getTitle() : null,
+                action.getCssClass(),
+                action.getStyle(),
+                action.getLink(),
+                action.getTarget(),
+                textDigest,
+                action.getValue());
+    }
+
+    @NonNull
+    public Kind getKind() {
+        return kind;
+    }
+
+    @NonNull
+    public String getId() {
+        return id;
+    }
+
+    @CheckForNull
+    public String getIcon() {
+        return icon;
+    }
+
+    /**
+     * @return the untranslated text, truncated to {@value #MAX_TEXT_LENGTH} characters.
+     */
+    @CheckForNull
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * @return a digest of the full text if it was truncated, otherwise null.
+     */
+    @CheckForNull
+    public String getTextDigest() {
+        return textDigest;
+    }
+
+    /**
+     * Compares the text of two records, using the digest of truncated texts.
+     * @param other the other record.
+     * @return whether both records have the same text.
+     */
+    public boolean hasSameText(@NonNull BadgeRecord other) {
+        return Objects.equals(text, other.text) && Objects.equals(textDigest, other.textDigest);
+    }
+
+    @CheckForNull
+    public String getTitle() {
+        return title;
+    }
+
+    @CheckForNull
+    public String getCssClass() {
+        return cssClass;
+    }
+
+    @CheckForNull
+    public String getStyle() {
+        return style;
+    }
+
+    @CheckForNull
+    public String getLink() {
+        return link;
+    }
+
+    @CheckForNull
+    public String getTarget() {
+        return target;
+    }
+
+    /**
+     * @return the numeric value of the badge or null if it has none.
+     */
+    @CheckForNull
+    public Double getValue() {
+        return value;
+    }
+
+    /**
+     * @return the names of the fields available for {@link #toJSON(Set)}.
+     */
+    @NonNull
+    public static List<String> getFieldNames() {
+        return List.copyOf(FIELDS.keySet());
+    }
+
+    /**
+     * @param fields the fields to include, all fields if null.
+     * @return a JSON object with the selected non-null fields of this record.
+     */
+    @NonNull
+    public JSONObject toJSON(@CheckForNull Set<String> fields) {
+        JSONObject json = new JSONObject();
+        FIELDS.forEach((name, getter) -> {
+            Object value = getter.apply(this);
+            if ((fields == null || fields.contains(name)) && value != null) {
+                json.put(name, value);
+            }
+        });
+        return json;
+    }
+}
@@ -0,0 +1,380 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.index;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.ExtensionList;
+import hudson.init.InitMilestone;
+import hudson.init.Initializer;
+import hudson.model.Job;
+import hudson.security.ACL;
+import hudson.security.ACLContext;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import jenkins.model.Jenkins;
+
+/**
+ * An in-memory inverted index of the badges and summaries of all jobs, answering queries by badge id, kind, icon
+ * and text without loading any build.
+ * It is built from the existing {@link JobBadgeIndex} files on startup and kept up to date by the indexes, so the
+ * per-job index files are its persistent form. Jobs without an index file are added once their index is built,
+ * i.e. when their badges change. As it is kept current on every change of a badge, it also serves the latest
+ * build with badges of each job, see {@link #getLatest(String)}.
+ */
+@Extension
+public class BadgeSearchIndex {
+
+    private static final Logger LOGGER = Logger.getLogger(BadgeSearchIndex.class.getName());
+
+    private static final Pattern TAGS = Pattern.compile("<[^>]*>");
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    /**
+     * The indexed builds by job, sorted by number so the latest build of a job is at hand.
+     */
+    private final Map<String, NavigableMap<Integer, BuildRecord>> jobs = new HashMap<>();
+
+    private final Map<String, Set<RunRef>> ids = new HashMap<>();
+    /**
+     * The postings by token, sorted to look up tokens by prefix.
+     */
+    private final NavigableMap<String, Set<RunRef>> tokens = new TreeMap<>();
+
+    private volatile boolean loading;
+
+    private record RunRef(String job, int number) {}
+
+    @NonNull
+    public static BadgeSearchIndex get() {
+        return ExtensionList.lookupSingleton(BadgeSearchIndex.class);
+    }
+
+    /**
+     * @return whether the index is being loaded and may be incomplete.
+     */
+    public boolean isLoading() {
+        return loading;
+    }
+
+    /**
+     * @return the number of indexed builds.
+     */
+    public synchronized int size() {
+        return jobs.values().stream().mapToInt(Map::size).sum();
+    }
+
+    /**
+     * @param job the full name of the job.
+     * @return the latest indexed build with badges of the job, or null if the job has none or no index.
+     */
+    @CheckForNull
+    public synchronized BuildRecord getLatest(@NonNull String job) {
+        NavigableMap<Integer, BuildRecord> builds = jobs.get(job);
+        return builds != null ? builds.lastEntry().getValue() : null;
+    }
+
+    synchronized void put(@NonNull String job, @NonNull BuildRecord build) {
+        remove(job, build.getNumber());
+        jobs.computeIfAbsent(job, k -> new TreeMap<>()).put(build.getNumber(), build);
+
+        RunRef ref = new RunRef(job, build.getNumber());
+        for (BadgeRecord badge : build.getBadges()) {
+            ids.computeIfAbsent(badge.getId(), k -> new HashSet<>()).add(ref);
+            for (String token : tokenize(badge.getText())) {
+                tokens.computeIfAbsent(token, k -> new HashSet<>()).add(ref);
+            }
+        }
+    }
+
+    synchronized void remove(@NonNull String job, int number) {
+        Map<Integer, BuildRecord> builds = jobs.get(job);
+        BuildRecord build = builds != null ? builds.remove(number) : null;
+        if (build == null) {
+            return;
+        }
+        if (builds.isEmpty()) {
+            jobs.remove(job);
+        }
+
+        RunRef ref = new RunRef(job, number);
+        for (BadgeRecord badge : build.getBadges()) {
+            removePosting(ids, badge.getId(), ref);
+            for (String token : tokenize(badge.getText())) {
+                removePosting(tokens, token, ref);
+            }
+        }
+    }
+
+    synchronized void replaceJob(@NonNull String job, @NonNull Collection<BuildRecord> builds) {
+        removeJob(job);
+        builds.forEach(build -> put(job, build));
+    }
+
+    synchronized void removeJob(@NonNull String job) {
+        Map<Integer, BuildRecord> builds = jobs.get(job);
+        if (builds != null) {
+            new ArrayList<>(builds.keySet()).forEach(number -> remove(job, number));
+        }
+    }
+
+    /**
+     * Removes a job, or all jobs within a folder.
+     * @param item the full name of the job or folder.
+     */
+    synchronized void removeItem(@NonNull String item) {
+        for (String job : new ArrayList<>(jobs.keySet())) {
+            if (job.equals(item) || job.startsWith(item + "/")) {
+                removeJob(job);
+            }
+        }
+    }
+
+    private static void removePosting(Map<String, Set<RunRef>> postings, String key, RunRef ref) {
+        Set<RunRef> refs = postings.get(key);
+        if (refs != null && refs.remove(ref) && refs.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+    /**
+     * Splits a text into normalized tokens: markup is removed, the text is lower cased and split at everything
+     * but letters and digits.
+     * @param text the text.
+     * @return the distinct tokens of the text.
+     */
+    @NonNull
+    public static Set<String> tokenize(@CheckForNull String text) {
+        Set<String> result = new LinkedHashSet<>();
+        if (text != null) {
+            for (String token :
+                    SEPARATORS.split(TAGS.matcher(text).replaceAll(" ").toLowerCase(Locale.ROOT))) {
+                if (!token.isEmpty()) {
+                    result.add(token);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds builds with badges matching all given criteria, newest first. Only builds of jobs the current user can
+     * read are returned.
+     * @param id the badge id, or null for any.
+     * @param text terms that must all be prefixes of tokens of the badge text, or null for any.
+     * @param kind the kind of badge, or null for any.
+     * @param icon the stored icon of the badge, or null for any.
+     * @param limit the maximum number of results.
+     * @return the matching builds with their matching badges.
+     */
+    @NonNull
+    public List<Hit> search(
+            @CheckForNull String id,
+            @CheckForNull String text,
+            @CheckForNull BadgeRecord.Kind kind,
+            @CheckForNull String icon,
+            int limit) {
+        return search(null, id, text, kind, icon, limit);
+    }
+
+    /**
+     * Finds builds of a single job, or of all jobs, with badges matching all given criteria, newest first.
+     * @param job the full name of the job, or null for all jobs.
+     * @see #search(String, String, BadgeRecord.Kind, String, int)
+     */
+    @NonNull
+    public List<Hit> search(
+            @CheckForNull String job,
+            @CheckForNull String id,
+            @CheckForNull String text,
+            @CheckForNull BadgeRecord.Kind kind,
+            @CheckForNull String icon,
+            int limit) {
+        Set<String> terms = tokenize(text);
+        List<Hit> candidates = new ArrayList<>();
+        JobBadgeIndex.flushAll();
+
+        synchronized (this) {
+            Set<RunRef> refs = null;
+            if (id != null) {
+                refs = new HashSet<>(ids.getOrDefault(id, Set.of()));
+            }
+            for (String term : terms) {
+                Set<RunRef> matching = new HashSet<>();
+                for (Set<RunRef> postings : withPrefix(term).values()) {
+                    matching.addAll(postings);
+                }
+                if (refs == null) {
+                    refs = matching;
+                } else {
+                    refs.retainAll(matching);
+                }
+            }
+            if (refs == null) {
+                refs = new HashSet<>();
+                for (Map.Entry<String, NavigableMap<Integer, BuildRecord>> entry : jobs.entrySet()) {
+                    if (job == null || job.equals(entry.getKey())) {
+                        for (Integer number : entry.getValue().keySet()) {
+                            refs.add(new RunRef(entry.getKey(), number));
+                        }
+                    }
+                }
+            } else if (job != null) {
+                refs.removeIf(ref -> !ref.job().equals(job));
+            }
+
+            for (RunRef ref : refs) {
+                BuildRecord build = jobs.get(ref.job()).get(ref.number());
+                List<BadgeRecord> badges = build.getBadges().stream()
+                        .filter(badge -> id == null || id.equals(badge.getId()))
+                        .filter(badge -> kind == null || kind == badge.getKind())
+                        .filter(badge -> icon == null || icon.equals(badge.getIcon()))
+                        .filter(badge -> matches(badge, terms))
+                        .toList();
+                if (!badges.isEmpty()) {
+                    candidates.add(new Hit(ref.job(), build, badges));
+                }
+            }
+        }
+
+        candidates.sort(Comparator.comparingLong((Hit hit) -> hit.getBuild().getTimestamp())
+                .reversed());
+
+        Map<String, Job<?, ?>> readable = new HashMap<>();
+        List<Hit> result = new ArrayList<>();
+        for (Hit hit : candidates) {
+            if (result.size() >= limit) {
+                break;
+            }
+            Job<?, ?> resolved = readable.computeIfAbsent(
+                    hit.getJobName(), name -> Jenkins.get().getItemByFullName(name, Job.class));
+            if (resolved != null) {
+                hit.job = resolved;
+                result.add(hit);
+            }
+        }
+        return result;
+    }
+
+    private SortedMap<String, Set<RunRef>> withPrefix(String prefix) {
+        return tokens.subMap(prefix, prefix + Character.MAX_VALUE);
+    }
+
+    private static boolean matches(BadgeRecord badge, Set<String> terms) {
+        if (terms.isEmpty()) {
+            return true;
+        }
+        Set<String> badgeTokens = tokenize(badge.getText());
+        return terms.stream().allMatch(term -> badgeTokens.stream().anyMatch(token -> token.startsWith(term)));
+    }
+
+    /**
+     * Rebuilds this index from the existing indexes of all jobs. Indexes are not built for jobs without one.
+     */
+    public void reload() {
+        loading = true;
+        try (ACLContext ignored = ACL.as2(ACL.SYSTEM2)) {
+            synchronized (this) {
+                jobs.clear();
+                ids.clear();
+                tokens.clear();
+            }
+            for (Job<?, ?> job : Jenkins.get().allItems(Job.class)) {
+                JobBadgeIndex index = JobBadgeIndex.getIfExists(job);
+                if (index != null) {
+                    index.publish();
+                }
+            }
+            LOGGER.log(Level.FINE, () -> "Loaded badge search index with " + size() + " builds");
+        } finally {
+            loading = false;
+        }
+    }
+
+    @Initializer(after = InitMilestone.JOB_CONFIG_ADAPTED)
+    @SuppressWarnings("unused")
+    public static void init() {
+        BadgeSearchIndex index = get();
+        index.loading = true;
+        JobBadgeIndex.execute(index::reload);
+    }
+
+    /**
+     * A build with badges matching a query.
+     */
+    public static final class Hit {
+
+        private final String jobName;
+        private final BuildRecord build;
+        private final List<BadgeRecord> badges;
+        private Job<?, ?> job;
+
+        Hit(String jobName, BuildRecord build, List<BadgeRecord> badges) {
+            this.jobName = jobName;
+            this.build = build;
+            this.badges = badges;
+        }
+
+        @NonNull
+        public String getJobName() {
+            return jobName;
+        }
+
+        /**
+         * @return the job of the build, resolved for the user that ran the query.
+         */
+        public Job<?, ?> getJob() {
+            return job;
+        }
+
+        @NonNull
+        public BuildRecord getBuild() {
+            return build;
+        }
+
+        /**
+         * @return the badges of the build matching the query.
+         */
+        @NonNull
+        public List<BadgeRecord> getBadges() {
+            return badges;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.index;
+
+import com.jenkinsci.plugins.badge.action.AbstractBadgeAction;
+import com.jenkinsci.plugins.badge.action.BadgeSummaryAction;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.model.Result;
+import hudson.model.Run;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import net.sf.json.JSONArray;
+import net.sf.json.JSONObject;
+
+/**
+ * The badges and summaries of a single build as stored in a {@link JobBadgeIndex}.
+ */
+public final class BuildRecord {
+
+    /**
+     * A rough estimate of the heap used by a badge action without its text, for the object itself and its id, icon
+     * and style strings.
+     */
+    static final int ACTION_HEAP_BYTES = 256;
+
+    /**
+     * The records of the badges of recently changed runs, so a change of a single badge does not recompute the
+     * records and text sizes of the other badges of the run. Entries are dropped with the action or when it changes.
+     */
+    private static final Map<AbstractBadgeAction, ActionRecord> RECORDS =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private record ActionRecord(BadgeRecord badge, long textBytes) {
+        static ActionRecord of(AbstractBadgeAction action) {
+            if (action instanceof BadgeSummaryAction summary) {
+                // summaries know the size of their text without inflating it
+                return new ActionRecord(BadgeRecord.of(summary), summary.getTextBytes());
+            }
+            String text = action.getRawText();
+            return new ActionRecord(BadgeRecord.of(action, text), utf8Length(text));
+        }
+    }
+
+    private final int number;
+    private final long timestamp;
+    private final String result;
+    private final List<BadgeRecord> badges;
+
+    /**
+     * The size of the full texts of all badges, which may be truncated in the records.
+     */
+    private final long textBytes;
+
+    BuildRecord(int number, long timestamp, String result, List<BadgeRecord> badges, long textBytes) {
+        this.number = number;
+        this.timestamp = timestamp;
+        this.result = result;
+        this.badges = badges;
+        this.textBytes = textBytes;
+    }
+
+    /**
+     * @param text the text or null.
+     * @return the number of bytes of the text encoded as UTF-8, as in <code>build.xml</code>, without encoding it.
+     */
+    static long utf8Length(@CheckForNull String text) {
+        if (text == null) {
+            return 0;
+        }
+        long bytes = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length()) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * @param run the run.
+     * @return a record of the current badges and summaries of the run or null if it has none.
+     */
+    @CheckForNull
+    public static BuildRecord of(@NonNull Run<?, ?> run) {
+        return of(run, false);
+    }
+
+    /**
+     * Like {@link #of(Run)}, but reuses the records of badges that did not change since they were last recorded.
+     * @param run the run.
+     * @return a record of the current badges and summaries of the run or null if it has none.
+     * @see #invalidate(AbstractBadgeAction)
+     */
+    @CheckForNull
+    static BuildRecord ofChanged(@NonNull Run<?, ?> run) {
+        return of(run, true);
+    }
+
+    /**
+     * Drops the cached record of a changed badge.
+     * @param action the badge or summary.
+     */
+    static void invalidate(@NonNull AbstractBadgeAction action) {
+        RECORDS.remove(action);
+    }
+
+    private static BuildRecord of(Run<?, ?> run, boolean cached) {
+        List<BadgeRecord> badges = new ArrayList<>();
+        long textBytes = 0;
+        for (AbstractBadgeAction action : run.getActions(AbstractBadgeAction.class)) {
+            ActionRecord record = cached ? RECORDS.get(action) : null;
+            if (record == null) {
+                record = ActionRecord.of(action);
+                if (cached) {
+                    RECORDS.put(action, record);
+                } else {
+                    // badges changed in place, e.g. by the migration, are not invalidated by the listener
+                    RECORDS.replace(action, record);
+                }
+            }
+            badges.add(record.badge());
+            textBytes += record.textBytes();
+        }
+        if (badges.isEmpty()) {
+            return null;
+        }
+        Result result = run.getResult();
+        return new BuildRecord(
+                run.getNumber(), run.getTimeInMillis(), result != null ? result.toString() : null, badges, textBytes);
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * @return the result of the build or null if it was still running when the record was created.
+     */
+    @CheckForNull
+    public String getResult() {
+        return result;
+    }
+
+    /**
+     * @return the badges and summaries of the build.
+     */
+    @NonNull
+    public List<BadgeRecord> getBadges() {
+        return Collections.unmodifiableList(badges);
+    }
+
+    /**
+     * @param kind the kind.
+     * @return the number of badges or summaries of the build.
+     */
+    public int getCount(@NonNull BadgeRecord.Kind kind) {
+        return (int) badges.stream().filter(badge -> badge.getKind() == kind).count();
+    }
+
+    /**
+     * @return the size of the texts of all badges and summaries of the build, encoded as UTF-8.
+     */
+    public long getTextBytes() {
+        return textBytes;
+    }
+
+    /**
+     * @return a rough estimate of the heap used by the badges and summaries of the build when it is loaded.
+     */
+    public long getEstimatedHeapBytes() {
+        return badges.size() * (long) ACTION_HEAP_BYTES + textBytes;
+    }
+
+    /**
+     * @param fields the badge fields to include, all fields if null.
+     * @return a JSON object of this record.
+     */
+    @NonNull
+    public JSONObject toJSON(@CheckForNull Set<String> fields) {
+        JSONArray array = new JSONArray();
+        badges.forEach(badge -> array.add(badge.toJSON(fields)));
+
+        JSONObject json = new JSONObject();
+        json.put("number", number);
+        json.put("timestamp", timestamp);
+        if (result != null) {
+            json.put("result", result);
+        }
+        json.put("badges", array);
+        return json;
+    }
+}
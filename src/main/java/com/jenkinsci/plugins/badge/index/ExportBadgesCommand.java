@@ -0,0 +1,75 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.index;
+
+import hudson.Extension;
+import hudson.cli.CLICommand;
+import hudson.model.Item;
+import hudson.model.ItemGroup;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import jenkins.model.Jenkins;
+import org.kohsuke.args4j.Argument;
+import org.kohsuke.args4j.Option;
+
+/**
+ * Writes the badges of all builds of a folder, or of all jobs, as newline-delimited JSON.
+ * @see BadgeExport
+ */
+@Extension
+public class ExportBadgesCommand extends CLICommand {
+
+    @Argument(metaVar = "FOLDER", usage = "Full name of the folder to export the jobs of, all jobs if omitted.")
+    @SuppressWarnings("unused")
+    public String folder;
+
+    @Option(
+            name = "-resume",
+            metaVar = "TOKEN",
+            usage = "The resume token of the last received line to continue an interrupted export.")
+    @SuppressWarnings("unused")
+    public String resume;
+
+    @Override
+    public String getShortDescription() {
+        return "Exports the badges of all builds as newline-delimited JSON.";
+    }
+
+    @Override
+    protected int run() throws Exception {
+        ItemGroup<?> group = Jenkins.get();
+        if (folder != null) {
+            Item item = Jenkins.get().getItemByFullName(folder);
+            if (!(item instanceof ItemGroup<?> itemGroup)) {
+                throw new IllegalArgumentException("No such folder '" + folder + "'");
+            }
+            group = itemGroup;
+        }
+
+        Writer out = new OutputStreamWriter(stdout, getClientCharset());
+        new BadgeExport(group, resume).write(out);
+        out.flush();
+        return 0;
+    }
+}
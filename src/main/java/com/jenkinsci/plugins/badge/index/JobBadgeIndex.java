@@ -0,0 +1,862 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.index;
+
+import com.jenkinsci.plugins.badge.action.AbstractBadgeAction;
+import com.jenkinsci.plugins.badge.event.BadgeListener;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.XmlFile;
+import hudson.init.Terminator;
+import hudson.model.Item;
+import hudson.model.Job;
+import hudson.model.Run;
+import hudson.model.TaskListener;
+import hudson.model.listeners.ItemListener;
+import hudson.model.listeners.RunListener;
+import hudson.util.DaemonThreadFactory;
+import hudson.util.NamingThreadFactory;
+import hudson.util.XStream2;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jenkins.util.SystemProperties;
+import jenkins.util.Timer;
+
+/**
+ * An index of the badges and summaries of all builds of a job, stored in <code>badge-index.xml</code> in the job
+ * directory. It allows to query badges of many builds without loading them.
+ * The index is kept up to date by listening to badge and run changes. Records of changed builds are computed by a
+ * small dedicated executor instead of the thread changing the badge, only recomputing the changed badges, and the
+ * index is written with a short delay to batch changes. Reading the index applies pending changes first.
+ * Indexes are built lazily: if the file does not exist, e.g. after installing the plugin, the index of a job is
+ * rebuilt by the executor when badges of the job change or it is needed otherwise, see {@link #get(Job)}. Read-only
+ * views use {@link #getIfExists(Job)} or {@link #getOrEmpty(Job)} instead. Jobs without badges get no files.
+ * Loaded indexes are kept in a cache of the {@value #DEFAULT_MAX_LOADED} most recently used ones by default, only
+ * indexes without pending changes are dropped from it.
+ * All changes are passed on to the {@link BadgeSearchIndex} and the {@link JobBadgeStats} of the job.
+ */
+public final class JobBadgeIndex {
+
+    private static final Logger LOGGER = Logger.getLogger(JobBadgeIndex.class.getName());
+
+    static final String FILE_NAME = "badge-index.xml";
+
+    static final String STATS_FILE_NAME = "badge-stats.xml";
+
+    static final String SERIES_FILE_NAME = "badge-series.bin";
+
+    private static final long SAVE_DELAY =
+            SystemProperties.getLong(JobBadgeIndex.class.getName() + ".saveDelay", 5000L);
+
+    /**
+     * The number of threads updating and rebuilding indexes.
+     */
+    private static final int THREADS = SystemProperties.getInteger(JobBadgeIndex.class.getName() + ".threads", 2);
+
+    private static final ExecutorService EXECUTOR = createExecutor();
+
+    private static final XStream2 XSTREAM = new XStream2();
+
+    static final int DEFAULT_MAX_LOADED = 1000;
+
+    /**
+     * The number of indexes kept loaded, the least recently used ones beyond are dropped once they are idle.
+     */
+    private static final int MAX_LOADED =
+            SystemProperties.getInteger(JobBadgeIndex.class.getName() + ".maxLoaded", DEFAULT_MAX_LOADED);
+
+    /**
+     * The loaded indexes by full name of their job, least recently used first. Indexes are read from disk without
+     * holding the lock of the map.
+     */
+    private static final Map<String, JobBadgeIndex> INDEXES = new LinkedHashMap<>(16, 0.75f, true);
+
+    static {
+        XSTREAM.alias("badge-index", JobBadgeIndex.class);
+        XSTREAM.alias("build", BuildRecord.class);
+        XSTREAM.alias("badge", BadgeRecord.class);
+        XSTREAM.alias("badge-stats", JobBadgeStats.class);
+        XSTREAM.alias("id", JobBadgeStats.IdStats.class);
+    }
+
+    private transient Job<?, ?> job;
+    private transient ScheduledFuture<?> pendingSave;
+    private transient volatile boolean rebuilding;
+    private transient boolean deleted;
+
+    /**
+     * Whether the index was dropped from the cache, changes are then applied to the index loaded instead.
+     */
+    private transient boolean evicted;
+
+    /**
+     * Whether this is an empty index of a job without one, see {@link #getOrEmpty(Job)}.
+     */
+    private transient boolean missing;
+
+    /**
+     * Whether the series changed since they were last written, which most changes of badges do not.
+     */
+    private transient boolean seriesChanged;
+
+    private transient JobBadgeStats stats = new JobBadgeStats();
+    private transient JobBadgeSeries series = new JobBadgeSeries();
+
+    /**
+     * Changes made while rebuilding, applied after the rebuild completed. A null value marks a removed build.
+     */
+    private transient Map<Integer, BuildRecord> changes;
+
+    /**
+     * The runs with changed badges whose records have yet to be updated, by build number, and the changed badges.
+     * Both are guarded by the map.
+     */
+    private transient Map<Integer, Run<?, ?>> pending = new LinkedHashMap<>();
+
+    private transient List<AbstractBadgeAction> changed = new ArrayList<>();
+
+    /**
+     * Held while updating records, so they are updated in the order of the changes.
+     */
+    private transient ReentrantLock updateLock = new ReentrantLock();
+
+    private TreeMap<Integer, BuildRecord> builds = new TreeMap<>();
+
+    private JobBadgeIndex(Job<?, ?> job) {
+        this.job = job;
+    }
+
+    private Object readResolve() {
+        if (builds == null) {
+            builds = new TreeMap<>();
+        }
+        pending = new LinkedHashMap<>();
+        changed = new ArrayList<>();
+        updateLock = new ReentrantLock();
+        return this;
+    }
+
+    private static ExecutorService createExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                THREADS,
+                THREADS,
+                60,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new NamingThreadFactory(new DaemonThreadFactory(), "JobBadgeIndex"));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * @param job the job.
+     * @return the index of the job, loaded from disk or rebuilt in the background on first access.
+     */
+    @NonNull
+    public static JobBadgeIndex get(@NonNull Job<?, ?> job) {
+        JobBadgeIndex index = lookup(job, true);
+        assert index != null;
+        return index;
+    }
+
+    /**
+     * Like {@link #get(Job)}, but without building an index for jobs that have none, e.g. to show badges of many
+     * jobs.
+     * @param job the job.
+     * @return the index of the job, if it is loaded or its file exists, otherwise null.
+     */
+    @CheckForNull
+    public static JobBadgeIndex getIfExists(@NonNull Job<?, ?> job) {
+        return lookup(job, false);
+    }
+
+    /**
+     * Like {@link #getIfExists(Job)}, for read-only views of a single job.
+     * @param job the job.
+     * @return the index of the job, or an empty index that is not kept if the job has none, see {@link #exists()}.
+     */
+    @NonNull
+    public static JobBadgeIndex getOrEmpty(@NonNull Job<?, ?> job) {
+        JobBadgeIndex index = getIfExists(job);
+        if (index == null) {
+            index = new JobBadgeIndex(job);
+            index.missing = true;
+        }
+        return index;
+    }
+
+    private static JobBadgeIndex lookup(Job<?, ?> job, boolean create) {
+        String name = job.getFullName();
+        synchronized (INDEXES) {
+            JobBadgeIndex index = INDEXES.get(name);
+            if (index != null) {
+                return index;
+            }
+        }
+
+        // read without holding the lock, concurrent misses of the same job read the file twice
+        XmlFile file = getFile(job);
+        boolean exists = file.exists();
+        if (!exists && !create) {
+            return null;
+        }
+        JobBadgeIndex loaded = exists ? read(job, file) : null;
+
+        JobBadgeIndex index;
+        boolean added = false;
+        synchronized (INDEXES) {
+            index = INDEXES.get(name);
+            if (index == null) {
+                index = loaded != null ? loaded : new JobBadgeIndex(job);
+                index.rebuilding = loaded == null;
+                INDEXES.put(name, index);
+                added = true;
+            }
+        }
+        if (added) {
+            if (loaded != null) {
+                index.publish();
+            } else {
+                EXECUTOR.execute(index::rebuild);
+            }
+            evictIdle();
+        }
+        return index;
+    }
+
+    /**
+     * Runs a task on the executor updating the indexes, instead of the shared timer of Jenkins.
+     */
+    static void execute(@NonNull Runnable task) {
+        EXECUTOR.execute(task);
+    }
+
+    @CheckForNull
+    private static JobBadgeIndex read(Job<?, ?> job, XmlFile file) {
+        try {
+            JobBadgeIndex index = (JobBadgeIndex) file.read();
+            index.job = job;
+            index.stats = loadStats(job, index.builds);
+            index.series = loadSeries(job, index.builds);
+            return index;
+        } catch (IOException | RuntimeException ex) {
+            LOGGER.log(Level.WARNING, ex, () -> "Unable to load badge index of " + job + ", rebuilding it");
+            return null;
+        }
+    }
+
+    /**
+     * Drops the least recently used indexes beyond {@link #MAX_LOADED} from the cache, skipping indexes that are
+     * rebuilt, have pending changes or are about to be written.
+     */
+    private static void evictIdle() {
+        List<JobBadgeIndex> candidates;
+        synchronized (INDEXES) {
+            int excess = INDEXES.size() - MAX_LOADED;
+            if (excess <= 0) {
+                return;
+            }
+            candidates = INDEXES.values().stream().limit(excess).toList();
+        }
+        for (JobBadgeIndex index : candidates) {
+            if (index.evictIfIdle()) {
+                synchronized (INDEXES) {
+                    INDEXES.remove(index.job.getFullName(), index);
+                }
+            }
+        }
+    }
+
+    private boolean evictIfIdle() {
+        if (updateLock.isLocked()) {
+            return false;
+        }
+        synchronized (pending) {
+            if (!pending.isEmpty()) {
+                return false;
+            }
+            synchronized (this) {
+                if (rebuilding || pendingSave != null && !pendingSave.isDone()) {
+                    return false;
+                }
+                evicted = true;
+                return true;
+            }
+        }
+    }
+
+    private static JobBadgeStats loadStats(Job<?, ?> job, TreeMap<Integer, BuildRecord> builds) {
+        XmlFile file = getStatsFile(job);
+        if (file.exists()) {
+            try {
+                return (JobBadgeStats) file.read();
+            } catch (IOException | RuntimeException ex) {
+                LOGGER.log(Level.WARNING, ex, () -> "Unable to load badge statistics of " + job + ", recomputing them");
+            }
+        }
+        return JobBadgeStats.of(builds.values());
+    }
+
+    private static JobBadgeSeries loadSeries(Job<?, ?> job, TreeMap<Integer, BuildRecord> builds) {
+        File file = getSeriesFile(job);
+        if (file.exists()) {
+            try {
+                return JobBadgeSeries.read(file);
+            } catch (IOException | RuntimeException ex) {
+                LOGGER.log(Level.WARNING, ex, () -> "Unable to load badge series of " + job + ", recomputing them");
+            }
+        }
+        return JobBadgeSeries.of(builds.values());
+    }
+
+    private static XmlFile getFile(Job<?, ?> job) {
+        return new XmlFile(XSTREAM, new File(job.getRootDir(), FILE_NAME));
+    }
+
+    private static XmlFile getStatsFile(Job<?, ?> job) {
+        return new XmlFile(XSTREAM, new File(job.getRootDir(), STATS_FILE_NAME));
+    }
+
+    private static File getSeriesFile(Job<?, ?> job) {
+        return new File(job.getRootDir(), SERIES_FILE_NAME);
+    }
+
+    @NonNull
+    public Job<?, ?> getJob() {
+        return job;
+    }
+
+    /**
+     * @return the statistics of the badges in this index.
+     */
+    @NonNull
+    public JobBadgeStats getStats() {
+        flush();
+        synchronized (this) {
+            return stats;
+        }
+    }
+
+    /**
+     * @return the series of the numeric badge values in this index.
+     */
+    @NonNull
+    public JobBadgeSeries getSeries() {
+        flush();
+        synchronized (this) {
+            return series;
+        }
+    }
+
+    /**
+     * @return whether the job has an index, false for the empty index of a job without one, which may have badges
+     *     that were not indexed yet.
+     */
+    public boolean exists() {
+        return !missing;
+    }
+
+    /**
+     * @return whether the index covers all builds of the job, i.e. it exists and is not being rebuilt.
+     */
+    public boolean isComplete() {
+        return !missing && !rebuilding;
+    }
+
+    /**
+     * @return whether the index is currently being rebuilt and may be incomplete.
+     */
+    public boolean isRebuilding() {
+        return rebuilding;
+    }
+
+    /**
+     * @param number the build number.
+     * @return the record of the build or null if it has no badges.
+     */
+    @CheckForNull
+    public BuildRecord getBuild(int number) {
+        flush();
+        synchronized (this) {
+            return builds.get(number);
+        }
+    }
+
+    /**
+     * @return the record of the newest build with badges or null if there is none.
+     */
+    @CheckForNull
+    public BuildRecord getLatest() {
+        flush();
+        synchronized (this) {
+            Map.Entry<Integer, BuildRecord> latest = builds.lastEntry();
+            return latest != null ? latest.getValue() : null;
+        }
+    }
+
+    /**
+     * @return the records of all builds with badges, newest first.
+     */
+    @NonNull
+    public List<BuildRecord> getBuilds() {
+        flush();
+        synchronized (this) {
+            return new ArrayList<>(builds.descendingMap().values());
+        }
+    }
+
+    /**
+     * @param before the build number to start below, exclusive, or null to start with the newest build.
+     * @param limit the maximum number of records.
+     * @return the records of builds with badges, newest first.
+     */
+    @NonNull
+    public List<BuildRecord> getBuilds(@CheckForNull Integer before, int limit) {
+        flush();
+        synchronized (this) {
+            NavigableMap<Integer, BuildRecord> view = builds.descendingMap();
+            if (before != null) {
+                view = view.tailMap(before, false);
+            }
+            return view.values().stream().limit(limit).toList();
+        }
+    }
+
+    /**
+     * @param after the build number to start above, exclusive, or null to start with the oldest build.
+     * @param limit the maximum number of records.
+     * @return the records of builds with badges, oldest first.
+     */
+    @NonNull
+    public List<BuildRecord> getBuildsAfter(@CheckForNull Integer after, int limit) {
+        flush();
+        synchronized (this) {
+            NavigableMap<Integer, BuildRecord> view = builds;
+            if (after != null) {
+                view = view.tailMap(after, false);
+            }
+            return view.values().stream().limit(limit).toList();
+        }
+    }
+
+    /**
+     * @return the number of builds with badges.
+     */
+    public int size() {
+        flush();
+        synchronized (this) {
+            return builds.size();
+        }
+    }
+
+    /**
+     * Updates the record of a run from its current badges and summaries, recomputing the records of all badges.
+     * This reads the full texts of the badges and should not be called on the thread changing them.
+     * @param run the run.
+     */
+    public void update(@NonNull Run<?, ?> run) {
+        updateLock.lock();
+        try {
+            synchronized (pending) {
+                pending.remove(run.getNumber());
+            }
+            apply(run.getNumber(), BuildRecord.of(run));
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the record of a build.
+     * @param number the build number.
+     */
+    public void remove(int number) {
+        updateLock.lock();
+        try {
+            synchronized (pending) {
+                pending.remove(number);
+            }
+            apply(number, null);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private void apply(int number, @CheckForNull BuildRecord record) {
+        synchronized (this) {
+            if (!evicted) {
+                if (changes != null) {
+                    changes.put(number, record);
+                }
+                BuildRecord previous = record != null ? builds.put(number, record) : builds.remove(number);
+                if (record != null) {
+                    BadgeSearchIndex.get().put(job.getFullName(), record);
+                } else if (previous != null) {
+                    BadgeSearchIndex.get().remove(job.getFullName(), number);
+                } else {
+                    return;
+                }
+                stats.replace(previous, record, builds);
+                seriesChanged |= series.replace(previous, record);
+                // scheduled with the change, so the index is not dropped from the cache before it is written
+                scheduleSave();
+                return;
+            }
+        }
+        // the change arrived after the index was dropped from the cache, it belongs to the index loaded instead
+        get(job).apply(number, record);
+    }
+
+    /**
+     * Queues the update of the record of a run after a change, so the record is computed by the executor.
+     * @param run the run.
+     * @param action the changed badge or summary, or null if only the run changed.
+     */
+    private void enqueue(@NonNull Run<?, ?> run, @CheckForNull AbstractBadgeAction action) {
+        boolean idle;
+        synchronized (pending) {
+            idle = pending.isEmpty();
+            pending.putIfAbsent(run.getNumber(), run);
+            if (action != null) {
+                changed.add(action);
+            }
+        }
+        if (idle) {
+            EXECUTOR.execute(this::flush);
+        }
+    }
+
+    /**
+     * Queues the update of the record of a run in the index of its job. If the index is not loaded, it is loaded by
+     * the executor, so the thread changing the badge does not wait for the disk.
+     */
+    private static void changed(@NonNull Run<?, ?> run, @CheckForNull AbstractBadgeAction action) {
+        JobBadgeIndex index;
+        synchronized (INDEXES) {
+            index = INDEXES.get(run.getParent().getFullName());
+        }
+        if (index != null) {
+            index.enqueue(run, action);
+        } else {
+            EXECUTOR.execute(() -> get(run.getParent()).enqueue(run, action));
+        }
+    }
+
+    /**
+     * Applies the pending changes, recomputing only the records of changed badges.
+     */
+    void flush() {
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                return;
+            }
+        }
+        updateLock.lock();
+        try {
+            while (true) {
+                Run<?, ?> run;
+                synchronized (pending) {
+                    Iterator<Run<?, ?>> iterator = pending.values().iterator();
+                    if (!iterator.hasNext()) {
+                        return;
+                    }
+                    run = iterator.next();
+                    iterator.remove();
+                    changed.forEach(BuildRecord::invalidate);
+                    changed.clear();
+                }
+                try {
+                    apply(run.getNumber(), BuildRecord.ofChanged(run));
+                } catch (RuntimeException ex) {
+                    LOGGER.log(Level.WARNING, ex, () -> "Unable to update badge index of " + run);
+                }
+            }
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * Applies the pending changes of all loaded indexes, e.g. before searching them.
+     */
+    static void flushAll() {
+        List<JobBadgeIndex> indexes;
+        synchronized (INDEXES) {
+            indexes = new ArrayList<>(INDEXES.values());
+        }
+        indexes.forEach(JobBadgeIndex::flush);
+    }
+
+    /**
+     * Rebuilds the index from all builds of the job. This loads every build and should not be called on a request
+     * thread.
+     */
+    public void rebuild() {
+        boolean dropped;
+        synchronized (this) {
+            dropped = evicted;
+            if (!dropped) {
+                rebuilding = true;
+                changes = new HashMap<>();
+            }
+        }
+        if (dropped) {
+            get(job).rebuild();
+            return;
+        }
+        try {
+            TreeMap<Integer, BuildRecord> records = new TreeMap<>();
+            for (Run<?, ?> run : job.getBuilds()) {
+                BuildRecord record = BuildRecord.of(run);
+                if (record != null) {
+                    records.put(run.getNumber(), record);
+                }
+            }
+            synchronized (this) {
+                changes.forEach((number, record) -> {
+                    if (record != null) {
+                        records.put(number, record);
+                    } else {
+                        records.remove(number);
+                    }
+                });
+                builds = records;
+                stats = JobBadgeStats.of(records.values());
+                series = JobBadgeSeries.of(records.values());
+                seriesChanged = true;
+                publish();
+            }
+            LOGGER.log(Level.FINE, () -> "Rebuilt badge index of " + job + " with " + records.size() + " builds");
+            scheduleSave();
+        } catch (RuntimeException ex) {
+            LOGGER.log(Level.WARNING, ex, () -> "Unable to rebuild badge index of " + job);
+        } finally {
+            synchronized (this) {
+                changes = null;
+            }
+            rebuilding = false;
+        }
+    }
+
+    /**
+     * Replaces the records of the job in the {@link BadgeSearchIndex} with the ones of this index.
+     */
+    synchronized void publish() {
+        BadgeSearchIndex.get().replaceJob(job.getFullName(), builds.values());
+    }
+
+    private synchronized void scheduleSave() {
+        if (deleted) {
+            return;
+        }
+        if (pendingSave == null || pendingSave.isDone()) {
+            pendingSave = Timer.get().schedule(this::saveQuietly, SAVE_DELAY, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void saveQuietly() {
+        try {
+            save();
+        } catch (IOException ex) {
+            LOGGER.log(Level.WARNING, ex, () -> "Unable to save badge index of " + job);
+        }
+    }
+
+    /**
+     * Writes the index to disk, or deletes its files if no build has badges anymore.
+     * @throws IOException if the index cannot be written.
+     */
+    public synchronized void save() throws IOException {
+        pendingSave = null;
+        if (deleted) {
+            return;
+        }
+        if (builds.isEmpty()) {
+            Files.deleteIfExists(getFile(job).getFile().toPath());
+            Files.deleteIfExists(getStatsFile(job).getFile().toPath());
+            Files.deleteIfExists(getSeriesFile(job).toPath());
+            return;
+        }
+        getFile(job).write(this);
+        getStatsFile(job).write(stats);
+        File seriesFile = getSeriesFile(job);
+        if (seriesChanged || !seriesFile.exists()) {
+            series.write(seriesFile);
+            seriesChanged = false;
+        }
+    }
+
+    /**
+     * Writes all indexes with pending changes on shutdown.
+     */
+    @Terminator
+    public static void saveAll() {
+        List<JobBadgeIndex> indexes;
+        synchronized (INDEXES) {
+            indexes = new ArrayList<>(INDEXES.values());
+        }
+        for (JobBadgeIndex index : indexes) {
+            index.flush();
+            ScheduledFuture<?> pending;
+            synchronized (index) {
+                pending = index.pendingSave;
+            }
+            if (pending != null && pending.cancel(false)) {
+                index.saveQuietly();
+            }
+        }
+    }
+
+    /**
+     * Drops the index of a deleted job, so pending changes are not written into the deleted job directory.
+     */
+    private void delete() {
+        synchronized (pending) {
+            pending.clear();
+            changed.clear();
+        }
+        synchronized (this) {
+            deleted = true;
+            if (pendingSave != null) {
+                pendingSave.cancel(false);
+                pendingSave = null;
+            }
+        }
+    }
+
+    /**
+     * Drops the indexes of a deleted item and all jobs within it.
+     */
+    static void deleted(@NonNull String fullName) {
+        List<JobBadgeIndex> removed = new ArrayList<>();
+        synchronized (INDEXES) {
+            Iterator<Map.Entry<String, JobBadgeIndex>> iterator =
+                    INDEXES.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, JobBadgeIndex> entry = iterator.next();
+                if (entry.getKey().equals(fullName) || entry.getKey().startsWith(fullName + "/")) {
+                    removed.add(entry.getValue());
+                    iterator.remove();
+                }
+            }
+        }
+        for (JobBadgeIndex index : removed) {
+            index.delete();
+        }
+        BadgeSearchIndex.get().removeItem(fullName);
+    }
+
+    /**
+     * Moves the index of a renamed or moved job to its new name.
+     */
+    static void renamed(@NonNull String oldFullName, @NonNull String newFullName) {
+        JobBadgeIndex index;
+        synchronized (INDEXES) {
+            index = INDEXES.remove(oldFullName);
+            if (index != null) {
+                INDEXES.put(newFullName, index);
+            }
+        }
+        BadgeSearchIndex.get().removeJob(oldFullName);
+        if (index != null) {
+            index.publish();
+        }
+    }
+
+    @Extension
+    @SuppressWarnings("unused")
+    public static class BadgeListenerImpl extends BadgeListener {
+
+        @Override
+        public void onAdded(@NonNull Run<?, ?> run, @NonNull AbstractBadgeAction action) {
+            changed(run, action);
+        }
+
+        @Override
+        public void onUpdated(@NonNull Run<?, ?> run, @NonNull AbstractBadgeAction action) {
+            changed(run, action);
+        }
+
+        @Override
+        public void onRemoved(@NonNull Run<?, ?> run, @NonNull AbstractBadgeAction action) {
+            changed(run, action);
+        }
+    }
+
+    @Extension
+    @SuppressWarnings("unused")
+    public static class RunListenerImpl extends RunListener<Run<?, ?>> {
+
+        @Override
+        public void onCompleted(Run<?, ?> run, @NonNull TaskListener listener) {
+            // builds without badges are not indexed, only the result of indexed builds changes on completion
+            if (!run.getActions(AbstractBadgeAction.class).isEmpty()) {
+                changed(run, null);
+            }
+        }
+
+        @Override
+        public void onDeleted(Run<?, ?> run) {
+            if (!run.getActions(AbstractBadgeAction.class).isEmpty()) {
+                get(run.getParent()).remove(run.getNumber());
+            }
+        }
+    }
+
+    @Extension
+    @SuppressWarnings("unused")
+    public static class ItemListenerImpl extends ItemListener {
+
+        @Override
+        public void onDeleted(Item item) {
+            deleted(item.getFullName());
+        }
+
+        @Override
+        public void onLocationChanged(Item item, String oldFullName, String newFullName) {
+            // also called for every item within a moved folder
+            if (item instanceof Job<?, ?>) {
+                renamed(oldFullName, newFullName);
+            }
+        }
+    }
+}
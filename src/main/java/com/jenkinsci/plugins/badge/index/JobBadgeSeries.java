@@ -0,0 +1,266 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.index;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * The numeric values of badges of a job as one time series per badge id, maintained incrementally by its
+ * {@link JobBadgeIndex}. Series are kept as primitive arrays sorted by build number and stored in a small binary file
+ * next to the index, so charting many builds neither loads the builds nor parses XML.
+ * If a build has several badges with the same id, the value of the last one is used.
+ */
+public final class JobBadgeSeries {
+
+    private static final int MAGIC = 0x42534552;
+
+    private static final int VERSION = 1;
+
+    private final Map<String, Series> series = new TreeMap<>();
+
+    /**
+     * @param records the records of all builds.
+     * @return the series of the values in the records.
+     */
+    @NonNull
+    static JobBadgeSeries of(@NonNull Collection<BuildRecord> records) {
+        JobBadgeSeries result = new JobBadgeSeries();
+        records.forEach(record -> result.replace(null, record));
+        return result;
+    }
+
+    /**
+     * Updates the series after the record of a build was replaced.
+     * @param previous the previous record or null if the build had no badges.
+     * @param current the current record or null if the build has no badges.
+     * @return whether the series changed, i.e. either record has values.
+     */
+    synchronized boolean replace(@CheckForNull BuildRecord previous, @CheckForNull BuildRecord current) {
+        boolean changed = false;
+        if (previous != null) {
+            for (String id : getValues(previous).keySet()) {
+                Series values = series.get(id);
+                if (values != null && values.remove(previous.getNumber()) && values.size == 0) {
+                    series.remove(id);
+                }
+                changed = true;
+            }
+        }
+        if (current != null) {
+            Map<String, Double> values = getValues(current);
+            values.forEach((id, value) -> series.computeIfAbsent(id, key -> new Series())
+                    .put(current.getNumber(), current.getTimestamp(), value));
+            changed |= !values.isEmpty();
+        }
+        return changed;
+    }
+
+    private static Map<String, Double> getValues(BuildRecord record) {
+        Map<String, Double> values = new LinkedHashMap<>();
+        for (BadgeRecord badge : record.getBadges()) {
+            if (badge.getValue() != null) {
+                values.put(badge.getId(), badge.getValue());
+            }
+        }
+        return values;
+    }
+
+    /**
+     * @return the ids of badges with values.
+     */
+    @NonNull
+    public synchronized Set<String> getIds() {
+        return new TreeSet<>(series.keySet());
+    }
+
+    /**
+     * @param id the badge id.
+     * @param limit the maximum number of points, the newest are returned.
+     * @return the values of the badge id, oldest first.
+     */
+    @NonNull
+    public synchronized Points getPoints(@NonNull String id, int limit) {
+        Series values = series.get(id);
+        if (values == null) {
+            return new Points(new int[0], new long[0], new double[0]);
+        }
+        int from = Math.max(0, values.size - limit);
+        return new Points(
+                Arrays.copyOfRange(values.numbers, from, values.size),
+                Arrays.copyOfRange(values.timestamps, from, values.size),
+                Arrays.copyOfRange(values.values, from, values.size));
+    }
+
+    /**
+     * Writes the series to a file, replacing it atomically.
+     * @param file the file.
+     * @throws IOException if the file cannot be written.
+     */
+    synchronized void write(@NonNull File file) throws IOException {
+        Path target = file.toPath();
+        Path temp = Files.createTempFile(target.getParent(), file.getName(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(series.size());
+                for (Map.Entry<String, Series> entry : series.entrySet()) {
+                    Series values = entry.getValue();
+                    // not writeUTF, which is limited to 64 KiB
+                    byte[] id = entry.getKey().getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(id.length);
+                    out.write(id);
+                    out.writeInt(values.size);
+                    for (int i = 0; i < values.size; i++) {
+                        out.writeInt(values.numbers[i]);
+                    }
+                    for (int i = 0; i < values.size; i++) {
+                        out.writeLong(values.timestamps[i]);
+                    }
+                    for (int i = 0; i < values.size; i++) {
+                        out.writeDouble(values.values[i]);
+                    }
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * @param file the file written by {@link #write(File)}.
+     * @return the series read from the file.
+     * @throws IOException if the file cannot be read or has an unknown format.
+     */
+    @NonNull
+    static JobBadgeSeries read(@NonNull File file) throws IOException {
+        JobBadgeSeries result = new JobBadgeSeries();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Unknown format of " + file);
+            }
+            int count = in.readInt();
+            for (int n = 0; n < count; n++) {
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                String id = new String(bytes, StandardCharsets.UTF_8);
+                Series values = new Series(in.readInt());
+                for (int i = 0; i < values.size; i++) {
+                    values.numbers[i] = in.readInt();
+                }
+                for (int i = 0; i < values.size; i++) {
+                    values.timestamps[i] = in.readLong();
+                }
+                for (int i = 0; i < values.size; i++) {
+                    values.values[i] = in.readDouble();
+                }
+                result.series.put(id, values);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The values of a badge id by build.
+     * @param numbers the build numbers.
+     * @param timestamps the timestamps of the builds.
+     * @param values the values.
+     */
+    public record Points(int[] numbers, long[] timestamps, double[] values) {
+
+        public int size() {
+            return numbers.length;
+        }
+    }
+
+    private static final class Series {
+
+        private int size;
+        private int[] numbers;
+        private long[] timestamps;
+        private double[] values;
+
+        Series() {
+            this(0);
+        }
+
+        Series(int size) {
+            this.size = size;
+            numbers = new int[size];
+            timestamps = new long[size];
+            values = new double[size];
+        }
+
+        void put(int number, long timestamp, double value) {
+            int index = Arrays.binarySearch(numbers, 0, size, number);
+            if (index < 0) {
+                index = -index - 1;
+                if (size == numbers.length) {
+                    int capacity = Math.max(8, size * 2);
+                    numbers = Arrays.copyOf(numbers, capacity);
+                    timestamps = Arrays.copyOf(timestamps, capacity);
+                    values = Arrays.copyOf(values, capacity);
+                }
+                System.arraycopy(numbers, index, numbers, index + 1, size - index);
+                System.arraycopy(timestamps, index, timestamps, index + 1, size - index);
+                System.arraycopy(values, index, values, index + 1, size - index);
+                size++;
+            }
+            numbers[index] = number;
+            timestamps[index] = timestamp;
+            values[index] = value;
+        }
+
+        boolean remove(int number) {
+            int index = Arrays.binarySearch(numbers, 0, size, number);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(numbers, index + 1, numbers, index, size - index - 1);
+            System.arraycopy(timestamps, index + 1, timestamps, index, size - index - 1);
+            System.arraycopy(values, index + 1, values, index, size - index - 1);
+            size--;
+            return true;
+        }
+    }
+}
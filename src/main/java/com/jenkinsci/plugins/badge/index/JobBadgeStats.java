@@ -0,0 +1,409 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.index;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.jenkins.plugins.ionicons.Ionicons;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import net.sf.json.JSONObject;
+
+/**
+ * Statistics of the badges and summaries of a job, maintained incrementally by its {@link JobBadgeIndex} and
+ * stored in <code>badge-stats.xml</code> next to it.
+ * Only builds with badges are counted, so rates are relative to the number of builds with badges.
+ */
+public final class JobBadgeStats {
+
+    /**
+     * The type of a badge, derived from its icon. Counts are stored by ordinal, so new types must be appended.
+     */
+    public enum Type {
+        INFO,
+        WARNING,
+        ERROR,
+        OTHER,
+        SUMMARY;
+
+        private static final Set<String> INFO_ICONS =
+                Set.of(Ionicons.getIconClassName("information-circle"), "info.gif", "symbol-information-circle");
+        private static final Set<String> WARNING_ICONS =
+                Set.of(Ionicons.getIconClassName("warning"), "warning.gif", "warning.svg", "symbol-status-yellow");
+        private static final Set<String> ERROR_ICONS =
+                Set.of(Ionicons.getIconClassName("remove-circle"), "error.gif", "error.svg", "symbol-status-red");
+
+        /**
+         * @param badge the badge.
+         * @return the type of the badge.
+         */
+        @NonNull
+        public static Type of(@NonNull BadgeRecord badge) {
+            if (badge.getKind() == BadgeRecord.Kind.SUMMARY) {
+                return SUMMARY;
+            }
+            String icon = badge.getIcon();
+            if (icon == null) {
+                return OTHER;
+            }
+            if (INFO_ICONS.contains(icon)) {
+                return INFO;
+            }
+            if (WARNING_ICONS.contains(icon)) {
+                return WARNING;
+            }
+            if (ERROR_ICONS.contains(icon)) {
+                return ERROR;
+            }
+            return OTHER;
+        }
+
+        @NonNull
+        public String getName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * Occurrences of a badge id.
+     */
+    public static final class IdStats {
+
+        private int count;
+        private int lastBuild;
+
+        /**
+         * @return the number of badges with the id.
+         */
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * @return the number of the last build with a badge with the id.
+         */
+        public int getLastBuild() {
+            return lastBuild;
+        }
+    }
+
+    private int builds;
+    private TreeMap<String, IdStats> ids = new TreeMap<>();
+    private TreeMap<String, Integer> icons = new TreeMap<>();
+
+    /**
+     * Number of badges of each type, indexed by {@link Type#ordinal()}.
+     */
+    private int[] types = new int[Type.values().length];
+
+    /**
+     * Number of builds with at least one badge of each type.
+     */
+    private int[] typeBuilds = new int[Type.values().length];
+
+    /**
+     * Number of badges of each type by the day (UTC) of their build.
+     */
+    private TreeMap<String, int[]> days = new TreeMap<>();
+
+    /**
+     * Size of the texts of all badges, see {@link BuildRecord#getTextBytes()}.
+     */
+    private long textBytes;
+
+    private Object readResolve() {
+        int length = Type.values().length;
+        if (ids == null) {
+            ids = new TreeMap<>();
+        }
+        if (icons == null) {
+            icons = new TreeMap<>();
+        }
+        if (types == null || types.length != length) {
+            types = copy(types, length);
+        }
+        if (typeBuilds == null || typeBuilds.length != length) {
+            typeBuilds = copy(typeBuilds, length);
+        }
+        if (days == null) {
+            days = new TreeMap<>();
+        }
+        days.replaceAll((day, counts) -> counts.length == length ? counts : copy(counts, length));
+        return this;
+    }
+
+    private static int[] copy(@CheckForNull int[] counts, int length) {
+        int[] copy = new int[length];
+        if (counts != null) {
+            System.arraycopy(counts, 0, copy, 0, Math.min(counts.length, length));
+        }
+        return copy;
+    }
+
+    /**
+     * @param records the records of all builds.
+     * @return the statistics of the records.
+     */
+    @NonNull
+    static JobBadgeStats of(@NonNull Collection<BuildRecord> records) {
+        JobBadgeStats stats = new JobBadgeStats();
+        records.forEach(stats::add);
+        return stats;
+    }
+
+    /**
+     * Updates the statistics after the record of a build was replaced.
+     * @param previous the previous record or null if the build had no badges.
+     * @param current the current record or null if the build has no badges.
+     * @param records the records of all builds after the change, to find the previous build of removed ids.
+     */
+    synchronized void replace(
+            @CheckForNull BuildRecord previous,
+            @CheckForNull BuildRecord current,
+            @NonNull NavigableMap<Integer, BuildRecord> records) {
+        if (previous != null) {
+            remove(previous, records);
+        }
+        if (current != null) {
+            add(current);
+        }
+    }
+
+    private synchronized void add(BuildRecord record) {
+        builds++;
+        textBytes += record.getTextBytes();
+        int[] day = days.computeIfAbsent(getDay(record), key -> new int[Type.values().length]);
+        boolean[] seen = new boolean[Type.values().length];
+        for (BadgeRecord badge : record.getBadges()) {
+            IdStats id = ids.computeIfAbsent(badge.getId(), key -> new IdStats());
+            id.count++;
+            id.lastBuild = Math.max(id.lastBuild, record.getNumber());
+            if (badge.getIcon() != null) {
+                icons.merge(badge.getIcon(), 1, Integer::sum);
+            }
+            int type = Type.of(badge).ordinal();
+            types[type]++;
+            day[type]++;
+            seen[type] = true;
+        }
+        for (int type = 0; type < seen.length; type++) {
+            if (seen[type]) {
+                typeBuilds[type]++;
+            }
+        }
+    }
+
+    private void remove(BuildRecord record, NavigableMap<Integer, BuildRecord> records) {
+        builds--;
+        textBytes -= record.getTextBytes();
+        String key = getDay(record);
+        int[] day = days.get(key);
+        boolean[] seen = new boolean[Type.values().length];
+        for (BadgeRecord badge : record.getBadges()) {
+            IdStats id = ids.get(badge.getId());
+            if (id != null && --id.count <= 0) {
+                ids.remove(badge.getId());
+            } else if (id != null && id.lastBuild == record.getNumber()) {
+                id.lastBuild = findLastBuild(badge.getId(), records);
+            }
+            if (badge.getIcon() != null) {
+                icons.computeIfPresent(badge.getIcon(), (icon, count) -> count > 1 ? count - 1 : null);
+            }
+            int type = Type.of(badge).ordinal();
+            types[type]--;
+            if (day != null) {
+                day[type]--;
+            }
+            seen[type] = true;
+        }
+        for (int type = 0; type < seen.length; type++) {
+            if (seen[type]) {
+                typeBuilds[type]--;
+            }
+        }
+        if (day != null && Arrays.stream(day).allMatch(count -> count <= 0)) {
+            days.remove(key);
+        }
+    }
+
+    private static int findLastBuild(String id, NavigableMap<Integer, BuildRecord> records) {
+        for (BuildRecord record : records.descendingMap().values()) {
+            for (BadgeRecord badge : record.getBadges()) {
+                if (badge.getId().equals(id)) {
+                    return record.getNumber();
+                }
+            }
+        }
+        return 0;
+    }
+
+    private static String getDay(BuildRecord record) {
+        return Instant.ofEpochMilli(record.getTimestamp())
+                .atZone(ZoneOffset.UTC)
+                .toLocalDate()
+                .toString();
+    }
+
+    /**
+     * @return the number of builds with badges.
+     */
+    public synchronized int getBuilds() {
+        return builds;
+    }
+
+    /**
+     * @return the occurrences of each badge id.
+     */
+    @NonNull
+    public synchronized Map<String, IdStats> getIds() {
+        return new TreeMap<>(ids);
+    }
+
+    /**
+     * @param id the badge id.
+     * @return the number of the last build with a badge with the id or 0 if there is none.
+     */
+    public synchronized int getLastBuild(@NonNull String id) {
+        IdStats stats = ids.get(id);
+        return stats != null ? stats.lastBuild : 0;
+    }
+
+    /**
+     * @return the number of badges with each icon, as stored.
+     */
+    @NonNull
+    public synchronized Map<String, Integer> getIcons() {
+        return new TreeMap<>(icons);
+    }
+
+    /**
+     * @param type the type.
+     * @return the number of badges of the type.
+     */
+    public synchronized int getCount(@NonNull Type type) {
+        return types[type.ordinal()];
+    }
+
+    /**
+     * @param type the type.
+     * @return the number of builds with at least one badge of the type.
+     */
+    public synchronized int getBuilds(@NonNull Type type) {
+        return typeBuilds[type.ordinal()];
+    }
+
+    /**
+     * @param type the type.
+     * @return the share of builds with badges that have at least one badge of the type.
+     */
+    public synchronized double getRate(@NonNull Type type) {
+        return builds == 0 ? 0 : (double) typeBuilds[type.ordinal()] / builds;
+    }
+
+    /**
+     * @return the number of badges of each type by the day of their build, oldest first.
+     */
+    @NonNull
+    public synchronized Map<String, Map<Type, Integer>> getDays() {
+        Map<String, Map<Type, Integer>> result = new TreeMap<>();
+        days.forEach((day, counts) -> {
+            Map<Type, Integer> byType = new EnumMap<>(Type.class);
+            for (Type type : Type.values()) {
+                byType.put(type, counts[type.ordinal()]);
+            }
+            result.put(day, byType);
+        });
+        return result;
+    }
+
+    /**
+     * @return the size of the texts of all badges and summaries, encoded as UTF-8.
+     */
+    public synchronized long getTextBytes() {
+        return textBytes;
+    }
+
+    /**
+     * @return the number of badges and summaries.
+     */
+    public synchronized int getCount() {
+        return Arrays.stream(types).sum();
+    }
+
+    /**
+     * @return a rough estimate of the heap used by all badges and summaries when their builds are loaded.
+     */
+    public synchronized long getEstimatedHeapBytes() {
+        return getCount() * (long) BuildRecord.ACTION_HEAP_BYTES + textBytes;
+    }
+
+    /**
+     * @return a JSON object of these statistics.
+     */
+    @NonNull
+    public synchronized JSONObject toJSON() {
+        JSONObject idsJson = new JSONObject();
+        ids.forEach((id, stats) -> {
+            JSONObject json = new JSONObject();
+            json.put("count", stats.count);
+            json.put("lastBuild", stats.lastBuild);
+            idsJson.put(id, json);
+        });
+
+        JSONObject typesJson = new JSONObject();
+        for (Type type : Type.values()) {
+            JSONObject json = new JSONObject();
+            json.put("count", types[type.ordinal()]);
+            json.put("builds", typeBuilds[type.ordinal()]);
+            json.put("rate", getRate(type));
+            typesJson.put(type.getName(), json);
+        }
+
+        JSONObject daysJson = new JSONObject();
+        days.forEach((day, counts) -> {
+            JSONObject json = new JSONObject();
+            for (Type type : Type.values()) {
+                json.put(type.getName(), counts[type.ordinal()]);
+            }
+            daysJson.put(day, json);
+        });
+
+        JSONObject json = new JSONObject();
+        json.put("builds", builds);
+        json.put("textBytes", textBytes);
+        json.put("ids", idsJson);
+        json.put("icons", new TreeMap<>(icons));
+        json.put("types", typesJson);
+        json.put("days", daysJson);
+        return json;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.index;
+
+import hudson.Extension;
+import hudson.cli.CLICommand;
+import hudson.model.Job;
+import java.util.ArrayList;
+import java.util.List;
+import jenkins.model.Jenkins;
+import org.kohsuke.args4j.Argument;
+
+/**
+ * Rebuilds the badge index of the given jobs, or of all jobs, from their builds.
+ */
+@Extension
+public class RebuildBadgeIndexCommand extends CLICommand {
+
+    @Argument(
+            metaVar = "JOB",
+            usage = "Full names of the jobs to rebuild the index of, all jobs if omitted.",
+            multiValued = true)
+    @SuppressWarnings("unused")
+    public List<String> jobs = new ArrayList<>();
+
+    @Override
+    public String getShortDescription() {
+        return "Rebuilds the badge index of jobs from their builds.";
+    }
+
+    @Override
+    protected int run() throws Exception {
+        Jenkins jenkins = Jenkins.get();
+        jenkins.checkPermission(Jenkins.ADMINISTER);
+
+        List<Job<?, ?>> targets = new ArrayList<>();
+        if (jobs.isEmpty()) {
+            for (Job<?, ?> job : jenkins.allItems(Job.class)) {
+                targets.add(job);
+            }
+        } else {
+            for (String name : jobs) {
+                Job<?, ?> job = jenkins.getItemByFullName(name, Job.class);
+                if (job == null) {
+                    throw new IllegalArgumentException("No such job '" + name + "'");
+                }
+                targets.add(job);
+            }
+        }
+
+        for (Job<?, ?> job : targets) {
+            JobBadgeIndex index = JobBadgeIndex.get(job);
+            index.rebuild();
+            stdout.println(job.getFullName() + ": " + index.size() + " builds with badges");
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.metrics;
+
+import com.jenkinsci.plugins.badge.action.AbstractBadgeAction;
+import com.jenkinsci.plugins.badge.event.BadgeListener;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.init.InitMilestone;
+import hudson.init.Initializer;
+import hudson.init.Terminator;
+import hudson.model.Run;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import net.sf.json.JSONObject;
+
+/**
+ * Metrics of the hot paths of the plugin, kept in memory since Jenkins started: badges added, updated and removed,
+ * lookups of legacy icons as Jenkins resources, applications of the markup formatter to badge texts and the number of
+ * actions scanned when removing badges. Recording is lock-free and cheap enough for every call.
+ * Metrics are exposed as MBean and on the page {@link BadgeMetricsLink}.
+ */
+public final class BadgeMetrics implements BadgeMetricsMBean {
+
+    private static final Logger LOGGER = Logger.getLogger(BadgeMetrics.class.getName());
+
+    static final String OBJECT_NAME = "com.jenkinsci.plugins.badge:type=BadgeMetrics";
+
+    private static final double MILLIS = 1_000_000;
+
+    private static final BadgeMetrics INSTANCE = new BadgeMetrics();
+
+    private final Meter added = new Meter();
+    private final Meter updated = new Meter();
+    private final Meter removed = new Meter();
+    private final LongAdder iconHits = new LongAdder();
+    private final LongAdder iconMisses = new LongAdder();
+    private final Histogram iconProbes = Histogram.latency();
+    private final Histogram translations = Histogram.latency();
+    private final Histogram removeScans = Histogram.size();
+
+    BadgeMetrics() {}
+
+    @NonNull
+    public static BadgeMetrics get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Records the lookup of an icon as Jenkins resource.
+     * @param found whether the icon was found.
+     */
+    public void iconLookup(boolean found) {
+        (found ? iconHits : iconMisses).increment();
+    }
+
+    /**
+     * Records a request checking whether a Jenkins resource exists.
+     * @param nanos the duration of the request.
+     */
+    public void iconProbe(long nanos) {
+        iconProbes.record(nanos);
+    }
+
+    /**
+     * Records the application of the markup formatter to a badge text.
+     * @param nanos the duration of the translation.
+     */
+    public void translation(long nanos) {
+        translations.record(nanos);
+    }
+
+    /**
+     * Records the actions of a run scanned for badges to remove.
+     * @param size the number of actions.
+     */
+    public void removeScan(int size) {
+        removeScans.record(size);
+    }
+
+    @NonNull
+    public Meter getAdded() {
+        return added;
+    }
+
+    @NonNull
+    public Meter getUpdated() {
+        return updated;
+    }
+
+    @NonNull
+    public Meter getRemoved() {
+        return removed;
+    }
+
+    @NonNull
+    public Histogram getIconProbes() {
+        return iconProbes;
+    }
+
+    @NonNull
+    public Histogram getTranslations() {
+        return translations;
+    }
+
+    @NonNull
+    public Histogram getRemoveScans() {
+        return removeScans;
+    }
+
+    @Override
+    public long getBadgesAdded() {
+        return added.getCount();
+    }
+
+    @Override
+    public double getBadgesAddedPerSecond() {
+        return added.getRate();
+    }
+
+    @Override
+    public long getBadgesUpdated() {
+        return updated.getCount();
+    }
+
+    @Override
+    public double getBadgesUpdatedPerSecond() {
+        return updated.getRate();
+    }
+
+    @Override
+    public long getBadgesRemoved() {
+        return removed.getCount();
+    }
+
+    @Override
+    public double getBadgesRemovedPerSecond() {
+        return removed.getRate();
+    }
+
+    @Override
+    public long getIconHits() {
+        return iconHits.sum();
+    }
+
+    @Override
+    public long getIconMisses() {
+        return iconMisses.sum();
+    }
+
+    @Override
+    public long getIconProbeCount() {
+        return iconProbes.getCount();
+    }
+
+    @Override
+    public double getIconProbeMeanMillis() {
+        return iconProbes.getMean() / MILLIS;
+    }
+
+    @Override
+    public double getIconProbeP99Millis() {
+        return iconProbes.getPercentile(99) / MILLIS;
+    }
+
+    @Override
+    public long getTranslationCount() {
+        return translations.getCount();
+    }
+
+    @Override
+    public double getTranslationMeanMillis() {
+        return translations.getMean() / MILLIS;
+    }
+
+    @Override
+    public double getTranslationP99Millis() {
+        return translations.getPercentile(99) / MILLIS;
+    }
+
+    @Override
+    public long getRemoveScanCount() {
+        return removeScans.getCount();
+    }
+
+    @Override
+    public double getRemoveScanMeanSize() {
+        return removeScans.getMean();
+    }
+
+    @Override
+    public long getRemoveScanMaxSize() {
+        return removeScans.getMax();
+    }
+
+    /**
+     * @return all metrics, with latencies in milliseconds.
+     */
+    @NonNull
+    public JSONObject toJSON() {
+        JSONObject badges = new JSONObject();
+        badges.put("added", added.toJSON());
+        badges.put("updated", updated.toJSON());
+        badges.put("removed", removed.toJSON());
+
+        JSONObject icons = new JSONObject();
+        icons.put("hits", getIconHits());
+        icons.put("misses", getIconMisses());
+        icons.put("probes", iconProbes.toJSON(MILLIS));
+
+        JSONObject json = new JSONObject();
+        json.put("badges", badges);
+        json.put("icons", icons);
+        json.put("translations", translations.toJSON(MILLIS));
+        json.put("removeScans", removeScans.toJSON(1));
+        return json;
+    }
+
+    @Initializer(after = InitMilestone.PLUGINS_STARTED)
+    public static void register() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(INSTANCE, name);
+            }
+        } catch (JMException ex) {
+            LOGGER.log(Level.WARNING, "Unable to register badge metrics MBean", ex);
+        }
+    }
+
+    @Terminator
+    public static void unregister() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException ex) {
+            LOGGER.log(Level.FINE, "Unable to unregister badge metrics MBean", ex);
+        }
+    }
+
+    @Extension
+    @SuppressWarnings("unused")
+    public static class BadgeListenerImpl extends BadgeListener {
+
+        @Override
+        public void onAdded(@NonNull Run<?, ?> run, @NonNull AbstractBadgeAction action) {
+            INSTANCE.added.mark();
+        }
+
+        @Override
+        public void onUpdated(@NonNull Run<?, ?> run, @NonNull AbstractBadgeAction action) {
+            INSTANCE.updated.mark();
+        }
+
+        @Override
+        public void onRemoved(@NonNull Run<?, ?> run, @NonNull AbstractBadgeAction action) {
+            INSTANCE.removed.mark();
+        }
+    }
+}
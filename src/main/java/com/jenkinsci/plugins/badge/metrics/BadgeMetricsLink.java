@@ -0,0 +1,90 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.metrics;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.model.ManagementLink;
+import hudson.security.Permission;
+import java.io.IOException;
+import jenkins.model.Jenkins;
+import org.kohsuke.stapler.StaplerResponse2;
+
+/**
+ * The page <em>Badge Metrics</em> in <em>Manage Jenkins</em> showing the {@link BadgeMetrics}, also available as
+ * <code>manage/badge-metrics/api/json</code>.
+ */
+@Extension
+public class BadgeMetricsLink extends ManagementLink {
+
+    @NonNull
+    public BadgeMetrics getMetrics() {
+        return BadgeMetrics.get();
+    }
+
+    public BadgeMetricsLink getApi() {
+        return this;
+    }
+
+    /**
+     * Returns all metrics as JSON, latencies in milliseconds.
+     */
+    public void doJson(StaplerResponse2 rsp) throws IOException {
+        Jenkins.get().checkPermission(getRequiredPermission());
+        rsp.setContentType("application/json;charset=UTF-8");
+        getMetrics().toJSON().write(rsp.getWriter());
+    }
+
+    @Override
+    public String getIconFileName() {
+        return "symbol-speedometer-outline plugin-ionicons-api";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "Badge Metrics";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Counters and latencies of adding, rendering and removing badges since Jenkins started.";
+    }
+
+    @Override
+    public String getUrlName() {
+        return "badge-metrics";
+    }
+
+    @NonNull
+    @Override
+    public Permission getRequiredPermission() {
+        return Jenkins.ADMINISTER;
+    }
+
+    @NonNull
+    @Override
+    public Category getCategory() {
+        return Category.STATUS;
+    }
+}
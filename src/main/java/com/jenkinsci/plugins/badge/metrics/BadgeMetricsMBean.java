@@ -1,7 +1,7 @@
 /*
  * The MIT License
  *
- * Copyright (c) 2025, Badge Plugin Authors
+ * Copyright (c) 2026, Badge Plugin Authors
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -21,39 +21,45 @@
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
  * THE SOFTWARE.
  */
-
-Behaviour.specify('[id^="icon-only-badge"]', "CopyToClipboard", 0, (element) => {
-    element.onclick = () => copy(element);
-});
-
-Behaviour.specify('[id^="text-only-badge"]', "CopyToClipboard", 0, (element) => {
-    element.onclick = () => copy(element);
-});
+package com.jenkinsci.plugins.badge.metrics;
 
 /**
- * Copy the text to the clipboard
- * @param element The element to get the text from and display the notification in
+ * The JMX view of {@link BadgeMetrics}, registered as <code>com.jenkinsci.plugins.badge:type=BadgeMetrics</code>.
+ * Latencies are in milliseconds.
  */
-function copy(element) {
-    let text = element.dataset.text;
-
-    if (text == null || text === "") {
-        return;
-    }
-
-    navigator.clipboard
-        .writeText(text)
-        .then(() => {
-            hoverNotification(
-                "Copied to clipboard",
-                element
-            );
-        })
-        .catch((error) => {
-            console.warn(error);
-            hoverNotification(
-                "Could not get permission to copy to clipboard",
-                element
-            );
-        });
+public interface BadgeMetricsMBean {
+
+    long getBadgesAdded();
+
+    double getBadgesAddedPerSecond();
+
+    long getBadgesUpdated();
+
+    double getBadgesUpdatedPerSecond();
+
+    long getBadgesRemoved();
+
+    double getBadgesRemovedPerSecond();
+
+    long getIconHits();
+
+    long getIconMisses();
+
+    long getIconProbeCount();
+
+    double getIconProbeMeanMillis();
+
+    double getIconProbeP99Millis();
+
+    long getTranslationCount();
+
+    double getTranslationMeanMillis();
+
+    double getTranslationP99Millis();
+
+    long getRemoveScanCount();
+
+    double getRemoveScanMeanSize();
+
+    long getRemoveScanMaxSize();
 }
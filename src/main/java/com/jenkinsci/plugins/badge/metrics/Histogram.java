@@ -0,0 +1,160 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.metrics;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import net.sf.json.JSONArray;
+import net.sf.json.JSONObject;
+
+/**
+ * Counts values in buckets with fixed upper bounds without locking. Percentiles are estimated by the upper bound of
+ * the bucket containing them, or by the largest value for the last bucket.
+ */
+public final class Histogram {
+
+    private final long[] bounds;
+    private final LongAdder[] buckets;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * @param bounds the inclusive upper bounds of the buckets in ascending order, a last bucket holds larger values.
+     */
+    public Histogram(long... bounds) {
+        this.bounds = bounds.clone();
+        this.buckets = new LongAdder[bounds.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * @return a histogram for durations in nanoseconds, from 10 microseconds to 5 seconds.
+     */
+    @NonNull
+    public static Histogram latency() {
+        return new Histogram(
+                10_000L,
+                50_000L,
+                100_000L,
+                500_000L,
+                1_000_000L,
+                5_000_000L,
+                10_000_000L,
+                50_000_000L,
+                100_000_000L,
+                500_000_000L,
+                1_000_000_000L,
+                5_000_000_000L);
+    }
+
+    /**
+     * @return a histogram for sizes, by powers of ten up to 100000.
+     */
+    @NonNull
+    public static Histogram size() {
+        return new Histogram(1, 10, 100, 1_000, 10_000, 100_000);
+    }
+
+    public void record(long value) {
+        int bucket = 0;
+        while (bucket < bounds.length && value > bounds[bucket]) {
+            bucket++;
+        }
+        buckets[bucket].increment();
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSum() {
+        return sum.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public double getMean() {
+        long n = getCount();
+        return n == 0 ? 0 : (double) getSum() / n;
+    }
+
+    /**
+     * @param percentile the percentile, between 0 and 100.
+     * @return the estimated value at the percentile or 0 if nothing was recorded.
+     */
+    public long getPercentile(double percentile) {
+        long[] counts = new long[buckets.length];
+        long total = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(percentile / 100 * total);
+        long seen = 0;
+        for (int i = 0; i < bounds.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(bounds[i], getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * @param unit the value of one unit, e.g. 1000000 to show nanoseconds as milliseconds.
+     * @return the summary of the histogram with values divided by unit.
+     */
+    @NonNull
+    public JSONObject toJSON(double unit) {
+        JSONObject json = new JSONObject();
+        json.put("count", getCount());
+        json.put("mean", getMean() / unit);
+        json.put("p50", getPercentile(50) / unit);
+        json.put("p90", getPercentile(90) / unit);
+        json.put("p99", getPercentile(99) / unit);
+        json.put("max", getMax() / unit);
+
+        JSONArray values = new JSONArray();
+        for (int i = 0; i < buckets.length; i++) {
+            JSONObject bucket = new JSONObject();
+            bucket.put("le", i < bounds.length ? (Object) (bounds[i] / unit) : "+Inf");
+            bucket.put("count", buckets[i].sum());
+            values.add(bucket);
+        }
+        json.put("buckets", values);
+        return json;
+    }
+}
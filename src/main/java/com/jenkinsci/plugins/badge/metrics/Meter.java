@@ -0,0 +1,94 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.metrics;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import net.sf.json.JSONObject;
+
+/**
+ * Counts events and their rate over the last {@value #WINDOW} seconds without locking.
+ * Events are counted per second in a ring of buckets, a bucket is reset when it is first used in a new second.
+ * Events racing with the reset of their bucket may get lost, which is acceptable for a rate.
+ */
+public final class Meter {
+
+    static final int WINDOW = 60;
+
+    private final LongAdder count = new LongAdder();
+    private final AtomicLongArray seconds = new AtomicLongArray(WINDOW);
+    private final AtomicLongArray counts = new AtomicLongArray(WINDOW);
+    private final LongSupplier clock;
+
+    public Meter() {
+        this(() -> System.currentTimeMillis() / 1000);
+    }
+
+    Meter(@NonNull LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    public void mark() {
+        count.increment();
+        long now = clock.getAsLong();
+        int slot = (int) (now % WINDOW);
+        long second = seconds.get(slot);
+        if (second != now && seconds.compareAndSet(slot, second, now)) {
+            counts.set(slot, 0);
+        }
+        counts.incrementAndGet(slot);
+    }
+
+    /**
+     * @return the number of events since Jenkins started.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return the average number of events per second over the last {@value #WINDOW} seconds.
+     */
+    public double getRate() {
+        long now = clock.getAsLong();
+        long sum = 0;
+        for (int slot = 0; slot < WINDOW; slot++) {
+            long second = seconds.get(slot);
+            if (second > now - WINDOW && second <= now) {
+                sum += counts.get(slot);
+            }
+        }
+        return (double) sum / WINDOW;
+    }
+
+    @NonNull
+    public JSONObject toJSON() {
+        JSONObject json = new JSONObject();
+        json.put("count", getCount());
+        json.put("rate", getRate());
+        return json;
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.retention;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.Util;
+import hudson.model.AbstractDescribableImpl;
+import hudson.model.Descriptor;
+import hudson.model.Job;
+import hudson.util.FormValidation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import jenkins.model.GlobalConfiguration;
+import net.sf.json.JSONObject;
+import org.jenkinsci.Symbol;
+import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.DataBoundSetter;
+import org.kohsuke.stapler.QueryParameter;
+import org.kohsuke.stapler.StaplerRequest2;
+
+/**
+ * The retention policy for badge data, configured in <em>Manage Jenkins</em> &gt; <em>System</em>. Summaries of
+ * builds older than a number of days or than the newest builds of their job are compacted by
+ * {@link BadgeRetentionWork}, badges are always kept. Folders can have their own rules, the rule of the innermost
+ * folder of a job applies.
+ */
+@Extension
+@Symbol("badgeRetention")
+public class BadgeRetention extends GlobalConfiguration {
+
+    private int daysToKeep;
+    private int buildsToKeep;
+    private List<FolderRule> folderRules = new ArrayList<>();
+
+    public BadgeRetention() {
+        load();
+    }
+
+    @NonNull
+    public static BadgeRetention get() {
+        return GlobalConfiguration.all().getInstance(BadgeRetention.class);
+    }
+
+    /**
+     * @return the number of days summaries are kept, 0 to keep them regardless of their age.
+     */
+    public int getDaysToKeep() {
+        return daysToKeep;
+    }
+
+    @DataBoundSetter
+    public void setDaysToKeep(int daysToKeep) {
+        this.daysToKeep = Math.max(0, daysToKeep);
+        save();
+    }
+
+    /**
+     * @return the number of newest builds of a job whose summaries are kept, 0 to keep them on all builds.
+     */
+    public int getBuildsToKeep() {
+        return buildsToKeep;
+    }
+
+    @DataBoundSetter
+    public void setBuildsToKeep(int buildsToKeep) {
+        this.buildsToKeep = Math.max(0, buildsToKeep);
+        save();
+    }
+
+    @NonNull
+    public List<FolderRule> getFolderRules() {
+        return folderRules;
+    }
+
+    @DataBoundSetter
+    public void setFolderRules(List<FolderRule> folderRules) {
+        this.folderRules = folderRules != null ? new ArrayList<>(folderRules) : new ArrayList<>();
+        save();
+    }
+
+    @Override
+    public boolean configure(StaplerRequest2 req, JSONObject json) throws FormException {
+        // not submitted when all rules were deleted
+        setFolderRules(null);
+        return super.configure(req, json);
+    }
+
+    /**
+     * @param job the job.
+     * @return the rule of the innermost folder containing the job, or the global rule.
+     */
+    @NonNull
+    public Rule getRule(@NonNull Job<?, ?> job) {
+        String name = job.getFullName();
+        FolderRule match = null;
+        for (FolderRule rule : folderRules) {
+            if (name.startsWith(rule.getFolder() + "/")
+                    && (match == null
+                            || rule.getFolder().length() > match.getFolder().length())) {
+                match = rule;
+            }
+        }
+        return match != null ? match.getRule() : new Rule(daysToKeep, buildsToKeep);
+    }
+
+    /**
+     * @return whether summaries may be compacted at all.
+     */
+    public boolean isEnabled() {
+        return daysToKeep > 0
+                || buildsToKeep > 0
+                || folderRules.stream().anyMatch(rule -> rule.getRule().isEnabled());
+    }
+
+    /**
+     * The number of days and builds to keep summaries, 0 for no limit.
+     */
+    public static final class Rule {
+
+        private final int daysToKeep;
+        private final int buildsToKeep;
+
+        Rule(int daysToKeep, int buildsToKeep) {
+            this.daysToKeep = daysToKeep;
+            this.buildsToKeep = buildsToKeep;
+        }
+
+        public int getDaysToKeep() {
+            return daysToKeep;
+        }
+
+        public int getBuildsToKeep() {
+            return buildsToKeep;
+        }
+
+        public boolean isEnabled() {
+            return daysToKeep > 0 || buildsToKeep > 0;
+        }
+
+        /**
+         * @param number the number of a build.
+         * @param timestamp the start of the build.
+         * @param lastNumber the number of the last build of the job.
+         * @param now the current time.
+         * @return whether the summaries of the build are to be compacted.
+         */
+        public boolean isExpired(int number, long timestamp, int lastNumber, long now) {
+            return (daysToKeep > 0 && now - timestamp > TimeUnit.DAYS.toMillis(daysToKeep))
+                    || (buildsToKeep > 0 && lastNumber - number >= buildsToKeep);
+        }
+    }
+
+    /**
+     * A rule for all jobs in a folder and its subfolders. A rule keeping everything exempts a folder from the global
+     * rule.
+     */
+    public static class FolderRule extends AbstractDescribableImpl<FolderRule> {
+
+        private final String folder;
+        private final int daysToKeep;
+        private final int buildsToKeep;
+
+        @DataBoundConstructor
+        public FolderRule(String folder, int daysToKeep, int buildsToKeep) {
+            this.folder = Util.fixNull(Util.fixEmptyAndTrim(folder)).replaceAll("^/+|/+$", "");
+            this.daysToKeep = Math.max(0, daysToKeep);
+            this.buildsToKeep = Math.max(0, buildsToKeep);
+        }
+
+        /**
+         * @return the full name of the folder.
+         */
+        @NonNull
+        public String getFolder() {
+            return folder;
+        }
+
+        public int getDaysToKeep() {
+            return daysToKeep;
+        }
+
+        public int getBuildsToKeep() {
+            return buildsToKeep;
+        }
+
+        @NonNull
+        public Rule getRule() {
+            return new Rule(daysToKeep, buildsToKeep);
+        }
+
+        @Extension
+        @Symbol("folderRule")
+        public static class DescriptorImpl extends Descriptor<FolderRule> {
+
+            @NonNull
+            @Override
+            public String getDisplayName() {
+                return "Folder";
+            }
+
+            public FormValidation doCheckFolder(@QueryParameter @CheckForNull String value) {
+                return Util.fixEmptyAndTrim(value) == null
+                        ? FormValidation.error("The full name of a folder is required")
+                        : FormValidation.ok();
+            }
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.retention;
+
+import com.jenkinsci.plugins.badge.action.BadgeSummaryAction;
+import com.jenkinsci.plugins.badge.action.BadgeVersionAction;
+import com.jenkinsci.plugins.badge.index.BadgeRecord;
+import com.jenkinsci.plugins.badge.index.BuildRecord;
+import com.jenkinsci.plugins.badge.index.JobBadgeIndex;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.model.AsyncPeriodicWork;
+import hudson.model.Job;
+import hudson.model.Run;
+import hudson.model.TaskListener;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jenkins.model.Jenkins;
+import jenkins.util.SystemProperties;
+
+/**
+ * Applies the {@link BadgeRetention} policy periodically. Candidates are found in the {@link JobBadgeIndex} of every
+ * job, so only builds with summaries to compact are loaded: summaries whose text is too long to be kept in the index
+ * as a whole. Compacted summaries are short and not visited again. The work pauses after every build it changes to
+ * spread the I/O.
+ */
+@Extension
+public class BadgeRetentionWork extends AsyncPeriodicWork {
+
+    private static final Logger LOGGER = Logger.getLogger(BadgeRetentionWork.class.getName());
+
+    private static final long RECURRENCE_PERIOD = TimeUnit.HOURS.toMillis(
+            SystemProperties.getLong(BadgeRetentionWork.class.getName() + ".recurrenceHours", 24L));
+
+    private static final long PAUSE =
+            SystemProperties.getLong(BadgeRetentionWork.class.getName() + ".pauseMillis", 100L);
+
+    public BadgeRetentionWork() {
+        super("Badge retention");
+    }
+
+    @Override
+    public long getRecurrencePeriod() {
+        return RECURRENCE_PERIOD;
+    }
+
+    @Override
+    protected void execute(TaskListener listener) throws InterruptedException {
+        BadgeRetention retention = BadgeRetention.get();
+        if (!retention.isEnabled()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        int builds = 0;
+        for (Job<?, ?> job : Jenkins.get().allItems(Job.class)) {
+            builds += compact(job, retention.getRule(job), now, PAUSE);
+        }
+        listener.getLogger().println("Compacted the summaries of " + builds + " builds");
+    }
+
+    /**
+     * Compacts the summaries of the builds of a job that expired according to the given rule.
+     * @param job the job.
+     * @param rule the rule of the job.
+     * @param now the current time.
+     * @param pause the milliseconds to pause after every changed build.
+     * @return the number of changed builds.
+     * @throws InterruptedException if interrupted while pausing.
+     */
+    static int compact(@NonNull Job<?, ?> job, @NonNull BadgeRetention.Rule rule, long now, long pause)
+            throws InterruptedException {
+        if (!rule.isEnabled()) {
+            return 0;
+        }
+        JobBadgeIndex index = JobBadgeIndex.getIfExists(job);
+        if (index == null || index.isRebuilding()) {
+            // candidates are unknown until the index is built, left for the next run
+            return 0;
+        }
+
+        int lastNumber = job.getNextBuildNumber() - 1;
+        int count = 0;
+        for (BuildRecord record : index.getBuilds()) {
+            if (!hasLargeSummary(record)
+                    || !rule.isExpired(record.getNumber(), record.getTimestamp(), lastNumber, now)) {
+                continue;
+            }
+            Run<?, ?> run = job.getBuildByNumber(record.getNumber());
+            if (run == null || run.isBuilding()) {
+                continue;
+            }
+
+            boolean changed = false;
+            for (BadgeSummaryAction action : run.getActions(BadgeSummaryAction.class)) {
+                changed |= action.compact();
+            }
+            if (changed) {
+                BadgeVersionAction.changedInPlace(run);
+                try {
+                    run.save();
+                    index.update(run);
+                    count++;
+                } catch (IOException ex) {
+                    LOGGER.log(Level.WARNING, ex, () -> "Unable to save compacted summaries of " + run);
+                }
+                if (pause > 0) {
+                    Thread.sleep(pause);
+                }
+            }
+        }
+        if (count > 0) {
+            int compacted = count;
+            LOGGER.log(Level.FINE, () -> "Compacted the summaries of " + compacted + " builds of " + job);
+        }
+        return count;
+    }
+
+    private static boolean hasLargeSummary(BuildRecord record) {
+        for (BadgeRecord badge : record.getBadges()) {
+            if (badge.getKind() == BadgeRecord.Kind.SUMMARY && badge.getTextDigest() != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -24,6 +24,7 @@
 package com.jenkinsci.plugins.badge.tab;
 
 import com.jenkinsci.plugins.badge.action.BadgeSummaryAction;
+import com.jenkinsci.plugins.badge.action.RunBadgesAction;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import hudson.Extension;
 import hudson.model.Run;
@@ -34,10 +35,12 @@ import jenkins.model.TransientActionFactory;
 
 public class SummaryTab extends Tab {
 
+    private final Run<?, ?> run;
     private final List<BadgeSummaryAction> actions;
 
     public SummaryTab(Run<?, ?> run) {
         super(run);
+        this.run = run;
         actions = run.getActions().stream()
                 .filter(BadgeSummaryAction.class::isInstance)
                 .map(BadgeSummaryAction.class::cast)
@@ -49,6 +52,11 @@ public class SummaryTab extends Tab {
         return actions;
     }
 
+    @NonNull
+    public RunBadgesAction getBadges() {
+        return new RunBadgesAction(run);
+    }
+
     @Override
     public String getIconFileName() {
         return "symbol-list";
@@ -0,0 +1,238 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+/**
+ * Client side handling of badges:
+ * a single delegated click handler copies the text of badges marked with <code>data-badge-copy</code> to the
+ * clipboard and loads the full text of large summaries from links marked with <code>data-badge-summary-load</code>.
+ * Collapsible summary sections load their text when expanded and containers marked with
+ * <code>data-badge-source</code> can be rendered from the compact JSON badge payload with {@link loadBadges}.
+ */
+document.addEventListener("click", (event) => {
+    const element = event.target.closest("[data-badge-copy]");
+    if (element != null) {
+        copy(element);
+        return;
+    }
+
+    const link = event.target.closest("[data-badge-summary-load]");
+    if (link != null) {
+        event.preventDefault();
+        loadSummary(link);
+    }
+});
+
+// toggle events do not bubble, so the delegated handler listens during the capture phase
+document.addEventListener(
+    "toggle",
+    (event) => {
+        const section = event.target;
+        if (section.open && section.matches("[data-badge-summary-section]")) {
+            loadSection(section);
+        }
+    },
+    true
+);
+
+/**
+ * Rendered icons by icon name, shared by all badges on the page.
+ */
+const badgeIcons = new Map();
+
+/**
+ * Fetch the compact JSON badge payload of a build and render it into the given container, replacing its content.
+ * @param container The element to render into, marked with <code>data-badge-source</code>
+ * @returns A promise resolved once the badges are rendered
+ */
+function loadBadges(container) {
+    const baseUrl = container.dataset.badgeSource;
+    return fetch(baseUrl + "/api/json?tree=badges[id,icon,text,cssClass,style,link,target]")
+        .then((rsp) => (rsp.ok ? rsp.json() : Promise.reject(new Error(rsp.statusText))))
+        .then((payload) => renderBadges(container, payload, baseUrl));
+}
+
+/**
+ * Render badges from the JSON badge payload into the given container, replacing its content.
+ * @param container The element to render into
+ * @param payload The badge payload as served by <code>badges/api/json</code>
+ * @param baseUrl The URL of the <code>badges/</code> endpoint of the build, used to fetch icons
+ */
+function renderBadges(container, payload, baseUrl) {
+    const elements = (payload.badges || []).map((badge) => renderBadge(badge, baseUrl)).filter((e) => e != null);
+    container.replaceChildren(...elements);
+    Behaviour.applySubtree(container, true);
+}
+
+/**
+ * Render a single badge the same way <code>badge.jelly</code> does.
+ * @param badge The badge from the payload
+ * @param baseUrl The URL of the <code>badges/</code> endpoint of the build
+ * @returns The rendered element or null if the badge has neither an icon nor a text
+ */
+function renderBadge(badge, baseUrl) {
+    if (!badge.icon && !badge.text) {
+        return null;
+    }
+
+    const element = document.createElement("span");
+    element.dataset.badgeId = badge.id;
+
+    let content = element;
+    if (badge.link) {
+        content = document.createElement("a");
+        content.href = badge.link;
+        if (badge.target) {
+            content.target = badge.target;
+        }
+        element.appendChild(content);
+    } else if (badge.text) {
+        element.dataset.badgeCopy = "";
+        element.dataset.text = badge.text;
+    }
+    if (badge.cssClass) {
+        content.className = badge.cssClass;
+    }
+    if (badge.style) {
+        content.style.cssText = badge.style;
+    }
+
+    if (badge.icon) {
+        const placeholder = document.createElement("span");
+        content.appendChild(placeholder);
+        loadIcon(badge, baseUrl).then((html) => {
+            const template = document.createElement("template");
+            template.innerHTML = html;
+            const icon = template.content.firstElementChild;
+            if (icon == null) {
+                placeholder.remove();
+                return;
+            }
+            if (badge.text) {
+                // texts are sanitized by the markup formatter on the server
+                icon.setAttribute("data-html-tooltip", badge.text);
+            }
+            placeholder.replaceWith(icon);
+            Behaviour.applySubtree(icon, true);
+        });
+    } else {
+        content.innerHTML = badge.text;
+    }
+    return element;
+}
+
+/**
+ * Fetch the rendered icon of a badge, each distinct icon is fetched only once.
+ * @param badge The badge from the payload
+ * @param baseUrl The URL of the <code>badges/</code> endpoint of the build
+ * @returns A promise of the icon markup
+ */
+function loadIcon(badge, baseUrl) {
+    let icon = badgeIcons.get(badge.icon);
+    if (icon == null) {
+        icon = fetch(baseUrl + "/icon?id=" + encodeURIComponent(badge.id))
+            .then((rsp) => (rsp.ok ? rsp.text() : ""))
+            .catch((error) => {
+                console.warn(error);
+                return "";
+            });
+        badgeIcons.set(badge.icon, icon);
+    }
+    return icon;
+}
+
+/**
+ * Replace the preview of a large summary with its full text.
+ * @param link The link to the full text, placed next to the preview
+
+/**
+ * Replace the preview of a large summary with its full text.
+ * @param link The link to the full text, placed next to the preview
+ */
+function loadSummary(link) {
+    const summary = link.closest("[data-badge-id]");
+    const preview = summary == null ? null : summary.querySelector("[data-badge-summary-text]");
+    if (preview == null) {
+        return;
+    }
+
+    fetch(link.href)
+        .then((rsp) => (rsp.ok ? rsp.text() : Promise.reject(new Error(rsp.statusText))))
+        .then((html) => {
+            // the text is sanitized by the markup formatter on the server
+            preview.innerHTML = html;
+            link.remove();
+        })
+        .catch((error) => console.warn(error));
+}
+
+/**
+ * Load the text of a collapsible summary section when it is expanded for the first time.
+ * @param section The <code>details</code> element of the section
+ */
+function loadSection(section) {
+    const body = section.querySelector("[data-badge-summary-url]");
+    if (body == null || body.dataset.badgeSummaryLoaded === "true") {
+        return;
+    }
+    body.dataset.badgeSummaryLoaded = "true";
+
+    fetch(body.dataset.badgeSummaryUrl)
+        .then((rsp) => (rsp.ok ? rsp.text() : Promise.reject(new Error(rsp.statusText))))
+        .then((html) => {
+            // the text is sanitized by the markup formatter on the server
+            body.innerHTML = html;
+        })
+        .catch((error) => {
+            delete body.dataset.badgeSummaryLoaded;
+            console.warn(error);
+        });
+}
+
+/**
+ * Copy the text to the clipboard
+ * @param element The element to get the text from and display the notification in
+ */
+function copy(element) {
+    let text = element.dataset.text;
+
+    if (text == null || text === "") {
+        return;
+    }
+
+    navigator.clipboard
+        .writeText(text)
+        .then(() => {
+            hoverNotification(
+                "Copied to clipboard",
+                element
+            );
+        })
+        .catch((error) => {
+            console.warn(error);
+            hoverNotification(
+                "Could not get permission to copy to clipboard",
+                element
+            );
+        });
+}
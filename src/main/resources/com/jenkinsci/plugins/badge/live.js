@@ -0,0 +1,126 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+/**
+ * Polls the badge changes of running builds and applies them to the badges and summaries shown on the page.
+ * Containers are marked with <code>data-badge-live</code>, containers sharing the same updates URL share one poller.
+ */
+const badgeUpdatePollers = new Map();
+
+const BADGE_UPDATE_INTERVAL = 5000;
+
+Behaviour.specify('[data-badge-live="true"]', "BadgeLiveUpdates", 0, (container) => {
+    const url = container.dataset.badgeUpdates;
+    let poller = badgeUpdatePollers.get(url);
+    if (poller == null) {
+        poller = { url: url, sequence: Number(container.dataset.badgeSequence), containers: new Set() };
+        badgeUpdatePollers.set(url, poller);
+        setTimeout(() => pollBadgeUpdates(poller), BADGE_UPDATE_INTERVAL);
+    }
+    poller.containers.add(container);
+});
+
+/**
+ * Fetch the changes since the last known sequence number and schedule the next poll while the build is running.
+ * @param poller The poller state
+ */
+function pollBadgeUpdates(poller) {
+    fetch(poller.url + "?since=" + poller.sequence)
+        .then((rsp) => {
+            if (!rsp.ok) {
+                return;
+            }
+            return rsp.text().then((html) => {
+                if (rsp.headers.get("X-Badge-Reset") === "true") {
+                    // changes were missed, e.g. because they were evicted from the log
+                    if (!reloadBadges(poller)) {
+                        window.location.reload();
+                        return;
+                    }
+                } else {
+                    applyBadgeUpdates(poller, html);
+                }
+                poller.sequence = Number(rsp.headers.get("X-Badge-Sequence"));
+                if (rsp.headers.get("X-More-Data") === "true") {
+                    setTimeout(() => pollBadgeUpdates(poller), BADGE_UPDATE_INTERVAL);
+                }
+            });
+        })
+        .catch((error) => console.warn(error));
+}
+
+/**
+ * Apply the rendered changes to all containers of the poller.
+ * @param poller The poller state
+ * @param html The rendered changes, one <code>template</code> per change
+ */
+/**
+ * Render the badges of all containers of a poller again from the JSON badge payload, if they can be.
+ * @param poller The poller that missed changes
+ * @returns Whether the containers are rendered again, false if the page has to be reloaded
+ */
+function reloadBadges(poller) {
+    const containers = Array.from(poller.containers);
+    if (!containers.every((container) => container.dataset.badgeSource != null)) {
+        return false;
+    }
+    containers.forEach((container) => loadBadges(container).catch((error) => console.warn(error)));
+    return true;
+}
+
+function applyBadgeUpdates(poller, html) {
+    const response = document.createElement("template");
+    response.innerHTML = html;
+
+    response.content.querySelectorAll("template[data-badge-event]").forEach((event) => {
+        const kind = event.dataset.badgeKind;
+        const id = event.dataset.badgeId;
+
+        poller.containers.forEach((container) => {
+            if (container.dataset.badgeKind !== kind) {
+                return;
+            }
+            const existing = Array.from(container.querySelectorAll("[data-badge-id]")).filter(
+                (element) => element.dataset.badgeId === id
+            );
+            const rendered = event.content.querySelector("[data-badge-id]");
+
+            if (event.dataset.badgeEvent === "REMOVED" || rendered == null) {
+                // a badge without icon and text renders nothing either
+                existing.forEach((element) => element.remove());
+            } else if (event.dataset.badgeEvent === "UPDATED" && existing.length > 0) {
+                existing.forEach((element) => {
+                    const node = rendered.cloneNode(true);
+                    element.replaceWith(node);
+                    Behaviour.applySubtree(node, true);
+                });
+            } else {
+                const node = rendered.cloneNode(true);
+                const parent = container.tBodies != null && container.tBodies.length > 0 ? container.tBodies[0] : container;
+                parent.appendChild(node);
+                Behaviour.applySubtree(node, true);
+            }
+        });
+    });
+}
@@ -0,0 +1,223 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.jenkinsci.plugins.badge.action.BadgeAction;
+import com.jenkinsci.plugins.badge.action.BadgeSummaryAction;
+import hudson.Launcher;
+import hudson.model.AbstractBuild;
+import hudson.model.BuildListener;
+import hudson.model.FreeStyleBuild;
+import hudson.model.FreeStyleProject;
+import hudson.util.PluginServletFilter;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import net.sf.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.TestBuilder;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+/**
+ * Load test of the pages rendering badges and summaries, for a job with {@value #DEFAULT_BUILDS} builds each having
+ * {@value #BADGES} badges and {@value #SUMMARIES} summaries. Fetches the job page, the build history fragment, the
+ * page and the summary tab of the last build and the remote API of the job over plain HTTP. Server side times are
+ * measured by a servlet filter, so they do not include the client.
+ * It is skipped unless run in the <code>load-test</code> profile, e.g. with <code>mvn test -DloadTest</code>. The
+ * number of builds can be changed with <code>-DloadTest.builds</code>.
+ * Percentiles of the server side time and the size of every page are written to
+ * <code>target/load-test/render.json</code> for comparison across commits.
+ */
+@WithJenkins
+@EnabledIfSystemProperty(named = "loadTest", matches = ".*")
+class BadgeRenderLoadTest {
+
+    private static final Logger LOGGER = Logger.getLogger(BadgeRenderLoadTest.class.getName());
+
+    static final int DEFAULT_BUILDS = 2000;
+
+    static final int BADGES = 5;
+
+    static final int SUMMARIES = 2;
+
+    private static final int WARMUP = 3;
+
+    private static final int REQUESTS = 20;
+
+    private static final String REQUEST_HEADER = "X-Badge-Render-Test";
+
+    @Test
+    void render(JenkinsRule r) throws Exception {
+        int builds = Integer.getInteger("loadTest.builds", DEFAULT_BUILDS);
+        FreeStyleProject project = r.createFreeStyleProject("render");
+        project.getBuildersList().add(new BadgeBuilder());
+        FreeStyleBuild last = null;
+        for (int i = 0; i < builds; i++) {
+            last = r.buildAndAssertSuccess(project);
+        }
+
+        TimingFilter filter = new TimingFilter();
+        PluginServletFilter.addFilter(filter);
+        try {
+            Map<String, String> pages = new LinkedHashMap<>();
+            pages.put("job", project.getUrl());
+            pages.put("buildHistory", project.getUrl() + "buildHistory/ajax");
+            pages.put("run", last.getUrl());
+            pages.put("summaryTab", last.getUrl() + "summary/");
+            pages.put("api", project.getUrl() + "api/json?depth=1");
+
+            JSONObject results = new JSONObject();
+            try (HttpClient client = HttpClient.newHttpClient()) {
+                for (Map.Entry<String, String> page : pages.entrySet()) {
+                    results.put(page.getKey(), measure(client, filter, r.getURL() + page.getValue()));
+                }
+            }
+
+            JSONObject result = new JSONObject();
+            result.put("timestamp", Instant.now().toString());
+            result.put("java", System.getProperty("java.version"));
+            result.put("builds", builds);
+            result.put("badges", BADGES);
+            result.put("summaries", SUMMARIES);
+            result.put("pages", results);
+
+            Path file = Path.of("target", "load-test", "render.json");
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, result.toString(2), StandardCharsets.UTF_8);
+            LOGGER.info(() -> "render: results written to " + file);
+        } finally {
+            PluginServletFilter.removeFilter(filter);
+        }
+    }
+
+    private static JSONObject measure(HttpClient client, TimingFilter filter, String url) throws Exception {
+        long[] nanos = new long[REQUESTS];
+        long bytes = 0;
+        int status = 0;
+        for (int i = -WARMUP; i < REQUESTS; i++) {
+            String id = UUID.randomUUID().toString();
+            HttpResponse<byte[]> response = client.send(
+                    HttpRequest.newBuilder(URI.create(url))
+                            .header(REQUEST_HEADER, id)
+                            .build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            status = response.statusCode();
+            bytes = response.body().length;
+            // the filter completes after the response was sent
+            await().atMost(10, TimeUnit.SECONDS).until(() -> filter.nanos.containsKey(id));
+            long time = filter.nanos.remove(id);
+            if (i >= 0) {
+                nanos[i] = time;
+            }
+        }
+        Arrays.sort(nanos);
+
+        JSONObject result = new JSONObject();
+        result.put("status", status);
+        result.put("bytes", bytes);
+        result.put("p50Millis", percentile(nanos, 50));
+        result.put("p90Millis", percentile(nanos, 90));
+        result.put("maxMillis", nanos[nanos.length - 1] / 1_000_000.0);
+        assertThat(url + " failed", status < 500, is(true));
+        return result;
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static final class BadgeBuilder extends TestBuilder {
+
+        @Override
+        public boolean perform(AbstractBuild<?, ?> build, Launcher launcher, BuildListener listener) {
+            int number = build.getNumber();
+            for (int i = 0; i < BADGES; i++) {
+                build.addAction(new BadgeAction(
+                        "badge-" + i,
+                        i % 2 == 0 ? "symbol-rocket plugin-ionicons-api" : "info.gif",
+                        "<b>Badge " + i + "</b> of build " + number,
+                        null,
+                        null,
+                        "https://www.jenkins.io/" + number,
+                        null));
+            }
+            for (int i = 0; i < SUMMARIES; i++) {
+                build.addAction(new BadgeSummaryAction(
+                        "summary-" + i,
+                        "symbol-document-text",
+                        "<p>Summary " + i + " of build " + number + "</p><ul><li>one</li><li>two</li></ul>",
+                        null,
+                        null,
+                        null,
+                        null));
+            }
+            return true;
+        }
+    }
+
+    private static final class TimingFilter implements Filter {
+
+        private final Map<String, Long> nanos = new ConcurrentHashMap<>();
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+                throws IOException, ServletException {
+            long start = System.nanoTime();
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                String id = ((HttpServletRequest) request).getHeader(REQUEST_HEADER);
+                if (id != null) {
+                    nanos.put(id, System.nanoTime() - start);
+                }
+            }
+        }
+    }
+}
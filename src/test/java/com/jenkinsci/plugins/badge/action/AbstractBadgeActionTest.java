@@ -241,6 +241,38 @@ abstract class AbstractBadgeActionTest {
         assertThat(action.getTarget(), is("target"));
     }
 
+    @Test
+    void value() {
+        AbstractBadgeAction action = createAction("id", "icon", "text", "cssClass", "style", "link", "target");
+        assertThat(action.getValue(), nullValue());
+
+        action.setValue(1.5);
+        assertThat(action.getValue(), is(1.5));
+
+        action.setValue(null);
+        assertThat(action.getValue(), nullValue());
+    }
+
+    @Test
+    void migrate() {
+        AbstractBadgeAction action = createAction("id", "info.gif", "text", "cssClass", "style", "link", null);
+        assertThat(action.migrate(), is(true));
+        assertThat(action.getRawIcon(), is("symbol-information-circle"));
+        assertThat(action.migrate(), is(false));
+
+        action.setIcon("accept.svg");
+        assertThat(action.migrate(), is(true));
+        assertThat(action.getRawIcon(), is(Ionicons.getIconClassName("checkmark-circle-outline")));
+
+        // core resources are looked up when rendered
+        action.setIcon("blue.gif");
+        assertThat(action.migrate(), is(false));
+        assertThat(action.getRawIcon(), is("blue.gif"));
+
+        action.setIcon(null);
+        assertThat(action.migrate(), is(false));
+    }
+
     @Test
     void iconFileName() {
         AbstractBadgeAction action = createAction(null, null, null, null, null, null, null);
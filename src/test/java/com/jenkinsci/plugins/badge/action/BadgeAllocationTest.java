@@ -0,0 +1,313 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.action;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import hudson.Launcher;
+import hudson.model.AbstractBuild;
+import hudson.model.BuildListener;
+import hudson.model.FreeStyleBuild;
+import hudson.model.FreeStyleProject;
+import hudson.util.PluginServletFilter;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+import java.util.logging.Logger;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import net.sf.json.JSONObject;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.TestBuilder;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+/**
+ * Allocation regression gate for rendering badges. The bytes allocated by the getters used when rendering and by
+ * rendering <code>badge.jelly</code> are measured with a JDK Flight Recorder recording of the per thread allocation
+ * statistics, and compared against the budgets below. Only the JDK is needed, no profiler or agent.
+ * The measured values are written to <code>target/allocation/allocation.json</code> and the recordings next to it,
+ * to be opened with JDK Mission Control when a budget is exceeded.
+ * The getter budgets leave ample room and are checked on every build. The allocations of rendering depend on the
+ * JDK, Jenkins and the machine, so they are only measured with <code>mvn test -DallocationTest</code>.
+ */
+@WithJenkins
+class BadgeAllocationTest {
+
+    private static final Logger LOGGER = Logger.getLogger(BadgeAllocationTest.class.getName());
+
+    /**
+     * Bytes allocated per call of {@link AbstractBadgeAction#getIcon()} for icons that are not legacy icons. Such
+     * icons are returned as is, so nothing should be allocated.
+     */
+    static final long ICON_BUDGET = 32;
+
+    /**
+     * Bytes allocated per call of {@link AbstractBadgeAction#getLink()} for valid links, which are returned as is.
+     */
+    static final long LINK_BUDGET = 32;
+
+    /**
+     * Bytes allocated per call of {@link AbstractBadgeAction#getText()}, dominated by the markup formatter.
+     */
+    static final long TEXT_BUDGET = 2 * 1024;
+
+    /**
+     * Bytes allocated per badge when rendering the badges of a build with <code>badge.jelly</code>.
+     */
+    static final long RENDER_BUDGET = 64 * 1024;
+
+    private static final int BADGES = 200;
+
+    private static final int WARMUP = 20;
+
+    private static final int ITERATIONS = 5;
+
+    private static final int CALLS = 100_000;
+
+    private static final String REQUEST_HEADER = "X-Badge-Allocation-Test";
+
+    private static final List<BadgeAction> ACTIONS = List.of(
+            new BadgeAction(null, "symbol-rocket plugin-ionicons-api", "<b>Badge</b> text", null, null, "/job/x", null),
+            new BadgeAction(null, "info.gif", "Badge text", null, null, "https://www.jenkins.io/", null),
+            new BadgeAction(null, "https://host.domain/icon.png", "Badge text", null, null, "mailto:a@b.c", null),
+            new BadgeAction(null, "/images/icon.png", null, null, null, "http://host.domain/", null));
+
+    private static JenkinsRule r;
+
+    private static final JSONObject RESULTS = new JSONObject();
+
+    @BeforeAll
+    static void setUp(JenkinsRule rule) {
+        r = rule;
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        Path file = Path.of("target", "allocation", "allocation.json");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, RESULTS.toString(2), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void getIcon() throws Exception {
+        assertWithinBudget("getIcon", ICON_BUDGET, calls(action -> length(action.getIcon())));
+    }
+
+    @Test
+    void getLink() throws Exception {
+        assertWithinBudget("getLink", LINK_BUDGET, calls(action -> length(action.getLink())));
+    }
+
+    @Test
+    void getText() throws Exception {
+        assertWithinBudget("getText", TEXT_BUDGET, calls(action -> length(action.getText())));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "allocationTest", matches = ".*")
+    void render() throws Exception {
+        FreeStyleProject project = r.createFreeStyleProject("render");
+        project.getBuildersList().add(new BadgeBuilder(BADGES));
+        FreeStyleBuild badges = r.buildAndAssertSuccess(project);
+        project.getBuildersList().clear();
+        FreeStyleBuild empty = r.buildAndAssertSuccess(project);
+
+        ThreadFilter filter = new ThreadFilter();
+        PluginServletFilter.addFilter(filter);
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            String badgesUrl = r.getURL() + badges.getUrl() + "badges/fragment";
+            String emptyUrl = r.getURL() + empty.getUrl() + "badges/fragment";
+            for (int i = 0; i < WARMUP; i++) {
+                request(client, filter, badgesUrl);
+                request(client, filter, emptyUrl);
+            }
+
+            // the empty fragment accounts for the request handling that does not depend on the badges
+            long min = Long.MAX_VALUE;
+            for (int i = 0; i < ITERATIONS; i++) {
+                long rendered = measure("render", () -> request(client, filter, badgesUrl));
+                long overhead = measure("render-empty", () -> request(client, filter, emptyUrl));
+                min = Math.min(min, rendered - overhead);
+            }
+            assertWithinBudget("render", RENDER_BUDGET, Math.max(0, min) / BADGES);
+        } finally {
+            PluginServletFilter.removeFilter(filter);
+        }
+    }
+
+    private static long calls(ToIntFunction<AbstractBadgeAction> getter) throws Exception {
+        long[] sink = new long[1];
+        Request loop = () -> {
+            for (int i = 0; i < CALLS; i++) {
+                sink[0] += getter.applyAsInt(ACTIONS.get(i % ACTIONS.size()));
+            }
+            return Thread.currentThread().threadId();
+        };
+        // warm up so the getters are compiled the way they are in a running controller
+        loop.run();
+
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < ITERATIONS; i++) {
+            min = Math.min(min, measure("getters", loop));
+        }
+        assertThat(sink[0] > 0, is(true));
+        return min / CALLS;
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+
+    private static void assertWithinBudget(String name, long budget, long bytes) {
+        JSONObject result = new JSONObject();
+        result.put("bytes", bytes);
+        result.put("budget", budget);
+        RESULTS.put(name, result);
+        LOGGER.info(() -> name + ": " + bytes + " bytes allocated, budget " + budget + " bytes");
+        assertThat(name + " allocated more bytes than its budget", bytes, lessThanOrEqualTo(budget));
+    }
+
+    /**
+     * Runs the given request while recording the allocation statistics of all threads, which are emitted at the
+     * start and at the end of the recording.
+     * @return the bytes allocated by the thread whose id was returned by the request.
+     */
+    private static long measure(String name, Request request) throws Exception {
+        Path file = Path.of("target", "allocation", name + ".jfr");
+        Files.createDirectories(file.getParent());
+        long thread;
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.ThreadAllocationStatistics").with("period", "everyChunk");
+            recording.setToDisk(true);
+            recording.start();
+            thread = request.run();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        int events = 0;
+        long first = Long.MAX_VALUE;
+        long last = 0;
+        for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+            if (event.getThread("thread") != null && event.getThread("thread").getJavaThreadId() == thread) {
+                long allocated = event.getLong("allocated");
+                first = Math.min(first, allocated);
+                last = Math.max(last, allocated);
+                events++;
+            }
+        }
+        assertThat("No allocation statistics recorded for thread " + thread, events > 0, is(true));
+        // a thread started during the recording only has its statistics at the end
+        return events == 1 ? last : last - first;
+    }
+
+    /**
+     * @return the id of the thread that handled the request.
+     */
+    private static long request(HttpClient client, ThreadFilter filter, String url) throws Exception {
+        String id = UUID.randomUUID().toString();
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(URI.create(url))
+                        .header(REQUEST_HEADER, id)
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertThat(url, response.statusCode(), is(200));
+        // the filter completes after the response was sent
+        await().atMost(10, TimeUnit.SECONDS).until(() -> filter.threads.containsKey(id));
+        return filter.threads.remove(id);
+    }
+
+    @FunctionalInterface
+    private interface Request {
+        long run() throws Exception;
+    }
+
+    private static final class BadgeBuilder extends TestBuilder {
+
+        private final int badges;
+
+        BadgeBuilder(int badges) {
+            this.badges = badges;
+        }
+
+        @Override
+        public boolean perform(AbstractBuild<?, ?> build, Launcher launcher, BuildListener listener) {
+            for (int i = 0; i < badges; i++) {
+                BadgeAction action = ACTIONS.get(i % ACTIONS.size());
+                build.addAction(new BadgeAction(
+                        "badge-" + i,
+                        action.getRawIcon(),
+                        action.getRawText() != null ? action.getRawText() + " " + i : null,
+                        null,
+                        null,
+                        action.getLink(),
+                        null));
+            }
+            return true;
+        }
+    }
+
+    private static final class ThreadFilter implements Filter {
+
+        private final Map<String, Long> threads = new ConcurrentHashMap<>();
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+                throws IOException, ServletException {
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                String id = ((HttpServletRequest) request).getHeader(REQUEST_HEADER);
+                if (id != null) {
+                    threads.put(id, Thread.currentThread().threadId());
+                }
+            }
+        }
+    }
+}
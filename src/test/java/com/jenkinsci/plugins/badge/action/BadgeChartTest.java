@@ -0,0 +1,63 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.action;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+
+import com.jenkinsci.plugins.badge.index.JobBadgeSeries;
+import org.junit.jupiter.api.Test;
+
+class BadgeChartTest {
+
+    @Test
+    void render() {
+        String svg = BadgeChart.render(
+                "<coverage>",
+                new JobBadgeSeries.Points(new int[] {3, 4, 7}, new long[] {0, 0, 0}, new double[] {80, 82.125, 81}));
+        assertThat(svg, startsWith("<svg xmlns=\"http://www.w3.org/2000/svg\""));
+        assertThat(svg, containsString("<title>&lt;coverage&gt;</title>"));
+        assertThat(svg, containsString("points=\"60,175 325,25 590,"));
+        assertThat(svg, containsString(">82.13</text>"));
+        assertThat(svg, containsString(">80</text>"));
+        assertThat(svg, containsString(">#3</text>"));
+        assertThat(svg, containsString(">#7</text>"));
+    }
+
+    @Test
+    void single() {
+        String svg =
+                BadgeChart.render("size", new JobBadgeSeries.Points(new int[] {1}, new long[] {0}, new double[] {5}));
+        assertThat(svg, containsString("points=\"325,100\""));
+    }
+
+    @Test
+    void empty() {
+        String svg = BadgeChart.render("size", new JobBadgeSeries.Points(new int[0], new long[0], new double[0]));
+        assertThat(svg, containsString("No values"));
+        assertThat(svg, not(containsString("<polyline")));
+    }
+}
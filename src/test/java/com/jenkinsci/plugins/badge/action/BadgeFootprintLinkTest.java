@@ -0,0 +1,87 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.action;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+
+import com.jenkinsci.plugins.badge.index.BadgeFootprint;
+import hudson.model.ManagementLink;
+import java.util.concurrent.TimeUnit;
+import jenkins.model.Jenkins;
+import net.sf.json.JSONObject;
+import org.jenkinsci.plugins.workflow.cps.CpsFlowDefinition;
+import org.jenkinsci.plugins.workflow.job.WorkflowJob;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+@WithJenkins
+class BadgeFootprintLinkTest {
+
+    private static JenkinsRule r;
+
+    @BeforeAll
+    static void setUp(JenkinsRule rule) {
+        r = rule;
+    }
+
+    @Test
+    void link() {
+        BadgeFootprintLink link = ManagementLink.all().get(BadgeFootprintLink.class);
+        assertThat(link.getUrlName(), is("badge-footprint"));
+        assertThat(link.getRequiredPermission(), is(Jenkins.ADMINISTER));
+    }
+
+    @Test
+    void page() throws Exception {
+        WorkflowJob project = r.createProject(WorkflowJob.class, "footprint");
+        project.setDefinition(new CpsFlowDefinition("addSummary(id: 'summary', text: 'x' * 2048)", true));
+        r.buildAndAssertSuccess(project);
+
+        try (JenkinsRule.WebClient webClient = r.createWebClient()) {
+            // the first request schedules a report
+            webClient.goTo("manage/badge-footprint/api/json", "application/json");
+            await().atMost(30, TimeUnit.SECONDS).until(() -> !BadgeFootprint.isScanning());
+            r.submit(webClient.goTo("manage/badge-footprint/").getFormByName("scan"));
+            await().atMost(30, TimeUnit.SECONDS).until(() -> !BadgeFootprint.isScanning());
+
+            JSONObject json = JSONObject.fromObject(webClient
+                    .goTo("manage/badge-footprint/api/json", "application/json")
+                    .getWebResponse()
+                    .getContentAsString());
+            assertThat(json.getBoolean("scanning"), is(false));
+            JSONObject job = json.getJSONObject("report").getJSONArray("jobs").getJSONObject(0);
+            assertThat(job.getString("name"), is("footprint"));
+            assertThat(job.getLong("textBytes"), is(2048L));
+
+            String page =
+                    webClient.goTo("manage/badge-footprint/").getWebResponse().getContentAsString();
+            assertThat(page, containsString("footprint #1"));
+        }
+    }
+}
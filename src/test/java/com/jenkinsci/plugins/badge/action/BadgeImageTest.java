@@ -0,0 +1,109 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.action;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+
+import com.jenkinsci.plugins.badge.index.BadgeRecord;
+import io.jenkins.plugins.ionicons.Ionicons;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class BadgeImageTest {
+
+    @Test
+    void render() {
+        String svg = BadgeImage.render(
+                "job",
+                List.of(
+                        BadgeRecord.of(new BadgeAction(
+                                "deploy",
+                                Ionicons.getIconClassName("information-circle"),
+                                "<b>Deployed</b> & live",
+                                null,
+                                null,
+                                null,
+                                null)),
+                        BadgeRecord.of(new BadgeAction(
+                                "tests", Ionicons.getIconClassName("remove-circle"), null, null, null, null, null))));
+        assertThat(svg, startsWith("<svg xmlns=\"http://www.w3.org/2000/svg\""));
+        assertThat(svg, containsString("<title>job: Deployed &amp; live: tests</title>"));
+        assertThat(svg, containsString(">Deployed &amp; live</text>"));
+        assertThat(svg, not(containsString("<b>")));
+        assertThat(svg, containsString("fill=\"#007ec6\""));
+        assertThat(svg, containsString("fill=\"#e05d44\""));
+    }
+
+    @Test
+    void none() {
+        String svg = BadgeImage.render("<job>", List.of());
+        assertThat(svg, containsString("<title>&lt;job&gt;: none</title>"));
+        assertThat(svg, containsString("fill=\"#9f9f9f\""));
+    }
+
+    @Test
+    void entities() {
+        String svg = BadgeImage.render(
+                "job",
+                List.of(BadgeRecord.of(new BadgeAction(
+                        "tests",
+                        null,
+                        "<b>Tests</b> &amp; &lt;checks&gt; &#10003; &unknown;",
+                        null,
+                        null,
+                        null,
+                        null))));
+        assertThat(svg, containsString(">Tests &amp; &lt;checks&gt; \u2713 &amp;unknown;</text>"));
+        assertThat(svg, not(containsString("&amp;amp;")));
+
+        assertThat(BadgeImage.decode("&#x26;&#38;&quot;&apos;"), is("&&\"'"));
+        assertThat(BadgeImage.decode("&#99999999; &#0; &#xD800; &"), is("&#99999999; &#0; &#xD800; &"));
+    }
+
+    @Test
+    void truncate() {
+        String text = "x".repeat(BadgeImage.MAX_TEXT_LENGTH);
+        assertThat(BadgeImage.truncate(text), is(text));
+
+        String truncated = BadgeImage.truncate(text + "y");
+        assertThat(truncated.length(), is(BadgeImage.MAX_TEXT_LENGTH));
+        assertThat(truncated, endsWith("x\u2026"));
+
+        // surrogate pairs are not split
+        truncated = BadgeImage.truncate("x".repeat(BadgeImage.MAX_TEXT_LENGTH - 2) + "\ud83d\ude80yy");
+        assertThat(truncated, endsWith("x\u2026"));
+
+        String svg = BadgeImage.render(
+                "l".repeat(100),
+                List.of(BadgeRecord.of(new BadgeAction("long", null, "t".repeat(1000), null, null, null, null))));
+        assertThat(svg, not(containsString("l".repeat(BadgeImage.MAX_TEXT_LENGTH))));
+        assertThat(svg, not(containsString("t".repeat(BadgeImage.MAX_TEXT_LENGTH))));
+        assertThat(svg, containsString("t".repeat(BadgeImage.MAX_TEXT_LENGTH - 1) + "\u2026</text>"));
+    }
+}
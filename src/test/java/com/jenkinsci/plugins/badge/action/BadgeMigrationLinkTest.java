@@ -0,0 +1,100 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.action;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+
+import com.jenkinsci.plugins.badge.index.BadgeMigration;
+import hudson.model.FreeStyleBuild;
+import hudson.model.FreeStyleProject;
+import hudson.model.ManagementLink;
+import java.util.concurrent.TimeUnit;
+import jenkins.model.Jenkins;
+import net.sf.json.JSONObject;
+import org.htmlunit.HttpMethod;
+import org.htmlunit.WebRequest;
+import org.htmlunit.html.HtmlForm;
+import org.htmlunit.html.HtmlPage;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+@WithJenkins
+class BadgeMigrationLinkTest {
+
+    private static JenkinsRule r;
+
+    @BeforeAll
+    static void setUp(JenkinsRule rule) {
+        r = rule;
+    }
+
+    @Test
+    void link() {
+        BadgeMigrationLink link = ManagementLink.all().get(BadgeMigrationLink.class);
+        assertThat(link.getUrlName(), is("badge-migration"));
+        assertThat(link.getRequiredPermission(), is(Jenkins.ADMINISTER));
+    }
+
+    @Test
+    void page() throws Exception {
+        FreeStyleProject project = r.createFreeStyleProject("migration");
+        FreeStyleBuild build = r.buildAndAssertSuccess(project);
+        build.addAction(new BadgeAction("legacy", "success.gif", "text", null, null, null, null));
+        build.save();
+
+        try (JenkinsRule.WebClient webClient = r.createWebClient()) {
+            HtmlPage page = webClient.goTo("manage/badge-migration/");
+            HtmlForm form = page.getFormByName("start");
+            form.getInputByName("workers").setValue("1");
+            form.getInputByName("buildsPerSecond").setValue("0");
+            r.submit(form);
+            await().atMost(30, TimeUnit.SECONDS)
+                    .until(() -> !BadgeMigration.get().isActive());
+
+            JSONObject json = JSONObject.fromObject(webClient
+                    .goTo("manage/badge-migration/api/json", "application/json")
+                    .getWebResponse()
+                    .getContentAsString());
+            assertThat(json.getString("state"), is("COMPLETED"));
+            assertThat(json.getInt("workers"), is(1));
+            assertThat(json.getInt("progress"), is(100));
+            assertThat(json.getLong("migratedBuilds"), is(1L));
+            assertThat(build.getAction(BadgeAction.class).getRawIcon(), is("symbol-status-blue"));
+
+            String content =
+                    webClient.goTo("manage/badge-migration/").getWebResponse().getContentAsString();
+            assertThat(content, containsString("Completed,"));
+
+            webClient.setThrowExceptionOnFailingStatusCode(false);
+            WebRequest request = new WebRequest(
+                    webClient.createCrumbedUrl("manage/badge-migration/start?workers=0"), HttpMethod.POST);
+            assertThat(webClient.getPage(request).getWebResponse().getStatusCode(), is(400));
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.action;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.jenkinsci.plugins.badge.index.JobBadgeIndex;
+import java.util.concurrent.TimeUnit;
+import net.sf.json.JSONArray;
+import net.sf.json.JSONObject;
+import org.htmlunit.WebResponse;
+import org.jenkinsci.plugins.workflow.cps.CpsFlowDefinition;
+import org.jenkinsci.plugins.workflow.job.WorkflowJob;
+import org.jenkinsci.plugins.workflow.job.WorkflowRun;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+@WithJenkins
+class BadgeSearchActionTest {
+
+    private static JenkinsRule r;
+
+    @BeforeAll
+    static void setUp(JenkinsRule rule) {
+        r = rule;
+    }
+
+    @Test
+    void action() {
+        BadgeSearchAction action =
+                r.jenkins.getExtensionList(BadgeSearchAction.class).get(0);
+        assertThat(action.getUrlName(), is("badges"));
+        assertThat(action.getIconFileName(), nullValue());
+        assertThat(action.getDisplayName(), nullValue());
+    }
+
+    @Test
+    void api() throws Exception {
+        WorkflowJob project = r.createProject(WorkflowJob.class, "deployments");
+        project.setDefinition(new CpsFlowDefinition(
+                "addBadge(id: 'deployed-prod', text: 'Deployed 1.0-RC1')\n"
+                        + "addSummary(id: 'notes', text: 'Release notes')",
+                true));
+        WorkflowRun run = r.assertBuildStatusSuccess(project.scheduleBuild2(0));
+        JobBadgeIndex index = JobBadgeIndex.get(project);
+        await().atMost(10, TimeUnit.SECONDS).until(() -> !index.isRebuilding());
+
+        try (JenkinsRule.WebClient webClient = r.createWebClient()) {
+            JSONObject json = getJson(webClient, "id=deployed-prod");
+            JSONArray results = json.getJSONArray("results");
+            assertThat(results.size(), is(1));
+            JSONObject result = results.getJSONObject(0);
+            assertThat(result.getString("job"), is("deployments"));
+            assertThat(result.getString("url"), is(run.getUrl()));
+            assertThat(result.getInt("number"), is(run.getNumber()));
+            assertThat(result.getJSONArray("badges").size(), is(1));
+            assertThat(result.getJSONArray("badges").getJSONObject(0).getString("id"), is("deployed-prod"));
+
+            assertThat(getJson(webClient, "text=rc").getJSONArray("results").size(), is(1));
+            assertThat(
+                    getJson(webClient, "text=notes&kind=badge")
+                            .getJSONArray("results")
+                            .size(),
+                    is(0));
+            assertThat(
+                    getJson(webClient, "text=notes&kind=summary")
+                            .getJSONArray("results")
+                            .size(),
+                    is(1));
+
+            webClient.assertFails("badges/api/json?kind=unknown", 400);
+        }
+    }
+
+    @Test
+    void export() throws Exception {
+        WorkflowJob project = r.createProject(WorkflowJob.class, "exported");
+        project.setDefinition(new CpsFlowDefinition("addBadge(id: 'exported', text: 'Exported')", true));
+        JobBadgeIndex index = JobBadgeIndex.get(project);
+        await().atMost(10, TimeUnit.SECONDS).until(() -> !index.isRebuilding());
+        r.assertBuildStatusSuccess(project.scheduleBuild2(0));
+
+        try (JenkinsRule.WebClient webClient = r.createWebClient()) {
+            WebResponse response = webClient
+                    .goTo("badges/export?resume=exported:0", "application/x-ndjson")
+                    .getWebResponse();
+            JSONObject line = JSONObject.fromObject(
+                    response.getContentAsString().lines().findFirst().orElseThrow());
+            assertThat(line.getString("job"), is("exported"));
+            assertThat(line.getString("resume"), is("exported:1"));
+
+            webClient.assertFails("badges/export?resume=invalid", 400);
+            webClient.assertFails("badges/export?folder=unknown", 404);
+        }
+    }
+
+    private static JSONObject getJson(JenkinsRule.WebClient webClient, String query) throws Exception {
+        return JSONObject.fromObject(webClient
+                .goTo("badges/api/json?" + query, "application/json")
+                .getWebResponse()
+                .getContentAsString());
+    }
+}
@@ -24,8 +24,20 @@
 package com.jenkinsci.plugins.badge.action;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 
+import hudson.Util;
+import hudson.markup.EscapedMarkupFormatter;
+import hudson.markup.MarkupFormatter;
+import hudson.markup.RawHtmlMarkupFormatter;
+import hudson.model.Run;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Random;
 import org.junit.jupiter.api.Test;
 import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
 
@@ -40,6 +52,140 @@ class BadgeSummaryActionTest extends AbstractBadgeActionTest {
         assertThat(action.getTarget(), nullValue());
     }
 
+    @Test
+    void large() throws Exception {
+        BadgeSummaryAction action = new BadgeSummaryAction("id", null, "Test Text", null, null, null, null);
+        assertThat(action.isLarge(), is(false));
+        assertThat(action.getPreview(), is(action.getText()));
+        assertThat(action.getTextUrl(), nullValue());
+
+        action.setText("x".repeat(256 * 1024 + 1));
+        // measured and previewed without decompressing the whole text
+        assertThat(action.isCompressed(), is(true));
+        assertThat(action.isLarge(), is(true));
+        assertThat(action.getPreview().length(), lessThan(5000));
+
+        StringWriter writer = new StringWriter();
+        action.writeText(writer);
+        assertThat(writer.toString(), is(action.getText()));
+    }
+
+    @Test
+    void previewEnd() {
+        assertThat(BadgeSummaryAction.previewEnd("abcdef", 4), is(4));
+        // never within a tag
+        assertThat(BadgeSummaryAction.previewEnd("ab<b>cd</b>", 4), is(2));
+        assertThat(BadgeSummaryAction.previewEnd("ab<b>cd</b>", 5), is(5));
+        assertThat(BadgeSummaryAction.previewEnd("ab<b>cd</b>", 9), is(7));
+        // never within an entity
+        assertThat(BadgeSummaryAction.previewEnd("a &amp; b", 5), is(2));
+        assertThat(BadgeSummaryAction.previewEnd("a &amp; b", 7), is(7));
+        assertThat(BadgeSummaryAction.previewEnd("a & b", 4), is(4));
+        // never within a surrogate pair
+        assertThat(BadgeSummaryAction.previewEnd("ab\uD83D\uDE00", 3), is(2));
+    }
+
+    @Test
+    void writeCompressedText() throws Exception {
+        String paragraphs = "<p>line <b>bold</b> &amp; more</p>\n".repeat(2000);
+        String table = "<table>" + "<tr><td>cell</td></tr>".repeat(2000) + "</table>";
+        String lines = "plain text & <line>\n".repeat(5000);
+        for (MarkupFormatter formatter : List.of(RawHtmlMarkupFormatter.INSTANCE, new EscapedMarkupFormatter())) {
+            r.jenkins.setMarkupFormatter(formatter);
+            for (String text : List.of(paragraphs, table, lines)) {
+                BadgeSummaryAction action = new BadgeSummaryAction("id", null, text, null, null, null, null);
+                assertThat(action.isCompressed(), is(true));
+                StringWriter writer = new StringWriter();
+                action.writeText(writer);
+                assertThat(writer.toString(), is(formatter.translate(text)));
+            }
+        }
+    }
+
+    @Test
+    void fragments() {
+        BadgeSummaryAction.FragmentScanner scanner = new BadgeSummaryAction.FragmentScanner();
+        StringBuilder text = new StringBuilder("<p>a</p><div><b>b</b>");
+        assertThat(scanner.scan(text), is(8));
+        text.delete(0, 8);
+        scanner.shift(8);
+
+        // line breaks within elements do not end a fragment, a trailing < is decided with the next character
+        text.append("<br/>\nc</div>x <");
+        assertThat(scanner.scan(text), is(26));
+        text.delete(0, 26);
+        scanner.shift(26);
+
+        text.append("!-- a > b -->\nd < e");
+        assertThat(scanner.scan(text), is(17));
+    }
+
+    @Test
+    void compact() throws Exception {
+        BadgeSummaryAction action = new BadgeSummaryAction("id", null, "short", null, null, null, null);
+        assertThat(action.compact(), is(false));
+        assertThat(action.getRawText(), is("short"));
+        assertThat(action.getRemovedTextDigest(), nullValue());
+        assertThat(action.getRemovedTextSize(), is(0L));
+
+        action.setText("ä".repeat(1000));
+        assertThat(action.compact(), is(true));
+        assertThat(action.getRemovedTextSize(), is(2000L));
+        assertThat(action.getRemovedTextDigest(), is(Util.getDigestOf("ä".repeat(1000))));
+        assertThat(action.getRawText(), containsString(action.getRemovedTextDigest()));
+        assertThat(action.compact(), is(false));
+    }
+
+    @Test
+    void compressed() {
+        String text = "<tr><td>test</td><td>passed</td></tr>\n".repeat(1000);
+        BadgeSummaryAction action = new BadgeSummaryAction("id", null, text, null, null, null, null);
+        assertThat(action.isCompressed(), is(true));
+        assertThat(action.getRawText(), is(text));
+        assertThat(action.getText(), is(Util.escape(text)));
+        assertThat(action.getTextLength(), is(text.length()));
+        assertThat(action.getTextBytes(), is((long) text.length()));
+        assertThat(action.getTextDigest(), is(Util.getDigestOf(text)));
+        assertThat(action.getTextPrefix(10), is(text.substring(0, 10)));
+
+        String xml = Run.XSTREAM2.toXML(action);
+        assertThat(xml, containsString("<compressedText>"));
+        assertThat(xml, containsString("<textLength>" + text.length() + "</textLength>"));
+        assertThat(xml, not(containsString("<text>")));
+        assertThat(xml.length(), lessThan(text.length() / 5));
+        BadgeSummaryAction loaded = (BadgeSummaryAction) Run.XSTREAM2.fromXML(xml);
+        assertThat(loaded.getRawText(), is(text));
+        assertThat(loaded.getTextLength(), is(text.length()));
+
+        action.setText("small");
+        assertThat(action.isCompressed(), is(false));
+        assertThat(action.getRawText(), is("small"));
+        assertThat(action.getTextLength(), is(5));
+        assertThat(action.getTextPrefix(3), is("sma"));
+
+        // texts that do not compress are stored as is
+        StringBuilder random = new StringBuilder();
+        new Random(42).ints(20000, 0x4E00, 0x9FFF).forEach(random::appendCodePoint);
+        action.setText(random.toString());
+        assertThat(action.isCompressed(), is(false));
+        assertThat(action.getRawText(), is(random.toString()));
+    }
+
+    @Test
+    void migrateCompresses() {
+        String text = "x".repeat(100000);
+        BadgeSummaryAction legacy = (BadgeSummaryAction)
+                Run.XSTREAM2.fromXML("<com.jenkinsci.plugins.badge.action.BadgeSummaryAction><id>id</id><text>" + text
+                        + "</text></com.jenkinsci.plugins.badge.action.BadgeSummaryAction>");
+        assertThat(legacy.isCompressed(), is(false));
+        assertThat(legacy.getRawText(), is(text));
+
+        assertThat(legacy.migrate(), is(true));
+        assertThat(legacy.isCompressed(), is(true));
+        assertThat(legacy.getRawText(), is(text));
+        assertThat(legacy.migrate(), is(false));
+    }
+
     @Override
     protected AbstractBadgeAction createAction(
             String id, String icon, String text, String cssClass, String style, String link, String target) {
@@ -0,0 +1,95 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.action;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import org.jenkinsci.plugins.workflow.cps.CpsFlowDefinition;
+import org.jenkinsci.plugins.workflow.job.WorkflowJob;
+import org.jenkinsci.plugins.workflow.job.WorkflowRun;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+@WithJenkins
+class BadgeVersionActionTest {
+
+    private static JenkinsRule r;
+
+    @BeforeAll
+    static void setUp(JenkinsRule rule) {
+        r = rule;
+    }
+
+    @Test
+    void version() throws Exception {
+        WorkflowRun run = runJob("def badge = addBadge(id: 'badge', text: 'Test Text')\n"
+                + "badge.setText('Updated Text')\n"
+                + "removeBadges(id: 'badge')");
+
+        BadgeVersionAction action = BadgeVersionAction.of(run);
+        assertThat(action, notNullValue());
+        assertThat(action.getVersion(), is(3L));
+        assertThat(action.getLastModified(), greaterThan(0L));
+        assertThat(action.isModifiedAfterCompletion(), is(false));
+        assertThat(action.getIconFileName(), nullValue());
+        assertThat(action.getDisplayName(), nullValue());
+        assertThat(action.getUrlName(), nullValue());
+    }
+
+    @Test
+    void unchanged() throws Exception {
+        WorkflowRun run = runJob("echo 'no badges'");
+        assertThat(BadgeVersionAction.of(run), nullValue());
+    }
+
+    @Test
+    void modifiedAfterCompletion() throws Exception {
+        WorkflowRun run = runJob("addBadge(id: 'badge', text: 'Test Text')");
+
+        run.getAction(BadgeAction.class).setText("Updated Text");
+
+        BadgeVersionAction action = BadgeVersionAction.of(run);
+        assertThat(action.getVersion(), is(2L));
+        assertThat(action.isModifiedAfterCompletion(), is(true));
+
+        String xml = Files.readString(run.getRootDir().toPath().resolve("build.xml"), StandardCharsets.UTF_8);
+        assertThat(xml, containsString("<modifiedAfterCompletion>true</modifiedAfterCompletion>"));
+        assertThat(xml, containsString("Updated Text"));
+    }
+
+    private static WorkflowRun runJob(String script) throws Exception {
+        WorkflowJob project = r.createProject(WorkflowJob.class);
+        project.setDefinition(new CpsFlowDefinition(script, true));
+        return r.assertBuildStatusSuccess(project.scheduleBuild2(0));
+    }
+}
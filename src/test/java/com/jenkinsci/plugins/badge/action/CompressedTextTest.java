@@ -0,0 +1,101 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.action;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+
+class CompressedTextTest {
+
+    @Test
+    void roundtrip() {
+        String text = "<tr><td>test</td><td>passed</td><td>ä€😀</td></tr>\n".repeat(1000);
+        String data = CompressedText.compress(text);
+        assertThat(data.length(), lessThan(text.length() / 10));
+        assertThat(CompressedText.decompress(data), is(text));
+        assertThat(CompressedText.decompress(CompressedText.compress("")), is(""));
+    }
+
+    @Test
+    void invalid() {
+        assertThrows(IllegalArgumentException.class, () -> CompressedText.decompress("not base64!"));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> CompressedText.decompress(Base64.getEncoder().encodeToString(new byte[] {1, 2, 3})));
+        String data = CompressedText.compress("x".repeat(10000));
+        assertThrows(IllegalArgumentException.class, () -> CompressedText.decompress(data.substring(0, 8)));
+    }
+
+    @Test
+    void cache() {
+        CompressedText cache = new CompressedText(300);
+        String first = CompressedText.compress("a".repeat(100));
+        String second = CompressedText.compress("b".repeat(100));
+        String third = CompressedText.compress("c".repeat(100));
+        String large = CompressedText.compress("d".repeat(300));
+
+        String text = cache.getText(first);
+        assertThat(text, is("a".repeat(100)));
+        assertThat(cache.getText(first), sameInstance(text));
+        cache.getText(second);
+        assertThat(cache.size(), is(2));
+        // the compressed texts kept as keys count towards the size
+        long chars = 200L + first.length() + second.length();
+        assertThat(cache.getChars(), is(chars));
+
+        // the least recently used text is evicted
+        cache.getText(first);
+        cache.getText(third);
+        assertThat(cache.size(), is(2));
+        assertThat(cache.getText(first), sameInstance(text));
+
+        // texts larger than the cache are not cached
+        assertThat(cache.getText(large), is("d".repeat(300)));
+        assertThat(cache.size(), is(2));
+        assertThat(cache.getChars(), is(200L + first.length() + third.length()));
+    }
+
+    @Test
+    void prefix() {
+        CompressedText cache = new CompressedText(1000);
+        String text = "ä€😀x".repeat(1000);
+        String data = CompressedText.compress(text);
+
+        assertThat(cache.getPrefix(data, 10), is(text.substring(0, 10)));
+        assertThat(cache.getPrefix(data, 0), is(""));
+        assertThat(cache.getPrefix(data, text.length() + 1), is(text));
+        // the prefix is not cached
+        assertThat(cache.size(), is(0));
+
+        String small = CompressedText.compress("small");
+        cache.getText(small);
+        assertThat(cache.getPrefix(small, 3), is("sma"));
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.action;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.jenkinsci.plugins.badge.index.BadgeSearchIndex;
+import com.jenkinsci.plugins.badge.index.JobBadgeIndex;
+import java.util.concurrent.TimeUnit;
+import net.sf.json.JSONObject;
+import org.jenkinsci.plugins.workflow.cps.CpsFlowDefinition;
+import org.jenkinsci.plugins.workflow.job.WorkflowJob;
+import org.jenkinsci.plugins.workflow.job.WorkflowRun;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.MockFolder;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+@WithJenkins
+class FolderBadgesActionTest {
+
+    private static JenkinsRule r;
+
+    private static MockFolder folder;
+
+    @BeforeAll
+    static void setUp(JenkinsRule rule) throws Exception {
+        r = rule;
+        folder = r.createFolder("branches");
+        createJob("main", "addBadge(id: 'main', text: 'Main')");
+        createJob(
+                "feature", "addBadge(id: 'feature', text: 'Feature')\n" + "addSummary(id: 'summary', text: 'Summary')");
+        createJob("empty", null);
+    }
+
+    @Test
+    void factory() throws Exception {
+        FolderBadgesAction action = folder.getAction(FolderBadgesAction.class);
+        assertThat(action, notNullValue());
+        assertThat(action.getFolder(), is(folder));
+        assertThat(action.getUrlName(), is("badges"));
+        assertThat(((WorkflowJob) folder.getItem("main")).getAction(FolderBadgesAction.class), nullValue());
+    }
+
+    @Test
+    void page() {
+        FolderBadgesAction action = folder.getAction(FolderBadgesAction.class);
+
+        FolderBadgesAction.Page page = action.getPage(0, null);
+        assertThat(page.getPages(), is(1));
+        assertThat(page.isComplete(), is(true));
+        assertThat(
+                page.getEntries().stream()
+                        .map(entry -> entry.getJob().getName())
+                        .toList(),
+                contains("feature", "main", "empty"));
+        FolderBadgesAction.Entry entry = page.getEntries().get(0);
+        assertThat(entry.getBuild().getNumber(), is(1));
+        // summaries are not shown
+        assertThat(entry.getBadges().size(), is(1));
+        assertThat(entry.getBadges().get(0).getText(), is("Feature"));
+        assertThat(page.getEntries().get(2).getBuild(), nullValue());
+
+        assertThat(
+                action.getPage(0, "name").getEntries().stream()
+                        .map(e -> e.getJob().getName())
+                        .toList(),
+                contains("empty", "feature", "main"));
+        assertThat(action.getRequestedPage("invalid", null).getPage(), is(0));
+        assertThat(action.getPage(5, null).getPage(), is(0));
+    }
+
+    @Test
+    void api() throws Exception {
+        try (JenkinsRule.WebClient webClient = r.createWebClient()) {
+            JSONObject json = JSONObject.fromObject(webClient
+                    .goTo(folder.getUrl() + "badges/api/json?sort=name", "application/json")
+                    .getWebResponse()
+                    .getContentAsString());
+            assertThat(json.getJSONArray("jobs").size(), is(3));
+            assertThat(json.getJSONArray("jobs").getJSONObject(1).getString("job"), is("branches/feature"));
+            assertThat(
+                    json.getJSONArray("jobs")
+                            .getJSONObject(1)
+                            .getJSONObject("build")
+                            .getInt("number"),
+                    is(1));
+            assertThat(json.getInt("pages"), is(1));
+            webClient.assertFails(folder.getUrl() + "badges/api/json?page=first", 400);
+
+            String page =
+                    webClient.goTo(folder.getUrl() + "badges/").getWebResponse().getContentAsString();
+            assertThat(page, containsString("Feature"));
+            assertThat(page, containsString("data-badge-id=\"main\""));
+        }
+    }
+
+    @Test
+    void link() throws Exception {
+        FolderBadgesAction action = folder.getAction(FolderBadgesAction.class);
+        assertThat(action.getDisplayName(), is("Badges"));
+        assertThat(action.getIconFileName(), notNullValue());
+
+        MockFolder other = r.createFolder("other");
+        WorkflowJob job = other.createProject(WorkflowJob.class, "job");
+        FolderBadgesAction otherAction = other.getAction(FolderBadgesAction.class);
+        assertThat(otherAction.getIconFileName(), notNullValue());
+
+        // showing the page does not build indexes
+        FolderBadgesAction.Page page = otherAction.getPage(0, null);
+        assertThat(page.getEntries().size(), is(1));
+        assertThat(page.getEntries().get(0).getBuild(), nullValue());
+        assertThat(page.isComplete(), is(true));
+        assertThat(JobBadgeIndex.getIfExists(job), nullValue());
+    }
+
+    @Test
+    void updated() throws Exception {
+        MockFolder other = r.createFolder("updated");
+        WorkflowJob job = other.createProject(WorkflowJob.class, "job");
+        job.setDefinition(new CpsFlowDefinition("addBadge(id: 'badge', text: 'Before')", true));
+        WorkflowRun run = r.assertBuildStatusSuccess(job.scheduleBuild2(0));
+        FolderBadgesAction action = other.getAction(FolderBadgesAction.class);
+        await().atMost(10, TimeUnit.SECONDS)
+                .until(() -> action.getPage(0, null).getEntries().get(0).getBuild() != null);
+
+        // the latest badges follow changes of the badges
+        run.getAction(BadgeAction.class).setText("After");
+        await().atMost(10, TimeUnit.SECONDS).until(() -> action.getPage(0, null)
+                .getEntries()
+                .get(0)
+                .getBadges()
+                .get(0)
+                .getText()
+                .equals("After"));
+    }
+
+    private static void createJob(String name, String script) throws Exception {
+        WorkflowJob project = folder.createProject(WorkflowJob.class, name);
+        JobBadgeIndex index = JobBadgeIndex.get(project);
+        await().atMost(10, TimeUnit.SECONDS).until(() -> !index.isRebuilding());
+        if (script != null) {
+            project.setDefinition(new CpsFlowDefinition(script, true));
+            r.assertBuildStatusSuccess(project.scheduleBuild2(0));
+            await().atMost(10, TimeUnit.SECONDS)
+                    .until(() -> BadgeSearchIndex.get().getLatest(project.getFullName()) != null);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.action;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.jenkinsci.plugins.badge.index.JobBadgeIndex;
+import com.jenkinsci.plugins.badge.index.JobBadgeStats;
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+import net.sf.json.JSONObject;
+import org.jenkinsci.plugins.workflow.cps.CpsFlowDefinition;
+import org.jenkinsci.plugins.workflow.job.WorkflowJob;
+import org.jenkinsci.plugins.workflow.job.WorkflowRun;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+@WithJenkins
+class JobBadgeStatsActionTest {
+
+    private static JenkinsRule r;
+
+    @BeforeAll
+    static void setUp(JenkinsRule rule) {
+        r = rule;
+    }
+
+    @Test
+    void stats() throws Exception {
+        WorkflowJob project = createJob();
+        JobBadgeStatsAction action = project.getAction(JobBadgeStatsAction.class);
+        assertThat(action.getIconFileName(), nullValue());
+
+        project.setDefinition(new CpsFlowDefinition(
+                "addInfoBadge(id: 'deploy', text: 'Deployed')\n" + "addErrorBadge(id: 'tests', text: 'Tests failed')",
+                true));
+        r.assertBuildStatusSuccess(project.scheduleBuild2(0));
+        project.setDefinition(new CpsFlowDefinition("addInfoBadge(id: 'deploy', text: 'Deployed')", true));
+        WorkflowRun second = r.assertBuildStatusSuccess(project.scheduleBuild2(0));
+
+        JobBadgeStats stats = action.getStats();
+        assertThat(action.getIconFileName(), notNullValue());
+        assertThat(stats.getBuilds(), is(2));
+        assertThat(stats.getIds().get("deploy").getLastBuild(), is(2));
+        assertThat(stats.getCount(JobBadgeStats.Type.INFO), is(2));
+        assertThat(action.formatRate(JobBadgeStats.Type.ERROR), is("50.0 %"));
+
+        second.delete();
+        assertThat(stats.getBuilds(), is(1));
+        assertThat(stats.getIds().get("deploy").getLastBuild(), is(1));
+        assertThat(action.formatRate(JobBadgeStats.Type.ERROR), is("100.0 %"));
+
+        JobBadgeIndex.get(project).save();
+        assertThat(new File(project.getRootDir(), "badge-stats.xml").isFile(), is(true));
+    }
+
+    @Test
+    void api() throws Exception {
+        WorkflowJob project = createJob();
+        project.setDefinition(new CpsFlowDefinition("addWarningBadge(id: 'flaky', text: 'Flaky')", true));
+        r.assertBuildStatusSuccess(project.scheduleBuild2(0));
+
+        try (JenkinsRule.WebClient webClient = r.createWebClient()) {
+            JSONObject json = JSONObject.fromObject(webClient
+                    .goTo(project.getUrl() + "badge-stats/api/json", "application/json")
+                    .getWebResponse()
+                    .getContentAsString());
+            assertThat(json.getInt("builds"), is(1));
+            assertThat(json.getJSONObject("ids").getJSONObject("flaky").getInt("count"), is(1));
+            assertThat(json.getJSONObject("types").getJSONObject("warning").getDouble("rate"), is(1.0));
+            assertThat(json.getBoolean("complete"), is(true));
+
+            String page = webClient
+                    .goTo(project.getUrl() + "badge-stats/")
+                    .getWebResponse()
+                    .getContentAsString();
+            assertThat(page, containsString("flaky"));
+            assertThat(page, containsString("100.0 %"));
+        }
+    }
+
+    private static WorkflowJob createJob() throws Exception {
+        WorkflowJob project = r.createProject(WorkflowJob.class);
+        JobBadgeIndex index = JobBadgeIndex.get(project);
+        await().atMost(10, TimeUnit.SECONDS).until(() -> !index.isRebuilding());
+        return project;
+    }
+}
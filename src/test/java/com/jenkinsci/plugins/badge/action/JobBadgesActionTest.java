@@ -0,0 +1,286 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.action;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.jenkinsci.plugins.badge.index.JobBadgeIndex;
+import java.io.File;
+import java.net.URL;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import net.sf.json.JSONArray;
+import net.sf.json.JSONNull;
+import net.sf.json.JSONObject;
+import org.htmlunit.WebRequest;
+import org.htmlunit.WebResponse;
+import org.jenkinsci.plugins.workflow.cps.CpsFlowDefinition;
+import org.jenkinsci.plugins.workflow.job.WorkflowJob;
+import org.jenkinsci.plugins.workflow.job.WorkflowRun;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+@WithJenkins
+class JobBadgesActionTest {
+
+    private static JenkinsRule r;
+
+    @BeforeAll
+    static void setUp(JenkinsRule rule) {
+        r = rule;
+    }
+
+    @Test
+    void factory() throws Exception {
+        WorkflowJob project = r.createProject(WorkflowJob.class);
+        JobBadgesAction action = project.getAction(JobBadgesAction.class);
+        assertThat(action, notNullValue());
+        assertThat(action.getJob(), is(project));
+        assertThat(action.getUrlName(), is("badges"));
+        assertThat(action.getIconFileName(), nullValue());
+        assertThat(action.getDisplayName(), nullValue());
+    }
+
+    @Test
+    void api() throws Exception {
+        WorkflowJob project = r.createProject(WorkflowJob.class);
+        project.setDefinition(new CpsFlowDefinition(
+                "addBadge(id: 'badge', icon: 'info.gif', text: 'Test Text')\n"
+                        + "addSummary(id: 'summary', text: 'Test Summary')",
+                true));
+        for (int i = 0; i < 3; i++) {
+            r.assertBuildStatusSuccess(project.scheduleBuild2(0));
+        }
+        JobBadgeIndex index = JobBadgeIndex.get(project);
+        await().atMost(10, TimeUnit.SECONDS).until(() -> !index.isRebuilding());
+
+        try (JenkinsRule.WebClient webClient = r.createWebClient()) {
+            JSONObject json = getJson(webClient, project, "limit=2");
+            JSONArray builds = json.getJSONArray("builds");
+            assertThat(builds.size(), is(2));
+            assertThat(builds.getJSONObject(0).getInt("number"), is(3));
+            assertThat(builds.getJSONObject(0).getString("result"), is("SUCCESS"));
+            assertThat(builds.getJSONObject(0).getJSONArray("badges").size(), is(2));
+            assertThat(json.getInt("nextCursor"), is(2));
+            assertThat(json.getBoolean("complete"), is(true));
+
+            json = getJson(webClient, project, "limit=2&cursor=2");
+            builds = json.getJSONArray("builds");
+            assertThat(builds.size(), is(1));
+            assertThat(builds.getJSONObject(0).getInt("number"), is(1));
+            assertThat(json.get("nextCursor") instanceof JSONNull, is(true));
+
+            json = getJson(webClient, project, "fields=id,icon");
+            JSONObject badge = json.getJSONArray("builds")
+                    .getJSONObject(0)
+                    .getJSONArray("badges")
+                    .getJSONObject(0);
+            assertThat(badge.keySet(), is(Set.of("id", "icon")));
+            assertThat(badge.getString("icon"), is("info.gif"));
+
+            webClient.assertFails(project.getUrl() + "badges/api/json?fields=unknown", 400);
+            webClient.assertFails(project.getUrl() + "badges/api/json?limit=many", 400);
+        }
+    }
+
+    @Test
+    void filter() throws Exception {
+        WorkflowJob project = r.createProject(WorkflowJob.class);
+        JobBadgeIndex index = JobBadgeIndex.get(project);
+        await().atMost(10, TimeUnit.SECONDS).until(() -> !index.isRebuilding());
+        for (String release : new String[] {"1.0", "1.1", "2.0"}) {
+            project.setDefinition(new CpsFlowDefinition(
+                    "addBadge(id: 'release', text: 'Release " + release + "')\n"
+                            + "addBadge(id: 'status', text: 'Tests passed')",
+                    true));
+            r.assertBuildStatusSuccess(project.scheduleBuild2(0));
+        }
+        JobBadgesAction action = project.getAction(JobBadgesAction.class);
+
+        assertThat(action.filter("release", null).size(), is(3));
+        assertThat(
+                action.filter("release", "1.").stream()
+                        .map(hit -> hit.getBuild().getNumber())
+                        .toList(),
+                contains(2, 1));
+        assertThat(action.filter(" ", "release 2").size(), is(1));
+        assertThat(action.filter("status", "release").size(), is(0));
+
+        try (JenkinsRule.WebClient webClient = r.createWebClient()) {
+            JSONObject json = JSONObject.fromObject(webClient
+                    .goTo(project.getUrl() + "badges/filter?id=release&text=2.0", "application/json")
+                    .getWebResponse()
+                    .getContentAsString());
+            assertThat(json.getJSONArray("builds").toArray(), is(new Object[] {3}));
+            assertThat(json.getBoolean("complete"), is(true));
+            webClient.assertFails(project.getUrl() + "badges/filter?limit=many", 400);
+
+            String page = webClient
+                    .goTo(project.getUrl() + "badges/?id=release&text=2.0")
+                    .getWebResponse()
+                    .getContentAsString();
+            assertThat(page, containsString("Release 2.0"));
+            assertThat(page, not(containsString("Release 1.0")));
+
+            page = webClient.getPage(project).getWebResponse().getContentAsString();
+            assertThat(page, containsString("Find builds by badge"));
+        }
+    }
+
+    @Test
+    void svg() throws Exception {
+        WorkflowJob project = r.createProject(WorkflowJob.class, "svg");
+        JobBadgeIndex index = JobBadgeIndex.get(project);
+        await().atMost(10, TimeUnit.SECONDS).until(() -> !index.isRebuilding());
+        project.setDefinition(new CpsFlowDefinition(
+                "addInfoBadge(id: 'release', text: 'Release 1.0')\n" + "addWarningBadge(id: 'flaky', text: 'Flaky')",
+                true));
+        r.assertBuildStatusSuccess(project.scheduleBuild2(0));
+        project.setDefinition(new CpsFlowDefinition("addErrorBadge(id: 'failed', text: 'Failed')", true));
+        WorkflowRun run = r.assertBuildStatusSuccess(project.scheduleBuild2(0));
+
+        try (JenkinsRule.WebClient webClient = r.createWebClient()) {
+            webClient.getCache().setMaxSize(0);
+
+            WebResponse response = webClient
+                    .goTo(project.getUrl() + "badges/svg", "image/svg+xml")
+                    .getWebResponse();
+            assertThat(response.getContentAsString(), containsString("<title>svg: Failed</title>"));
+            String etag = response.getResponseHeaderValue("ETag");
+
+            WebRequest request = new WebRequest(new URL(r.getURL(), project.getUrl() + "badges/svg"));
+            request.setAdditionalHeader("If-None-Match", etag);
+            assertThat(webClient.getPage(request).getWebResponse().getStatusCode(), is(304));
+
+            String svg = webClient
+                    .goTo(project.getUrl() + "badges/svg?id=release&label=Version", "image/svg+xml")
+                    .getWebResponse()
+                    .getContentAsString();
+            assertThat(svg, containsString("<title>Version: Release 1.0</title>"));
+
+            // a changed badge invalidates the image
+            run.getAction(BadgeAction.class).setText("Broken");
+            response = webClient.getPage(request).getWebResponse();
+            assertThat(response.getStatusCode(), is(200));
+            assertThat(response.getContentAsString(), containsString("<title>svg: Broken</title>"));
+        }
+    }
+
+    @Test
+    void series() throws Exception {
+        WorkflowJob project = r.createProject(WorkflowJob.class, "series");
+        JobBadgeIndex index = JobBadgeIndex.get(project);
+        await().atMost(10, TimeUnit.SECONDS).until(() -> !index.isRebuilding());
+        for (int i = 1; i <= 3; i++) {
+            project.setDefinition(new CpsFlowDefinition(
+                    "addBadge(id: 'coverage', text: 'Coverage', value: " + (80 + i) + ".5)\n"
+                            + "addBadge(id: 'plain', text: 'Plain')",
+                    true));
+            r.assertBuildStatusSuccess(project.scheduleBuild2(0));
+        }
+        JobBadgesAction action = project.getAction(JobBadgesAction.class);
+        assertThat(action.getSeriesIds(), contains("coverage"));
+
+        try (JenkinsRule.WebClient webClient = r.createWebClient()) {
+            JSONObject json = JSONObject.fromObject(webClient
+                    .goTo(project.getUrl() + "badges/series", "application/json")
+                    .getWebResponse()
+                    .getContentAsString());
+            assertThat(json.getJSONArray("ids"), is(JSONArray.fromObject(List.of("coverage"))));
+
+            json = JSONObject.fromObject(webClient
+                    .goTo(project.getUrl() + "badges/series?id=coverage&limit=2", "application/json")
+                    .getWebResponse()
+                    .getContentAsString());
+            assertThat(json.getString("id"), is("coverage"));
+            assertThat(json.getJSONArray("builds"), is(JSONArray.fromObject(List.of(2, 3))));
+            assertThat(json.getJSONArray("timestamps").size(), is(2));
+            assertThat(json.getJSONArray("values").getDouble(1), is(83.5));
+
+            String svg = webClient
+                    .goTo(project.getUrl() + "badges/chart?id=coverage", "image/svg+xml")
+                    .getWebResponse()
+                    .getContentAsString();
+            assertThat(svg, containsString("<polyline"));
+            assertThat(svg, containsString(">#3</text>"));
+
+            webClient.assertFails(project.getUrl() + "badges/chart", 400);
+            webClient.assertFails(project.getUrl() + "badges/series?limit=many", 400);
+
+            String page = webClient.goTo(project.getUrl()).getWebResponse().getContentAsString();
+            assertThat(page, containsString("badges/chart?id=coverage"));
+        }
+
+        index.save();
+        assertThat(new File(project.getRootDir(), "badge-series.bin").isFile(), is(true));
+    }
+
+    @Test
+    void charts() throws Exception {
+        WorkflowJob project = r.createProject(WorkflowJob.class, "charts");
+        JobBadgesAction action = project.getAction(JobBadgesAction.class);
+        try (JenkinsRule.WebClient webClient = r.createWebClient()) {
+            // the job page does not build an index for jobs without one
+            webClient.goTo(project.getUrl());
+            assertThat(action.getExistingIndex(), nullValue());
+            assertThat(action.getChartIds(), is(List.of()));
+            assertThat(new File(project.getRootDir(), "badge-index.xml").exists(), is(false));
+        }
+
+        JobBadgeIndex index = JobBadgeIndex.get(project);
+        await().atMost(10, TimeUnit.SECONDS).until(() -> !index.isRebuilding());
+        StringBuilder script = new StringBuilder();
+        for (int i = 0; i < JobBadgesAction.MAX_CHARTS + 2; i++) {
+            script.append("addBadge(id: 'series-").append(i).append("', text: 'Series', value: 1)\n");
+        }
+        project.setDefinition(new CpsFlowDefinition(script.toString(), true));
+        r.assertBuildStatusSuccess(project.scheduleBuild2(0));
+
+        assertThat(action.getSeriesIds().size(), is(JobBadgesAction.MAX_CHARTS + 2));
+        assertThat(action.getChartIds().size(), is(JobBadgesAction.MAX_CHARTS));
+        try (JenkinsRule.WebClient webClient = r.createWebClient()) {
+            String page = webClient.goTo(project.getUrl()).getWebResponse().getContentAsString();
+            assertThat(page, containsString("badges/chart?id=series-0"));
+            assertThat(page, not(containsString("badges/chart?id=series-" + (JobBadgesAction.MAX_CHARTS + 1))));
+        }
+    }
+
+    private static JSONObject getJson(JenkinsRule.WebClient webClient, WorkflowJob project, String query)
+            throws Exception {
+        return JSONObject.fromObject(webClient
+                .goTo(project.getUrl() + "badges/api/json?" + query, "application/json")
+                .getWebResponse()
+                .getContentAsString());
+    }
+}
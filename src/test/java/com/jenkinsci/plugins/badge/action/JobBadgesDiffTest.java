@@ -0,0 +1,111 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.action;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.jenkinsci.plugins.badge.index.JobBadgeIndex;
+import java.util.concurrent.TimeUnit;
+import net.sf.json.JSONObject;
+import org.jenkinsci.plugins.workflow.cps.CpsFlowDefinition;
+import org.jenkinsci.plugins.workflow.job.WorkflowJob;
+import org.jenkinsci.plugins.workflow.job.WorkflowRun;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+@WithJenkins
+class JobBadgesDiffTest {
+
+    private static JenkinsRule r;
+
+    private static WorkflowJob project;
+
+    @BeforeAll
+    static void setUp(JenkinsRule rule) throws Exception {
+        r = rule;
+        project = r.createProject(WorkflowJob.class, "diff");
+        JobBadgeIndex index = JobBadgeIndex.get(project);
+        await().atMost(10, TimeUnit.SECONDS).until(() -> !index.isRebuilding());
+
+        run("addBadge(id: 'release', text: '1.0')\n" + "addBadge(id: 'flaky', text: 'Flaky')\n"
+                + "addSummary(id: 'log', text: 'Log')");
+        run("echo 'no badges'");
+        WorkflowRun run = run("addBadge(id: 'release', text: '1.1')\n" + "addSummary(id: 'log', text: 'Log')");
+        run.getAction(BadgeSummaryAction.class).setText("x".repeat(5000));
+    }
+
+    @Test
+    void compare() {
+        JobBadgesDiff diff = project.getAction(JobBadgesAction.class).getDiff();
+
+        JobBadgesDiff.Comparison comparison = diff.compare(null, null);
+        assertThat(comparison.getFrom(), is(1));
+        assertThat(comparison.getTo(), is(3));
+        assertThat(comparison.getDiff().getRemoved().get(0).getId(), is("flaky"));
+        assertThat(comparison.getDiff().getChanged().size(), is(2));
+
+        // builds without badges are compared as empty
+        comparison = diff.compare("2", "3");
+        assertThat(comparison.getDiff().getAdded().size(), is(2));
+
+        assertThrows(IllegalArgumentException.class, () -> diff.compare("1", "42"));
+        assertThrows(IllegalArgumentException.class, () -> diff.compare("first", null));
+        assertThat(diff.compareQuietly("1", "42"), nullValue());
+    }
+
+    @Test
+    void api() throws Exception {
+        try (JenkinsRule.WebClient webClient = r.createWebClient()) {
+            JSONObject json = JSONObject.fromObject(webClient
+                    .goTo(project.getUrl() + "badges/diff/api/json?from=1&to=3", "application/json")
+                    .getWebResponse()
+                    .getContentAsString());
+            assertThat(json.getInt("from"), is(1));
+            assertThat(json.getJSONArray("removed").getJSONObject(0).getString("id"), is("flaky"));
+            JSONObject log = json.getJSONArray("changed").getJSONObject(1);
+            assertThat(log.getString("id"), is("log"));
+            assertThat(log.getString("toTextUrl"), is(project.getUrl() + "3/badges/summary?id=log"));
+            webClient.assertFails(project.getUrl() + "badges/diff/api/json?to=42", 400);
+
+            String page = webClient
+                    .goTo(project.getUrl() + "badges/diff/?from=1&to=3")
+                    .getWebResponse()
+                    .getContentAsString();
+            assertThat(page, containsString("Removed"));
+            assertThat(page, containsString("Full text"));
+        }
+    }
+
+    private static WorkflowRun run(String script) throws Exception {
+        project.setDefinition(new CpsFlowDefinition(script, true));
+        return r.assertBuildStatusSuccess(project.scheduleBuild2(0));
+    }
+}
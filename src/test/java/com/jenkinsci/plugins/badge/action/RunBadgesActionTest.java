@@ -0,0 +1,255 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.action;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+
+import java.net.URL;
+import org.htmlunit.Page;
+import org.htmlunit.WebRequest;
+import org.htmlunit.WebResponse;
+import org.jenkinsci.plugins.workflow.cps.CpsFlowDefinition;
+import org.jenkinsci.plugins.workflow.job.WorkflowJob;
+import org.jenkinsci.plugins.workflow.job.WorkflowRun;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+@WithJenkins
+class RunBadgesActionTest {
+
+    protected static JenkinsRule r;
+
+    @BeforeAll
+    static void setUp(JenkinsRule rule) {
+        r = rule;
+    }
+
+    @Test
+    void factory() throws Exception {
+        WorkflowRun run = runJob();
+        RunBadgesAction action = run.getAction(RunBadgesAction.class);
+        assertThat(action, notNullValue());
+        assertThat(action.getRun(), is(run));
+        assertThat(action.getUrlName(), is("badges"));
+        assertThat(action.getIconFileName(), nullValue());
+        assertThat(action.getDisplayName(), nullValue());
+    }
+
+    @Test
+    void live() throws Exception {
+        WorkflowRun run = runJob();
+        RunBadgesAction action = new RunBadgesAction(run);
+        assertThat(action.isLive(), is(false));
+        assertThat(action.getSequence(), is(2L));
+    }
+
+    @Test
+    void updates() throws Exception {
+        WorkflowRun run = runJob();
+
+        try (JenkinsRule.WebClient webClient = r.createWebClient()) {
+            Page page = webClient.goTo(run.getUrl() + "badges/updates?since=0", "text/html");
+            assertThat(page.getWebResponse().getResponseHeaderValue("X-Badge-Sequence"), is("2"));
+            assertThat(page.getWebResponse().getResponseHeaderValue("X-Badge-Reset"), is("false"));
+            assertThat(page.getWebResponse().getResponseHeaderValue("X-More-Data"), is("false"));
+
+            String content = page.getWebResponse().getContentAsString();
+            assertThat(content, containsString("data-badge-event=\"ADDED\""));
+            assertThat(content, containsString("data-badge-kind=\"badge\""));
+            assertThat(content, containsString("data-badge-kind=\"summary\""));
+            assertThat(content, containsString("Test Text"));
+            assertThat(content, containsString("Test Summary"));
+
+            page = webClient.goTo(run.getUrl() + "badges/updates?since=2", "text/html");
+            assertThat(page.getWebResponse().getContentAsString(), not(containsString("data-badge-event")));
+        }
+    }
+
+    @Test
+    void caching() throws Exception {
+        WorkflowRun run = runJob();
+        RunBadgesAction action = new RunBadgesAction(run);
+        assertThat(action.getVersion(), is(2L));
+        assertThat(action.isImmutable(), is(true));
+        assertThat(action.getETag(), startsWith("W/\""));
+        assertThat(action.getETag(), is(new RunBadgesAction(run).getETag()));
+
+        // stable across loading the run again
+        String etag = action.getETag();
+        run.reload();
+        assertThat(action.getETag(), is(etag));
+
+        run.getAction(BadgeAction.class).setText("Updated Text");
+        assertThat(action.getVersion(), is(3L));
+        assertThat(action.isImmutable(), is(false));
+        assertThat(action.getETag(), not(etag));
+    }
+
+    @Test
+    void cachingOutOfBand() throws Exception {
+        WorkflowRun run = runJob();
+        RunBadgesAction action = new RunBadgesAction(run);
+        String etag = action.getETag();
+
+        // e.g. added by a script, without notifying listeners
+        run.addAction(new BadgeAction(null, null, "Script Text", null, null, null, null));
+        assertThat(action.getVersion(), is(2L));
+        assertThat(action.getETag(), not(etag));
+    }
+
+    @Test
+    void fragment() throws Exception {
+        WorkflowRun run = runJob();
+        assertConditional(run, "badges/fragment", "text/html", "Test Text");
+    }
+
+    @Test
+    void summaries() throws Exception {
+        WorkflowRun run = runJob();
+        assertConditional(run, "badges/summaries", "text/html", "Test Summary");
+    }
+
+    @Test
+    void api() throws Exception {
+        WorkflowRun run = runJob();
+        assertConditional(run, "badges/api/json", "application/json", "\"version\":2");
+        assertConditional(run, "badges/api/xml", "application/xml", "<version>2</version>");
+    }
+
+    @Test
+    void rawText() throws Exception {
+        WorkflowRun run = runJob("addBadge(id: 'badge', icon: 'info.gif', text: 'Test & Text')");
+        try (JenkinsRule.WebClient webClient = r.createWebClient()) {
+            String json = webClient
+                    .goTo(run.getUrl() + "api/json", "application/json")
+                    .getWebResponse()
+                    .getContentAsString();
+            assertThat(json, not(containsString("rawText")));
+
+            json = webClient
+                    .goTo(run.getUrl() + "api/json?tree=actions[id,rawText,rawIcon]", "application/json")
+                    .getWebResponse()
+                    .getContentAsString();
+            assertThat(json, containsString("\"rawText\":\"Test & Text\""));
+            assertThat(json, containsString("\"rawIcon\":\"info.gif\""));
+            assertThat(json, not(containsString("\"text\"")));
+        }
+    }
+
+    @Test
+    void icon() throws Exception {
+        WorkflowRun run = runJob("addBadge(id: 'badge', icon: 'symbol-rocket plugin-ionicons-api', text: 'Test Text')\n"
+                + "addBadge(id: 'text', text: 'Test Text')");
+
+        try (JenkinsRule.WebClient webClient = r.createWebClient()) {
+            // the badges of the build can be rendered again from the JSON payload and the icons
+            String content = webClient.goTo(run.getUrl()).getWebResponse().getContentAsString();
+            assertThat(
+                    content, containsString("data-badge-source=\"" + r.contextPath + "/" + run.getUrl() + "badges\""));
+
+            Page page = webClient.goTo(run.getUrl() + "badges/icon?id=badge", "text/html");
+            content = page.getWebResponse().getContentAsString();
+            assertThat(content, containsString("<svg"));
+            assertThat(content, containsString("icon-sm"));
+
+            webClient.assertFails(run.getUrl() + "badges/icon?id=text", 404);
+            webClient.assertFails(run.getUrl() + "badges/icon?id=unknown", 404);
+        }
+    }
+
+    @Test
+    void summary() throws Exception {
+        WorkflowRun run = runJob();
+
+        try (JenkinsRule.WebClient webClient = r.createWebClient()) {
+            Page page = webClient.goTo(run.getUrl() + "badges/summary?id=summary", "text/html");
+            assertThat(page.getWebResponse().getContentAsString(), is("Test Summary"));
+
+            webClient.assertFails(run.getUrl() + "badges/summary?id=badge", 404);
+        }
+    }
+
+    @Test
+    void largeSummary() throws Exception {
+        WorkflowRun run = runJob();
+        BadgeSummaryAction action = run.getAction(BadgeSummaryAction.class);
+        action.setText("x".repeat(256 * 1024 + 1));
+        assertThat(action.isLarge(), is(true));
+        assertThat(action.getTextUrl(), is(run.getUrl() + "badges/summary?id=summary"));
+
+        try (JenkinsRule.WebClient webClient = r.createWebClient()) {
+            String content = webClient.goTo(run.getUrl()).getWebResponse().getContentAsString();
+            assertThat(content, containsString("data-badge-summary-load"));
+            assertThat(content, not(containsString(action.getText())));
+
+            Page page = webClient.goTo(action.getTextUrl(), "text/html");
+            assertThat(page.getWebResponse().getContentAsString(), is(action.getText()));
+        }
+    }
+
+    private static void assertConditional(WorkflowRun run, String path, String contentType, String expected)
+            throws Exception {
+        try (JenkinsRule.WebClient webClient = r.createWebClient()) {
+            webClient.getCache().setMaxSize(0);
+
+            WebResponse response =
+                    webClient.goTo(run.getUrl() + path, contentType).getWebResponse();
+            assertThat(response.getContentAsString(), containsString(expected));
+            assertThat(response.getResponseHeaderValue("Cache-Control"), containsString("immutable"));
+            String etag = response.getResponseHeaderValue("ETag");
+            assertThat(etag, is(new RunBadgesAction(run).getETag()));
+            assertThat(response.getResponseHeaderValue("Last-Modified"), notNullValue());
+
+            WebRequest request = new WebRequest(new URL(r.getURL(), run.getUrl() + path));
+            request.setAdditionalHeader("If-None-Match", etag);
+            assertThat(webClient.getPage(request).getWebResponse().getStatusCode(), is(304));
+
+            request = new WebRequest(new URL(r.getURL(), run.getUrl() + path));
+            request.setAdditionalHeader("If-None-Match", "W/\"outdated\"");
+            assertThat(webClient.getPage(request).getWebResponse().getStatusCode(), is(200));
+
+            request = new WebRequest(new URL(r.getURL(), run.getUrl() + path));
+            request.setAdditionalHeader("If-Modified-Since", response.getResponseHeaderValue("Last-Modified"));
+            assertThat(webClient.getPage(request).getWebResponse().getStatusCode(), is(304));
+        }
+    }
+
+    private static WorkflowRun runJob() throws Exception {
+        return runJob("addBadge(id: 'badge', text: 'Test Text')\n" + "addSummary(id: 'summary', text: 'Test Summary')");
+    }
+
+    private static WorkflowRun runJob(String script) throws Exception {
+        WorkflowJob project = r.createProject(WorkflowJob.class);
+        project.setDefinition(new CpsFlowDefinition(script, true));
+        return r.assertBuildStatusSuccess(project.scheduleBuild2(0));
+    }
+}
@@ -65,6 +65,33 @@ class AddBadgeStepTest extends AbstractAddBadgeStepTest {
         assertThat(step.getStyle(), nullValue());
         assertThat(step.getLink(), nullValue());
         assertThat(step.getTarget(), nullValue());
+        assertThat(step.getValue(), nullValue());
+    }
+
+    @Test
+    void value() throws Exception {
+        WorkflowJob project = r.createProject(WorkflowJob.class);
+        project.setDefinition(new CpsFlowDefinition(
+                "def badge = addBadge(id: 'coverage', text: '80.5%', value: 80.5)\n"
+                        + "echo \"value: ${badge.value}\"\n"
+                        + "addBadge(id: 'plain', text: 'Plain')",
+                true));
+        WorkflowRun run = r.assertBuildStatusSuccess(project.scheduleBuild2(0));
+        r.assertLogContains("value: 80.5", run);
+
+        List<AbstractBadgeAction> badgeActions = run.getActions(AbstractBadgeAction.class);
+        assertThat(badgeActions, hasSize(2));
+        assertThat(badgeActions.get(0).getValue(), is(80.5));
+        assertThat(badgeActions.get(1).getValue(), nullValue());
+
+        AddBadgeStep step = new AddBadgeStep();
+        step.setValue(1.5);
+        assertThat(step.toString(), is("addBadge(value: 1.5)"));
+
+        // the icon and style of the step are not parameters
+        AddInfoBadgeStep infoStep = new AddInfoBadgeStep();
+        infoStep.setValue(2.0);
+        assertThat(infoStep.toString(), is("addInfoBadge(value: 2.0)"));
     }
 
     @Test
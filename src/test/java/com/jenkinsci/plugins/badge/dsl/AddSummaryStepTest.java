@@ -24,9 +24,18 @@
 package com.jenkinsci.plugins.badge.dsl;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 
+import com.jenkinsci.plugins.badge.action.BadgeSummaryAction;
+import org.htmlunit.Page;
+import org.jenkinsci.plugins.workflow.cps.CpsFlowDefinition;
+import org.jenkinsci.plugins.workflow.job.WorkflowJob;
+import org.jenkinsci.plugins.workflow.job.WorkflowRun;
 import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
 import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
 
 @WithJenkins
@@ -43,6 +52,33 @@ class AddSummaryStepTest extends AddBadgeStepTest {
         assertThat(step.getStyle(), nullValue());
         assertThat(step.getLink(), nullValue());
         assertThat(step.getTarget(), nullValue());
+        assertThat(((AddSummaryStep) step).getTitle(), nullValue());
+    }
+
+    @Test
+    void title() throws Exception {
+        AddSummaryStep step = new AddSummaryStep();
+        step.setTitle("Test Title");
+        assertThat(step.getTitle(), is("Test Title"));
+        assertThat(step.toString(), is("addSummary(title: 'Test Title')"));
+
+        WorkflowJob project = r.createProject(WorkflowJob.class);
+        project.setDefinition(new CpsFlowDefinition(
+                "addSummary(id: 'section', title: '<i>Test Title</i>', text: 'Lazy Section Text')", true));
+        WorkflowRun run = r.assertBuildStatusSuccess(project.scheduleBuild2(0));
+
+        BadgeSummaryAction action = run.getAction(BadgeSummaryAction.class);
+        assertThat(action.getTitle(), is("<i>Test Title</i>"));
+
+        try (JenkinsRule.WebClient webClient = r.createWebClient()) {
+            String content = webClient.goTo(run.getUrl()).getWebResponse().getContentAsString();
+            assertThat(content, containsString("data-badge-summary-section"));
+            assertThat(content, containsString("&lt;i&gt;Test Title&lt;/i&gt;"));
+            assertThat(content, not(containsString("Lazy Section Text")));
+
+            Page page = webClient.goTo(run.getUrl() + "badges/summary?id=section", "text/html");
+            assertThat(page.getWebResponse().getContentAsString(), is("Lazy Section Text"));
+        }
     }
 
     @Override
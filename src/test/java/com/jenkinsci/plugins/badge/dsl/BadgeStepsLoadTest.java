@@ -0,0 +1,205 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.dsl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+import com.jenkinsci.plugins.badge.action.AbstractBadgeAction;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.logging.Logger;
+import net.sf.json.JSONArray;
+import net.sf.json.JSONObject;
+import org.jenkinsci.plugins.workflow.cps.CpsFlowDefinition;
+import org.jenkinsci.plugins.workflow.flow.FlowDurabilityHint;
+import org.jenkinsci.plugins.workflow.job.WorkflowJob;
+import org.jenkinsci.plugins.workflow.job.WorkflowRun;
+import org.jenkinsci.plugins.workflow.job.properties.DurabilityHintJobProperty;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+/**
+ * Load tests of the badge steps, running {@value #DEFAULT_STEPS} iterations of adding, updating and removing badges
+ * and summaries in one build, sequentially and spread over {@value #DEFAULT_BRANCHES} parallel branches.
+ * They are skipped unless run in the <code>load-test</code> profile, e.g. with <code>mvn test -DloadTest</code>.
+ * The number of iterations and branches can be changed with <code>-DloadTest.steps</code> and
+ * <code>-DloadTest.branches</code>.
+ * Latency percentiles per step, the CPU time of the CPS VM thread and the size of <code>build.xml</code> are written
+ * to <code>target/load-test/&lt;scenario&gt;.json</code> for comparison across commits.
+ */
+@WithJenkins
+@EnabledIfSystemProperty(named = "loadTest", matches = ".*")
+class BadgeStepsLoadTest {
+
+    private static final Logger LOGGER = Logger.getLogger(BadgeStepsLoadTest.class.getName());
+
+    static final int DEFAULT_STEPS = 10000;
+
+    static final int DEFAULT_BRANCHES = 200;
+
+    private static final String RESULT_PREFIX = "LOAD-TEST-RESULT ";
+
+    private static final String[] STEPS = {"addBadge", "update", "addSummary", "removeBadges"};
+
+    private static JenkinsRule r;
+
+    private static int steps;
+
+    private static int branches;
+
+    @BeforeAll
+    static void setUp(JenkinsRule rule) {
+        r = rule;
+        steps = Integer.getInteger("loadTest.steps", DEFAULT_STEPS);
+        branches = Integer.getInteger("loadTest.branches", DEFAULT_BRANCHES);
+    }
+
+    @Test
+    void sequential() throws Exception {
+        run("sequential", "for (int i = 0; i < " + steps + "; i++) {\n" + "  iteration(i, stats)\n" + "}\n");
+    }
+
+    @Test
+    void parallel() throws Exception {
+        int perBranch = steps / branches;
+        run(
+                "parallel",
+                "def branches = [:]\n"
+                        + "for (int b = 0; b < " + branches + "; b++) {\n"
+                        + "  int branch = b\n"
+                        + "  branches['branch-' + b] = {\n"
+                        + "    for (int i = 0; i < " + perBranch + "; i++) {\n"
+                        + "      iteration(branch * " + perBranch + " + i, stats)\n"
+                        + "    }\n"
+                        + "  }\n"
+                        + "}\n"
+                        + "parallel branches\n");
+    }
+
+    private void run(String scenario, String body) throws Exception {
+        WorkflowJob project = r.createProject(WorkflowJob.class, scenario);
+        // keep the flow graph out of the measurement as far as possible
+        project.addProperty(new DurabilityHintJobProperty(FlowDurabilityHint.PERFORMANCE_OPTIMIZED));
+        // not sandboxed for System.nanoTime and the thread CPU time, the steps themselves are the same
+        project.setDefinition(new CpsFlowDefinition(
+                "import java.lang.management.ManagementFactory\n"
+                        + "\n"
+                        + "def iteration(int i, Map stats) {\n"
+                        + "  def threads = ManagementFactory.threadMXBean\n"
+                        + "  long cpu = threads.currentThreadCpuTime\n"
+                        + "  long start = System.nanoTime()\n"
+                        + "  def badge = addBadge(id: 'badge-' + i, icon: 'symbol-rocket plugin-ionicons-api',"
+                        + " text: 'Badge ' + i)\n"
+                        + "  long added = System.nanoTime()\n"
+                        + "  badge.setText('Updated ' + i)\n"
+                        + "  badge.setLink('https://www.jenkins.io/' + i)\n"
+                        + "  long updated = System.nanoTime()\n"
+                        + "  addSummary(id: 'summary-' + i, icon: 'symbol-document-text', text: 'Summary ' + i)\n"
+                        + "  long summarized = System.nanoTime()\n"
+                        + "  stats.addBadge << added - start\n"
+                        + "  stats.update << updated - added\n"
+                        + "  stats.addSummary << summarized - updated\n"
+                        + "  if (i % 10 == 9) {\n"
+                        + "    removeBadges(id: 'badge-' + (i - 5))\n"
+                        + "    stats.removeBadges << System.nanoTime() - summarized\n"
+                        + "  }\n"
+                        + "  stats.cpu += threads.currentThreadCpuTime - cpu\n"
+                        + "}\n"
+                        + "\n"
+                        + "def stats = [addBadge: [], update: [], addSummary: [], removeBadges: [], cpu: 0L]\n"
+                        + "long start = System.nanoTime()\n"
+                        + body
+                        + "stats.wall = System.nanoTime() - start\n"
+                        + "echo '" + RESULT_PREFIX + "' + groovy.json.JsonOutput.toJson(stats)\n",
+                false));
+
+        WorkflowRun run = r.buildAndAssertSuccess(project);
+        int iterations = scenario.equals("parallel") ? steps / branches * branches : steps;
+        assertThat(run.getActions(AbstractBadgeAction.class).size(), is(iterations * 2 - iterations / 10));
+
+        String line = Files.readAllLines(run.getLogFile().toPath(), StandardCharsets.UTF_8).stream()
+                .filter(l -> l.startsWith(RESULT_PREFIX))
+                .findFirst()
+                .orElse(null);
+        assertThat(line, notNullValue());
+        JSONObject stats = JSONObject.fromObject(line.substring(RESULT_PREFIX.length()));
+
+        JSONObject result = new JSONObject();
+        result.put("scenario", scenario);
+        result.put("timestamp", Instant.now().toString());
+        result.put("java", System.getProperty("java.version"));
+        result.put("iterations", iterations);
+        result.put("branches", scenario.equals("parallel") ? branches : 1);
+        result.put("wallMillis", stats.getLong("wall") / 1_000_000);
+        result.put("cpsCpuMillis", stats.getLong("cpu") / 1_000_000);
+        result.put("buildXmlBytes", new File(run.getRootDir(), "build.xml").length());
+        JSONObject latencies = new JSONObject();
+        for (String step : STEPS) {
+            latencies.put(step, percentiles(stats.getJSONArray(step)));
+        }
+        result.put("latencyMicros", latencies);
+
+        Path file = Path.of("target", "load-test", scenario + ".json");
+        write(file, result);
+        LOGGER.info(() -> scenario + ": results written to " + file);
+    }
+
+    private static JSONObject percentiles(JSONArray nanos) {
+        long[] values = new long[nanos.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = nanos.getLong(i);
+        }
+        Arrays.sort(values);
+
+        JSONObject result = new JSONObject();
+        result.put("count", values.length);
+        if (values.length > 0) {
+            result.put("p50", percentile(values, 50));
+            result.put("p90", percentile(values, 90));
+            result.put("p99", percentile(values, 99));
+            result.put("max", values[values.length - 1] / 1000);
+        }
+        return result;
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1000;
+    }
+
+    private static void write(Path file, JSONObject result) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, result.toString(2), StandardCharsets.UTF_8);
+    }
+}
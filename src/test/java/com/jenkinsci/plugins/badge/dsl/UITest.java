@@ -74,6 +74,7 @@ class UITest {
                 assertThat(badge.getAttribute("target"), is(step.getTarget()));
                 // copy to clipboard should not be enabled
                 assertThat(badge.hasAttribute("data-text"), is(false));
+                assertThat(badge.hasAttribute("data-badge-copy"), is(false));
             }
         }
 
@@ -125,6 +126,7 @@ class UITest {
                 assertThat(badge.getAttribute("target"), is(step.getTarget()));
                 // copy to clipboard should not be enabled
                 assertThat(badge.hasAttribute("data-text"), is(false));
+                assertThat(badge.hasAttribute("data-badge-copy"), is(false));
             }
         }
 
@@ -148,6 +150,8 @@ class UITest {
                 assertThat(badge.getAttribute("style"), is(step.getStyle()));
                 // copy to clipboard should be enabled
                 assertThat(badge.getAttribute("data-text"), is(step.getText()));
+                assertThat(badge.hasAttribute("data-badge-copy"), is(true));
+                assertThat(badge.hasAttribute("id"), is(false));
             }
         }
 
@@ -173,6 +177,8 @@ class UITest {
                 assertThat(badge.getAttribute("style"), is(step.getStyle()));
                 // copy to clipboard should be enabled
                 assertThat(badge.getAttribute("data-text"), is(step.getText()));
+                assertThat(badge.hasAttribute("data-badge-copy"), is(true));
+                assertThat(badge.hasAttribute("id"), is(false));
             }
         }
 
@@ -198,6 +204,8 @@ class UITest {
                 assertThat(badge.getAttribute("style"), is(step.getStyle()));
                 // copy to clipboard should be enabled
                 assertThat(badge.getAttribute("data-text"), is(step.getText()));
+                assertThat(badge.hasAttribute("data-badge-copy"), is(true));
+                assertThat(badge.hasAttribute("id"), is(false));
             }
         }
 
@@ -223,6 +231,8 @@ class UITest {
                 assertThat(badge.getAttribute("style"), is(step.getStyle()));
                 // copy to clipboard should be enabled
                 assertThat(badge.getAttribute("data-text"), is(step.getText()));
+                assertThat(badge.hasAttribute("data-badge-copy"), is(true));
+                assertThat(badge.hasAttribute("id"), is(false));
             }
         }
 
@@ -459,6 +469,7 @@ class UITest {
                 assertThat(badge.getAttribute("target"), is(step.getTarget()));
                 // copy to clipboard should not be enabled
                 assertThat(badge.hasAttribute("data-text"), is(false));
+                assertThat(badge.hasAttribute("data-badge-copy"), is(false));
             }
 
             // new build page
@@ -482,6 +493,7 @@ class UITest {
                 assertThat(badge.getAttribute("target"), is(step.getTarget()));
                 // copy to clipboard should not be enabled
                 assertThat(badge.hasAttribute("data-text"), is(false));
+                assertThat(badge.hasAttribute("data-badge-copy"), is(false));
             }
         }
 
@@ -0,0 +1,123 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.event;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import org.jenkinsci.plugins.workflow.cps.CpsFlowDefinition;
+import org.jenkinsci.plugins.workflow.job.WorkflowJob;
+import org.jenkinsci.plugins.workflow.job.WorkflowRun;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+@WithJenkins
+class BadgeUpdatesTest {
+
+    private static JenkinsRule r;
+
+    @BeforeAll
+    static void setUp(JenkinsRule rule) {
+        r = rule;
+    }
+
+    @Test
+    void events() throws Exception {
+        WorkflowRun run = runJob();
+
+        BadgeUpdates.Delta delta = BadgeUpdates.get().since(run, 0);
+        assertThat(delta.isReset(), is(false));
+        assertThat(delta.getSequence(), is(4L));
+        assertThat(
+                delta.getEvents().stream().map(BadgeUpdates.Event::getType).toList(),
+                contains(
+                        BadgeUpdates.Type.ADDED,
+                        BadgeUpdates.Type.UPDATED,
+                        BadgeUpdates.Type.REMOVED,
+                        BadgeUpdates.Type.ADDED));
+        assertThat(delta.getEvents().get(0).isSummary(), is(false));
+        assertThat(delta.getEvents().get(0).getId(), is("badge"));
+        assertThat(delta.getEvents().get(3).isSummary(), is(true));
+        assertThat(delta.getEvents().get(3).getId(), is("summary"));
+        assertThat(BadgeUpdates.get().getSequence(run), is(4L));
+    }
+
+    @Test
+    void since() throws Exception {
+        WorkflowRun run = runJob();
+
+        BadgeUpdates.Delta delta = BadgeUpdates.get().since(run, 3);
+        assertThat(delta.isReset(), is(false));
+        assertThat(delta.getEvents(), hasSize(1));
+        assertThat(delta.getEvents().get(0).getSequence(), is(4L));
+
+        delta = BadgeUpdates.get().since(run, 4);
+        assertThat(delta.isReset(), is(false));
+        assertThat(delta.getEvents(), empty());
+
+        // unknown sequence, e.g. after a restart
+        delta = BadgeUpdates.get().since(run, 5);
+        assertThat(delta.isReset(), is(true));
+        assertThat(delta.getEvents(), empty());
+    }
+
+    @Test
+    void deleted() throws Exception {
+        WorkflowRun run = runJob();
+        run.delete();
+
+        assertThat(BadgeUpdates.get().getSequence(run), is(0L));
+        assertThat(BadgeUpdates.get().since(run, 4).isReset(), is(true));
+    }
+
+    @Test
+    void finalized() throws Exception {
+        WorkflowRun run = runJob();
+        assertThat(BadgeUpdates.get().getSequence(run), is(4L));
+
+        BadgeUpdates.get().finalized(run, 0);
+        long timeout = System.currentTimeMillis() + 10000;
+        while (BadgeUpdates.get().getSequence(run) != 0 && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10);
+        }
+        assertThat(BadgeUpdates.get().getSequence(run), is(0L));
+    }
+
+    private static WorkflowRun runJob() throws Exception {
+        WorkflowJob project = r.createProject(WorkflowJob.class);
+
+        String script = "def badge = addBadge(id: 'badge', text: 'Test Text')\n"
+                + "badge.setText('Updated Text')\n"
+                + "removeBadges(id: 'badge')\n"
+                + "addSummary(id: 'summary', text: 'Test Summary')";
+
+        project.setDefinition(new CpsFlowDefinition(script, true));
+        return r.assertBuildStatusSuccess(project.scheduleBuild2(0));
+    }
+}
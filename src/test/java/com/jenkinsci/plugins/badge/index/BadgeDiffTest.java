@@ -0,0 +1,107 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.index;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import com.jenkinsci.plugins.badge.action.BadgeAction;
+import com.jenkinsci.plugins.badge.action.BadgeSummaryAction;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class BadgeDiffTest {
+
+    @Test
+    void compare() {
+        BuildRecord from = build(
+                1,
+                badge("release", "info.gif", "1.0"),
+                badge("flaky", null, "Flaky"),
+                badge("same", null, "Same"),
+                summary("notes", "Notes"));
+        BuildRecord to = build(
+                2,
+                badge("release", "info.gif", "1.1"),
+                badge("same", null, "Same"),
+                badge("coverage", null, "80 %"),
+                summary("notes", "Notes"));
+
+        BadgeDiff diff = BadgeDiff.compare(from, to);
+        assertThat(diff.getAdded().stream().map(BadgeRecord::getId).toList(), contains("coverage"));
+        assertThat(diff.getRemoved().stream().map(BadgeRecord::getId).toList(), contains("flaky"));
+        assertThat(diff.getChanged().size(), is(1));
+        BadgeDiff.Change change = diff.getChanged().get(0);
+        assertThat(change.getTo().getId(), is("release"));
+        assertThat(change.getFields(), contains("text"));
+        assertThat(change.isTruncated(), is(false));
+    }
+
+    @Test
+    void kindsAndRepeatedIds() {
+        BuildRecord from = build(1, badge("id", null, "first"), badge("id", null, "second"));
+        BuildRecord to = build(2, summary("id", "first"), badge("id", "warning.gif", "first"));
+
+        BadgeDiff diff = BadgeDiff.compare(from, to);
+        assertThat(diff.getAdded().size(), is(1));
+        assertThat(diff.getAdded().get(0).getKind(), is(BadgeRecord.Kind.SUMMARY));
+        assertThat(diff.getRemoved().get(0).getText(), is("second"));
+        assertThat(diff.getChanged().get(0).getFields(), contains("icon"));
+    }
+
+    @Test
+    void truncated() {
+        String prefix = "x".repeat(BadgeRecord.MAX_TEXT_LENGTH);
+        BuildRecord from = build(1, summary("log", prefix + "a"));
+
+        BadgeDiff diff = BadgeDiff.compare(from, build(2, summary("log", prefix + "b")));
+        assertThat(diff.getChanged().get(0).getFields(), contains("text"));
+        assertThat(diff.getChanged().get(0).isTruncated(), is(true));
+
+        assertThat(
+                BadgeDiff.compare(from, build(2, summary("log", prefix + "a"))).isEmpty(), is(true));
+    }
+
+    @Test
+    void missing() {
+        BuildRecord to = build(2, badge("release", null, "1.0"));
+        assertThat(BadgeDiff.compare(null, to).getAdded().size(), is(1));
+        assertThat(BadgeDiff.compare(to, null).getRemoved().size(), is(1));
+        assertThat(BadgeDiff.compare(null, null).isEmpty(), is(true));
+    }
+
+    private static BadgeRecord badge(String id, String icon, String text) {
+        return BadgeRecord.of(new BadgeAction(id, icon, text, null, null, null, null));
+    }
+
+    private static BadgeRecord summary(String id, String text) {
+        return BadgeRecord.of(new BadgeSummaryAction(id, null, text, null, null, null, null));
+    }
+
+    private static BuildRecord build(int number, BadgeRecord... badges) {
+        return new BuildRecord(number, 0, "SUCCESS", new ArrayList<>(List.of(badges)), 0);
+    }
+}
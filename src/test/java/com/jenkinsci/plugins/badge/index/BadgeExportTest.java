@@ -0,0 +1,161 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.index;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.jenkinsci.plugins.badge.action.BadgeAction;
+import com.jenkinsci.plugins.badge.action.BadgeSummaryAction;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.sf.json.JSONObject;
+import org.jenkinsci.plugins.workflow.cps.CpsFlowDefinition;
+import org.jenkinsci.plugins.workflow.job.WorkflowJob;
+import org.jenkinsci.plugins.workflow.job.WorkflowRun;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.MockFolder;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+@WithJenkins
+class BadgeExportTest {
+
+    private static JenkinsRule r;
+
+    private static MockFolder folder;
+
+    @BeforeAll
+    static void setUp(JenkinsRule rule) throws Exception {
+        r = rule;
+        folder = r.createFolder("export");
+        WorkflowJob first = createJob(folder.createProject(WorkflowJob.class, "a"), "addBadge(id: 'a', text: 'A')");
+        r.assertBuildStatusSuccess(first.scheduleBuild2(0));
+        first.setDefinition(new CpsFlowDefinition("echo 'no badges'", true));
+        r.assertBuildStatusSuccess(first.scheduleBuild2(0));
+        first.setDefinition(new CpsFlowDefinition("addSummary(id: 'summary', text: 'Summary')", true));
+        WorkflowRun run = r.assertBuildStatusSuccess(first.scheduleBuild2(0));
+        run.getAction(BadgeSummaryAction.class).setText("x".repeat(BadgeRecord.MAX_TEXT_LENGTH * 2));
+
+        WorkflowJob second = createJob(folder.createProject(WorkflowJob.class, "b"), "addBadge(id: 'b', text: 'B')");
+        r.assertBuildStatusSuccess(second.scheduleBuild2(0));
+
+        WorkflowJob outside = createJob(r.createProject(WorkflowJob.class), "addBadge(id: 'c', text: 'C')");
+        r.assertBuildStatusSuccess(outside.scheduleBuild2(0));
+    }
+
+    @Test
+    void export() throws Exception {
+        // a summary with the same id, added without updating the index, must not be taken for the indexed one
+        BadgeSummaryAction other = new BadgeSummaryAction(
+                "summary", null, "y".repeat(BadgeRecord.MAX_TEXT_LENGTH * 2), null, null, null, null);
+        ((WorkflowJob) folder.getItem("a")).getBuildByNumber(3).getActions().add(0, other);
+
+        List<JSONObject> lines = export(null);
+        assertThat(
+                lines.stream().map(line -> line.getString("resume")).toList(),
+                contains("export/a:1", "export/a:3", "export/b:1"));
+
+        JSONObject line = lines.get(0);
+        assertThat(line.getString("job"), is("export/a"));
+        assertThat(line.getInt("number"), is(1));
+        assertThat(line.getString("result"), is("SUCCESS"));
+        assertThat(line.getJSONArray("badges").getJSONObject(0).getString("text"), is("A"));
+
+        // texts truncated in the index are read from the build
+        JSONObject summary = lines.get(1).getJSONArray("badges").getJSONObject(0);
+        assertThat(summary.getString("kind"), is("summary"));
+        assertThat(summary.getString("text"), is("x".repeat(BadgeRecord.MAX_TEXT_LENGTH * 2)));
+    }
+
+    @Test
+    void resume() throws Exception {
+        assertThat(
+                export("export/a:1").stream()
+                        .map(line -> line.getString("resume"))
+                        .toList(),
+                contains("export/a:3", "export/b:1"));
+        assertThat(
+                export("export/a:3").stream()
+                        .map(line -> line.getString("resume"))
+                        .toList(),
+                contains("export/b:1"));
+        // deleted jobs are skipped
+        assertThat(
+                export("export/a0:7").stream()
+                        .map(line -> line.getString("resume"))
+                        .toList(),
+                contains("export/b:1"));
+        assertThat(export("export/b:1").size(), is(0));
+    }
+
+    @Test
+    void invalidToken() {
+        assertThrows(IllegalArgumentException.class, () -> new BadgeExport(folder, "export/a"));
+        IllegalArgumentException ex =
+                assertThrows(IllegalArgumentException.class, () -> new BadgeExport(folder, "export/a:one"));
+        assertThat(ex.getMessage(), is("Invalid resume token 'export/a:one'"));
+    }
+
+    @Test
+    void withoutIndex() throws Exception {
+        MockFolder other = r.createFolder("unindexed");
+        WorkflowJob job = other.createProject(WorkflowJob.class, "d");
+        job.setDefinition(new CpsFlowDefinition("echo 'no badges'", true));
+        WorkflowRun run = r.assertBuildStatusSuccess(job.scheduleBuild2(0));
+        // added without the badge steps, so no index is built
+        run.addAction(new BadgeAction("d", null, "D", null, null, null, null));
+
+        List<JSONObject> lines = export(other, null);
+        assertThat(lines.stream().map(line -> line.getString("resume")).toList(), contains("unindexed/d:1"));
+        assertThat(lines.get(0).getJSONArray("badges").getJSONObject(0).getString("text"), is("D"));
+        assertThat(JobBadgeIndex.getIfExists(job), nullValue());
+    }
+
+    private static List<JSONObject> export(String resume) throws Exception {
+        return export(folder, resume);
+    }
+
+    private static List<JSONObject> export(MockFolder group, String resume) throws Exception {
+        StringWriter out = new StringWriter();
+        int count = new BadgeExport(group, resume).write(out);
+        List<JSONObject> lines =
+                out.toString().lines().map(JSONObject::fromObject).toList();
+        assertThat(lines.size(), is(count));
+        return lines;
+    }
+
+    private static WorkflowJob createJob(WorkflowJob job, String script) {
+        job.setDefinition(new CpsFlowDefinition(script, true));
+        JobBadgeIndex index = JobBadgeIndex.get(job);
+        await().atMost(10, TimeUnit.SECONDS).until(() -> !index.isRebuilding());
+        return job;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.index;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import hudson.model.Job;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.sf.json.JSONObject;
+import org.jenkinsci.plugins.workflow.cps.CpsFlowDefinition;
+import org.jenkinsci.plugins.workflow.job.WorkflowJob;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.MockFolder;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+@WithJenkins
+class BadgeFootprintTest {
+
+    private static JenkinsRule r;
+
+    @BeforeAll
+    static void setUp(JenkinsRule rule) {
+        r = rule;
+    }
+
+    @Test
+    void compute() throws Exception {
+        MockFolder folder = r.createFolder("footprint");
+        WorkflowJob small = createJob(folder, "small", "addBadge(id: 'small', text: 'Small')");
+        WorkflowJob large = createJob(
+                folder,
+                "large",
+                "addBadge(id: 'large', text: 'Large')\n" + "addSummary(id: 'summary', text: 'x' * 10000)");
+        WorkflowJob empty = createJob(folder, "empty", "echo 'no badges'");
+        r.buildAndAssertSuccess(large);
+        WorkflowJob unindexed = folder.createProject(WorkflowJob.class, "unindexed");
+
+        BadgeFootprint report = BadgeFootprint.compute(List.<Job>of(small, large, empty, unindexed), 0);
+        assertThat(report.isComplete(), is(true));
+        // the report does not build indexes
+        assertThat(JobBadgeIndex.getIfExists(unindexed), nullValue());
+        assertThat(
+                report.getJobs().stream().map(BadgeFootprint.Entry::getFullName).toList(),
+                contains("footprint/large", "footprint/small"));
+
+        BadgeFootprint.Entry job = report.getJobs().get(0);
+        assertThat(job.getBuilds(), is(2));
+        assertThat(job.getBadges(), is(2L));
+        assertThat(job.getSummaries(), is(2L));
+        assertThat(job.getTextBytes(), is(2 * (5L + 10000L)));
+        assertThat(job.getHeapBytes(), is(job.getTextBytes() + 4L * BuildRecord.ACTION_HEAP_BYTES));
+
+        BadgeFootprint.Entry total = report.getFolders().get(0);
+        assertThat(total.getFullName(), is("footprint"));
+        assertThat(total.getBuilds(), is(3));
+        assertThat(total.getTextBytes(), is(job.getTextBytes() + 5L));
+
+        assertThat(report.getBuilds().size(), is(3));
+        assertThat(report.getBuilds().get(0).getJob(), is("footprint/large"));
+        assertThat(report.getBuilds().get(0).getTextBytes(), is(10005L));
+        assertThat(report.getBuilds().get(2).getUrl(), is(small.getUrl() + "1/"));
+
+        JSONObject json = report.toJSON();
+        assertThat(json.getJSONArray("jobs").getJSONObject(0).getLong("textBytes"), is(20010L));
+        assertThat(json.getJSONArray("builds").getJSONObject(0).getInt("summaries"), is(1));
+    }
+
+    @Test
+    void topBuilds() throws Exception {
+        WorkflowJob project = r.createProject(WorkflowJob.class, "many");
+        project.setDefinition(new CpsFlowDefinition("addBadge(id: 'n', text: 'x' * currentBuild.number)", true));
+        for (int i = 0; i < BadgeFootprint.TOP_BUILDS + 5; i++) {
+            r.buildAndAssertSuccess(project);
+        }
+        awaitIndex(project);
+
+        List<BadgeFootprint.BuildEntry> builds =
+                BadgeFootprint.compute(List.<Job>of(project), 0).getBuilds();
+        assertThat(builds.size(), is(BadgeFootprint.TOP_BUILDS));
+        assertThat(builds.get(0).getNumber(), is(BadgeFootprint.TOP_BUILDS + 5));
+        assertThat(builds.get(BadgeFootprint.TOP_BUILDS - 1).getNumber(), is(6));
+    }
+
+    @Test
+    void scan() {
+        BadgeFootprint.scheduleScan();
+        await().atMost(30, TimeUnit.SECONDS).until(() -> !BadgeFootprint.isScanning());
+        assertThat(BadgeFootprint.getLast() != null, is(true));
+    }
+
+    private static WorkflowJob createJob(MockFolder folder, String name, String script) throws Exception {
+        WorkflowJob job = folder.createProject(WorkflowJob.class, name);
+        job.setDefinition(new CpsFlowDefinition(script, true));
+        r.buildAndAssertSuccess(job);
+        awaitIndex(job);
+        return job;
+    }
+
+    private static void awaitIndex(WorkflowJob job) {
+        JobBadgeIndex index = JobBadgeIndex.get(job);
+        await().atMost(10, TimeUnit.SECONDS).until(() -> !index.isRebuilding());
+    }
+}
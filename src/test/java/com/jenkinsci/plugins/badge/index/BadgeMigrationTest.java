@@ -0,0 +1,140 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.index;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.jenkinsci.plugins.badge.action.BadgeAction;
+import com.jenkinsci.plugins.badge.action.BadgeSummaryAction;
+import com.jenkinsci.plugins.badge.action.BadgeVersionAction;
+import hudson.model.FreeStyleBuild;
+import hudson.model.FreeStyleProject;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.MockFolder;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+/**
+ * Every test uses its own Jenkins, so migrations do not see the jobs of other tests.
+ */
+@WithJenkins
+class BadgeMigrationTest {
+
+    @Test
+    void migrate(JenkinsRule r) throws Exception {
+        MockFolder folder = r.createFolder("migrate");
+        FreeStyleProject project = folder.createProject(FreeStyleProject.class, "legacy");
+        FreeStyleBuild legacy = r.buildAndAssertSuccess(project);
+        legacy.addAction(new BadgeAction("legacy", "info.gif", "text", null, null, null, null));
+        legacy.addAction(new BadgeSummaryAction("summary", "warning.svg", "text", null, null, null, null));
+        legacy.save();
+        FreeStyleBuild current = r.buildAndAssertSuccess(project);
+        current.addAction(new BadgeAction("current", "symbol-star", "text", null, null, null, null));
+        current.save();
+        r.createFreeStyleProject("empty");
+
+        BadgeMigration migration = BadgeMigration.get();
+        migration.start(2, 0);
+        await().atMost(30, TimeUnit.SECONDS).until(() -> migration.getState() == BadgeMigration.State.COMPLETED);
+        await().atMost(10, TimeUnit.SECONDS).until(() -> !migration.isActive());
+
+        assertThat(migration.getProgress(), is(100));
+        assertThat(migration.getCompletedJobs(), is(migration.getJobs()));
+        assertThat(migration.getBuilds(), is(2L));
+        assertThat(migration.getMigratedBuilds(), is(1L));
+        assertThat(migration.getMigratedActions(), is(2L));
+        assertThat(migration.getFailures(), is(0));
+        assertThat(migration.getCurrentJobs(), empty());
+        assertThat(migration.getFinished() != null, is(true));
+
+        assertThat(legacy.getAction(BadgeAction.class).getRawIcon(), is("symbol-information-circle"));
+        assertThat(
+                Files.readString(new File(legacy.getRootDir(), "build.xml").toPath(), StandardCharsets.UTF_8),
+                containsString("<icon>symbol-information-circle</icon>"));
+        // cached badge content of migrated builds is invalidated
+        assertThat(BadgeVersionAction.of(legacy).getVersion(), is(1L));
+        assertThat(BadgeVersionAction.of(current), nullValue());
+        JobBadgeIndex index = JobBadgeIndex.get(project);
+        await().atMost(10, TimeUnit.SECONDS).until(() -> !index.isRebuilding());
+        assertThat(index.getBuild(legacy.getNumber()).getBadges().get(0).getIcon(), is("symbol-information-circle"));
+
+        String checkpoint = Files.readString(
+                new File(r.jenkins.getRootDir(), BadgeMigration.FILE_NAME).toPath(), StandardCharsets.UTF_8);
+        assertThat(checkpoint, containsString("<state>COMPLETED</state>"));
+        assertThat(checkpoint, containsString("migrate/legacy"));
+
+        // nothing left to migrate
+        migration.start(1, 0);
+        await().atMost(30, TimeUnit.SECONDS).until(() -> migration.getState() == BadgeMigration.State.COMPLETED);
+        await().atMost(10, TimeUnit.SECONDS).until(() -> !migration.isActive());
+        assertThat(migration.getBuilds(), is(2L));
+        assertThat(migration.getMigratedBuilds(), is(0L));
+    }
+
+    @Test
+    void pauseAndResume(JenkinsRule r) throws Exception {
+        FreeStyleProject project = r.createFreeStyleProject("throttled");
+        for (int i = 0; i < 10; i++) {
+            FreeStyleBuild build = r.buildAndAssertSuccess(project);
+            build.addAction(new BadgeAction(null, "error.gif", "text", null, null, null, null));
+            build.save();
+        }
+
+        BadgeMigration migration = BadgeMigration.get();
+        migration.start(1, 5);
+        await().atMost(10, TimeUnit.SECONDS).until(() -> migration.getBuilds() > 0);
+        migration.pause();
+        await().atMost(10, TimeUnit.SECONDS).until(() -> !migration.isActive());
+        assertThat(migration.getState(), is(BadgeMigration.State.PAUSED));
+        assertThat(migration.getBuilds(), lessThan(10L));
+        assertThat(migration.getCompletedJobs(), lessThan(migration.getJobs()));
+
+        assertThat(migration.resume(), is(true));
+        await().atMost(30, TimeUnit.SECONDS).until(() -> migration.getState() == BadgeMigration.State.COMPLETED);
+        assertThat(migration.getMigratedBuilds(), is(10L));
+        for (FreeStyleBuild build : project.getBuilds()) {
+            assertThat(build.getAction(BadgeAction.class).getRawIcon(), is("symbol-status-red"));
+        }
+        assertThat(migration.resume(), is(false));
+    }
+
+    @Test
+    void invalid(JenkinsRule r) {
+        BadgeMigration migration = BadgeMigration.get();
+        assertThrows(IllegalArgumentException.class, () -> migration.start(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> migration.start(BadgeMigration.MAX_WORKERS + 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> migration.start(1, -1));
+    }
+}
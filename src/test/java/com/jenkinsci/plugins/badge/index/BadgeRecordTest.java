@@ -0,0 +1,86 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.index;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.jenkinsci.plugins.badge.action.BadgeAction;
+import com.jenkinsci.plugins.badge.action.BadgeSummaryAction;
+import java.util.Set;
+import net.sf.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+class BadgeRecordTest {
+
+    @Test
+    void badge() {
+        BadgeRecord record = BadgeRecord.of(
+                new BadgeAction("id", "info.gif", "<b>text</b>", "cssClass", "style", "/link", "_blank"));
+        assertThat(record.getKind(), is(BadgeRecord.Kind.BADGE));
+        assertThat(record.getId(), is("id"));
+        // stored values, legacy icons are not resolved and the markup formatter is not applied
+        assertThat(record.getIcon(), is("info.gif"));
+        assertThat(record.getText(), is("<b>text</b>"));
+        assertThat(record.getTitle(), nullValue());
+        assertThat(record.getCssClass(), is("cssClass"));
+        assertThat(record.getStyle(), is("style"));
+        assertThat(record.getLink(), is("/link"));
+        assertThat(record.getTarget(), is("_blank"));
+    }
+
+    @Test
+    void summary() {
+        BadgeSummaryAction action = new BadgeSummaryAction("id", null, "x".repeat(5000), null, null, null, null);
+        action.setTitle("title");
+        BadgeRecord record = BadgeRecord.of(action);
+        assertThat(record.getKind(), is(BadgeRecord.Kind.SUMMARY));
+        assertThat(record.getTitle(), is("title"));
+        assertThat(record.getText().length(), is(BadgeRecord.MAX_TEXT_LENGTH));
+    }
+
+    @Test
+    void surrogatePair() {
+        // an emoji starting at the last character is dropped rather than split
+        String text = "x".repeat(BadgeRecord.MAX_TEXT_LENGTH - 1) + "\uD83D\uDE00" + "x".repeat(10);
+        BadgeRecord record = BadgeRecord.of(new BadgeAction("id", null, text, null, null, null, null));
+        assertThat(record.getText(), is("x".repeat(BadgeRecord.MAX_TEXT_LENGTH - 1)));
+
+        record = BadgeRecord.of(new BadgeSummaryAction("id", null, text, null, null, null, null));
+        assertThat(record.getText(), is("x".repeat(BadgeRecord.MAX_TEXT_LENGTH - 1)));
+    }
+
+    @Test
+    void json() {
+        BadgeRecord record = BadgeRecord.of(new BadgeAction("id", null, "text", null, null, null, null));
+
+        JSONObject json = record.toJSON(null);
+        assertThat(json.keySet(), is(Set.of("id", "kind", "text")));
+        assertThat(json.getString("kind"), is("badge"));
+
+        json = record.toJSON(Set.of("id", "icon"));
+        assertThat(json.keySet(), is(Set.of("id")));
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.index;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import hudson.model.Item;
+import hudson.model.User;
+import hudson.security.ACL;
+import hudson.security.ACLContext;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import jenkins.model.Jenkins;
+import org.jenkinsci.plugins.workflow.cps.CpsFlowDefinition;
+import org.jenkinsci.plugins.workflow.job.WorkflowJob;
+import org.jenkinsci.plugins.workflow.job.WorkflowRun;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.MockAuthorizationStrategy;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+@WithJenkins
+class BadgeSearchIndexTest {
+
+    private static JenkinsRule r;
+
+    @BeforeAll
+    static void setUp(JenkinsRule rule) {
+        r = rule;
+    }
+
+    @Test
+    void tokenize() {
+        assertThat(BadgeSearchIndex.tokenize(null), empty());
+        assertThat(BadgeSearchIndex.tokenize("<b>Release</b> 1.2-RC1, release"), contains("release", "1", "2", "rc1"));
+    }
+
+    @Test
+    void search() throws Exception {
+        WorkflowRun run = runJob("addBadge(id: 'search-deployed', text: 'Deployed <b>1.0-RC2</b>')\n"
+                + "addSummary(id: 'search-summary', text: 'Release notes')");
+        BadgeSearchIndex index = BadgeSearchIndex.get();
+
+        List<BadgeSearchIndex.Hit> hits = index.search("search-deployed", null, null, null, 10);
+        assertThat(hits, hasSize(1));
+        assertThat(hits.get(0).getJob(), is(run.getParent()));
+        assertThat(hits.get(0).getBuild().getNumber(), is(run.getNumber()));
+        assertThat(hits.get(0).getBadges(), hasSize(1));
+
+        hits = index.search(null, "rc", null, null, 10);
+        assertThat(hits.stream().map(hit -> hit.getBadges().get(0).getId()).toList(), contains("search-deployed"));
+
+        // terms match the beginning of words only
+        assertThat(index.search("search-deployed", "deploy", null, null, 10), hasSize(1));
+        assertThat(index.search("search-deployed", "ployed", null, null, 10), empty());
+
+        assertThat(index.search("search-deployed", "notes", null, null, 10), empty());
+        assertThat(index.search(null, "notes", BadgeRecord.Kind.BADGE, null, 10), empty());
+        assertThat(index.search(null, "notes", BadgeRecord.Kind.SUMMARY, null, 10), hasSize(1));
+
+        run.delete();
+        assertThat(index.search("search-deployed", null, null, null, 10), empty());
+    }
+
+    @Test
+    void permissions() throws Exception {
+        WorkflowRun run = runJob("addBadge(id: 'search-secret', text: 'Secret')");
+
+        r.jenkins.setSecurityRealm(r.createDummySecurityRealm());
+        r.jenkins.setAuthorizationStrategy(new MockAuthorizationStrategy()
+                .grant(Jenkins.READ)
+                .everywhere()
+                .to("alice", "bob")
+                .grant(Item.READ)
+                .onItems(run.getParent())
+                .to("alice"));
+        try {
+            try (ACLContext ignored = ACL.as2(User.getById("alice", true).impersonate2())) {
+                assertThat(BadgeSearchIndex.get().search("search-secret", null, null, null, 10), hasSize(1));
+            }
+            try (ACLContext ignored = ACL.as2(User.getById("bob", true).impersonate2())) {
+                assertThat(BadgeSearchIndex.get().search("search-secret", null, null, null, 10), empty());
+            }
+        } finally {
+            r.jenkins.setAuthorizationStrategy(null);
+            r.jenkins.setSecurityRealm(null);
+        }
+    }
+
+    @Test
+    void renamed() throws Exception {
+        WorkflowRun run = runJob("addBadge(id: 'search-renamed', text: 'Renamed')");
+        run.getParent().renameTo("renamed-job");
+
+        List<BadgeSearchIndex.Hit> hits = BadgeSearchIndex.get().search("search-renamed", null, null, null, 10);
+        assertThat(hits, hasSize(1));
+        assertThat(hits.get(0).getJobName(), is("renamed-job"));
+    }
+
+    private static WorkflowRun runJob(String script) throws Exception {
+        WorkflowJob project = r.createProject(WorkflowJob.class);
+        project.setDefinition(new CpsFlowDefinition(script, true));
+        WorkflowRun run = r.assertBuildStatusSuccess(project.scheduleBuild2(0));
+        JobBadgeIndex index = JobBadgeIndex.get(project);
+        await().atMost(10, TimeUnit.SECONDS).until(() -> !index.isRebuilding());
+        return run;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.index;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.jvnet.hudson.test.CLICommandInvoker.Matcher.failedWith;
+import static org.jvnet.hudson.test.CLICommandInvoker.Matcher.succeeded;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.sf.json.JSONObject;
+import org.jenkinsci.plugins.workflow.cps.CpsFlowDefinition;
+import org.jenkinsci.plugins.workflow.job.WorkflowJob;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.CLICommandInvoker;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.MockFolder;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+@WithJenkins
+class ExportBadgesCommandTest {
+
+    private static JenkinsRule r;
+
+    @BeforeAll
+    static void setUp(JenkinsRule rule) throws Exception {
+        r = rule;
+        MockFolder folder = r.createFolder("folder");
+        WorkflowJob project = folder.createProject(WorkflowJob.class, "job");
+        project.setDefinition(new CpsFlowDefinition("addBadge(id: 'badge', text: 'Test Text')", true));
+        JobBadgeIndex index = JobBadgeIndex.get(project);
+        await().atMost(10, TimeUnit.SECONDS).until(() -> !index.isRebuilding());
+        r.assertBuildStatusSuccess(project.scheduleBuild2(0));
+        r.assertBuildStatusSuccess(project.scheduleBuild2(0));
+    }
+
+    @Test
+    void export() {
+        CLICommandInvoker.Result result = new CLICommandInvoker(r, new ExportBadgesCommand()).invokeWithArgs("folder");
+        assertThat(result, succeeded());
+        List<JSONObject> lines =
+                result.stdout().lines().map(JSONObject::fromObject).toList();
+        assertThat(lines.size(), is(2));
+        assertThat(lines.get(0).getString("job"), is("folder/job"));
+        assertThat(lines.get(0).getString("resume"), is("folder/job:1"));
+
+        result = new CLICommandInvoker(r, new ExportBadgesCommand()).invokeWithArgs("-resume", "folder/job:1");
+        assertThat(result, succeeded());
+        assertThat(result.stdout().lines().count(), is(1L));
+    }
+
+    @Test
+    void unknownFolder() {
+        CLICommandInvoker.Result result = new CLICommandInvoker(r, new ExportBadgesCommand()).invokeWithArgs("unknown");
+        assertThat(result, failedWith(3));
+    }
+}
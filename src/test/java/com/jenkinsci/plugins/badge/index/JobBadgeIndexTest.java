@@ -0,0 +1,246 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.index;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import com.jenkinsci.plugins.badge.action.BadgeAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.jenkinsci.plugins.workflow.cps.CpsFlowDefinition;
+import org.jenkinsci.plugins.workflow.job.WorkflowJob;
+import org.jenkinsci.plugins.workflow.job.WorkflowRun;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+@WithJenkins
+class JobBadgeIndexTest {
+
+    private static JenkinsRule r;
+
+    @BeforeAll
+    static void setUp(JenkinsRule rule) {
+        r = rule;
+    }
+
+    @Test
+    void update() throws Exception {
+        WorkflowJob project = createProject(
+                "addBadge(id: 'badge', text: 'Test Text')\n" + "addSummary(id: 'summary', text: 'Test Summary')");
+        WorkflowRun run = r.assertBuildStatusSuccess(project.scheduleBuild2(0));
+        JobBadgeIndex index = awaitIndex(project);
+
+        BuildRecord build = index.getBuild(run.getNumber());
+        assertThat(build, notNullValue());
+        assertThat(build.getResult(), is("SUCCESS"));
+        assertThat(build.getTimestamp(), is(run.getTimeInMillis()));
+        assertThat(
+                build.getBadges().stream().map(BadgeRecord::getKind).toList(),
+                contains(BadgeRecord.Kind.BADGE, BadgeRecord.Kind.SUMMARY));
+        assertThat(build.getBadges().get(0).getText(), is("Test Text"));
+
+        run.getAction(BadgeAction.class).setText("Updated Text");
+        assertThat(index.getBuild(run.getNumber()).getBadges().get(0).getText(), is("Updated Text"));
+    }
+
+    @Test
+    void withoutBadges() throws Exception {
+        WorkflowJob project = createProject("echo 'no badges'");
+        WorkflowRun run = r.assertBuildStatusSuccess(project.scheduleBuild2(0));
+        JobBadgeIndex index = awaitIndex(project);
+
+        assertThat(index.getBuild(run.getNumber()), nullValue());
+        assertThat(index.getBuilds(), empty());
+
+        // no files are written for jobs without badges
+        index.save();
+        assertThat(Files.exists(project.getRootDir().toPath().resolve(JobBadgeIndex.FILE_NAME)), is(false));
+        assertThat(Files.exists(project.getRootDir().toPath().resolve(JobBadgeIndex.STATS_FILE_NAME)), is(false));
+        assertThat(Files.exists(project.getRootDir().toPath().resolve(JobBadgeIndex.SERIES_FILE_NAME)), is(false));
+    }
+
+    @Test
+    void getIfExists() throws Exception {
+        WorkflowJob project = createProject("echo 'no badges'");
+        r.assertBuildStatusSuccess(project.scheduleBuild2(0));
+
+        // the index is not built
+        assertThat(JobBadgeIndex.getIfExists(project), nullValue());
+        JobBadgeIndex empty = JobBadgeIndex.getOrEmpty(project);
+        assertThat(empty.exists(), is(false));
+        assertThat(empty.isComplete(), is(false));
+        assertThat(JobBadgeIndex.getIfExists(project), nullValue());
+
+        JobBadgeIndex index = awaitIndex(project);
+        assertThat(JobBadgeIndex.getIfExists(project), sameInstance(index));
+        assertThat(JobBadgeIndex.getOrEmpty(project), sameInstance(index));
+        assertThat(index.isComplete(), is(true));
+    }
+
+    @Test
+    void allBadgesRemoved() throws Exception {
+        WorkflowJob project = createProject("addBadge(id: 'badge', text: 'Test Text')");
+        WorkflowRun run = r.assertBuildStatusSuccess(project.scheduleBuild2(0));
+        JobBadgeIndex index = awaitIndex(project);
+        index.save();
+        Path file = project.getRootDir().toPath().resolve(JobBadgeIndex.FILE_NAME);
+        assertThat(Files.exists(file), is(true));
+
+        index.remove(run.getNumber());
+        index.save();
+        assertThat(Files.exists(file), is(false));
+    }
+
+    @Test
+    void paging() throws Exception {
+        WorkflowJob project = createProject("addBadge(id: 'badge', text: 'Test Text')");
+        for (int i = 0; i < 3; i++) {
+            r.assertBuildStatusSuccess(project.scheduleBuild2(0));
+        }
+        JobBadgeIndex index = awaitIndex(project);
+
+        assertThat(index.size(), is(3));
+        assertThat(index.getBuilds(null, 2).stream().map(BuildRecord::getNumber).toList(), contains(3, 2));
+        assertThat(index.getBuilds(2, 2).stream().map(BuildRecord::getNumber).toList(), contains(1));
+        assertThat(index.getBuilds(1, 2), empty());
+    }
+
+    @Test
+    void deleted() throws Exception {
+        WorkflowJob project = createProject("addBadge(id: 'badge', text: 'Test Text')");
+        WorkflowRun run = r.assertBuildStatusSuccess(project.scheduleBuild2(0));
+        JobBadgeIndex index = awaitIndex(project);
+
+        run.delete();
+        assertThat(index.getBuild(run.getNumber()), nullValue());
+    }
+
+    @Test
+    void jobDeleted() throws Exception {
+        WorkflowJob project = createProject("addBadge(id: 'badge', text: 'Test Text')");
+        r.assertBuildStatusSuccess(project.scheduleBuild2(0));
+        JobBadgeIndex index = awaitIndex(project);
+        String name = project.getFullName();
+
+        project.delete();
+        // a pending save must not recreate the job directory
+        index.save();
+        assertThat(Files.exists(project.getRootDir().toPath()), is(false));
+        assertThat(BadgeSearchIndex.get().search(name, "badge", null, null, null, 10), empty());
+
+        // a new job with the same name gets a new index
+        WorkflowJob recreated = createProject(name, "echo 'no badges'");
+        assertThat(JobBadgeIndex.get(recreated), not(sameInstance(index)));
+    }
+
+    @Test
+    void jobRenamed() throws Exception {
+        WorkflowJob project = createProject("addBadge(id: 'badge', text: 'Test Text')");
+        WorkflowRun run = r.assertBuildStatusSuccess(project.scheduleBuild2(0));
+        JobBadgeIndex index = awaitIndex(project);
+
+        project.renameTo("renamed-index-job");
+        assertThat(JobBadgeIndex.get(project), sameInstance(index));
+        assertThat(index.getBuild(run.getNumber()), notNullValue());
+    }
+
+    @Test
+    void updateQueued() throws Exception {
+        WorkflowJob project = createProject(
+                "addBadge(id: 'badge', text: 'Test Text')\n" + "addBadge(id: 'other', text: 'Other Text')");
+        WorkflowRun run = r.assertBuildStatusSuccess(project.scheduleBuild2(0));
+        JobBadgeIndex index = awaitIndex(project);
+        BadgeRecord other = index.getBuild(run.getNumber()).getBadges().get(1);
+
+        // records of unchanged badges are reused, pending changes are applied when reading
+        run.getActions(BadgeAction.class).get(0).setText("Updated Text");
+        BuildRecord record = index.getBuild(run.getNumber());
+        assertThat(record.getBadges().get(0).getText(), is("Updated Text"));
+        assertThat(record.getBadges().get(1), sameInstance(other));
+    }
+
+    @Test
+    void persistence() throws Exception {
+        WorkflowJob project = createProject("addBadge(id: 'persisted-badge', text: 'Test Text')");
+        WorkflowRun run = r.assertBuildStatusSuccess(project.scheduleBuild2(0));
+        JobBadgeIndex index = awaitIndex(project);
+
+        index.save();
+        Path file = project.getRootDir().toPath().resolve(JobBadgeIndex.FILE_NAME);
+        assertThat(Files.readString(file, StandardCharsets.UTF_8), containsString("persisted-badge"));
+
+        Files.delete(file);
+        index.rebuild();
+        assertThat(index.isRebuilding(), is(false));
+        assertThat(index.getBuild(run.getNumber()).getBadges().get(0).getId(), is("persisted-badge"));
+    }
+
+    @Test
+    void footprint() throws Exception {
+        WorkflowJob project = createProject(
+                "addBadge(id: 'badge', text: '\u00e4b')\n" + "addSummary(id: 'summary', text: 'x' * 6000)");
+        WorkflowRun run = r.assertBuildStatusSuccess(project.scheduleBuild2(0));
+        JobBadgeIndex index = awaitIndex(project);
+
+        // the full size of the truncated summary text
+        BuildRecord record = index.getBuild(run.getNumber());
+        assertThat(record.getTextBytes(), is(6003L));
+        assertThat(record.getCount(BadgeRecord.Kind.BADGE), is(1));
+        assertThat(record.getCount(BadgeRecord.Kind.SUMMARY), is(1));
+        assertThat(record.getEstimatedHeapBytes(), is(6003L + 2 * BuildRecord.ACTION_HEAP_BYTES));
+        assertThat(index.getStats().getTextBytes(), is(6003L));
+        assertThat(index.getStats().getCount(), is(2));
+    }
+
+    private static WorkflowJob createProject(String script) throws Exception {
+        WorkflowJob project = r.createProject(WorkflowJob.class);
+        project.setDefinition(new CpsFlowDefinition(script, true));
+        return project;
+    }
+
+    private static WorkflowJob createProject(String name, String script) throws Exception {
+        WorkflowJob project = r.createProject(WorkflowJob.class, name);
+        project.setDefinition(new CpsFlowDefinition(script, true));
+        return project;
+    }
+
+    private static JobBadgeIndex awaitIndex(WorkflowJob project) {
+        JobBadgeIndex index = JobBadgeIndex.get(project);
+        await().atMost(10, TimeUnit.SECONDS).until(() -> !index.isRebuilding());
+        return index;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.index;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JobBadgeSeriesTest {
+
+    @TempDir
+    private File dir;
+
+    @Test
+    void incremental() {
+        BuildRecord first = build(1, 10, badge("coverage", 80.0), badge("other", null));
+        BuildRecord third = build(3, 30, badge("coverage", 82.5));
+        JobBadgeSeries series = JobBadgeSeries.of(List.of(first, third));
+        assertThat(series.getIds(), contains("coverage"));
+
+        // builds are kept in order of their numbers
+        BuildRecord second = build(2, 20, badge("coverage", 81.0), badge("coverage", 90.0), badge("size", 3.0));
+        assertThat(series.replace(null, second), is(true));
+        assertThat(series.getIds(), contains("coverage", "size"));
+        JobBadgeSeries.Points points = series.getPoints("coverage", 10);
+        assertThat(points.size(), is(3));
+        assertThat(points.numbers(), is(new int[] {1, 2, 3}));
+        assertThat(points.timestamps(), is(new long[] {10, 20, 30}));
+        // the last value of a build wins
+        assertThat(points.values(), is(new double[] {80.0, 90.0, 82.5}));
+
+        // newest points only
+        assertThat(series.getPoints("coverage", 2).numbers(), is(new int[] {2, 3}));
+
+        // updated and removed builds
+        BuildRecord updated = build(2, 20, badge("coverage", 85.0));
+        series.replace(second, updated);
+        assertThat(series.getIds(), contains("coverage"));
+        assertThat(series.getPoints("coverage", 10).values(), is(new double[] {80.0, 85.0, 82.5}));
+        series.replace(first, null);
+        series.replace(updated, null);
+        series.replace(third, null);
+        assertThat(series.getIds(), is(empty()));
+
+        // builds without values do not change the series
+        BuildRecord plain = build(4, 40, badge("other", null));
+        assertThat(series.replace(null, plain), is(false));
+        assertThat(series.replace(plain, null), is(false));
+        assertThat(series.getPoints("coverage", 10).size(), is(0));
+    }
+
+    @Test
+    void grow() {
+        JobBadgeSeries series = new JobBadgeSeries();
+        for (int i = 100; i > 0; i--) {
+            series.replace(null, build(i, i, badge("count", (double) i)));
+        }
+        JobBadgeSeries.Points points = series.getPoints("count", 1000);
+        assertThat(points.size(), is(100));
+        for (int i = 0; i < 100; i++) {
+            assertThat(points.numbers()[i], is(i + 1));
+            assertThat(points.values()[i], is(i + 1.0));
+        }
+    }
+
+    @Test
+    void readWrite() throws Exception {
+        JobBadgeSeries series = JobBadgeSeries.of(List.of(
+                build(1, 10, badge("coverage", 80.0), badge("size", -1.5)),
+                build(2, 20, badge("coverage", Double.NaN))));
+        File file = new File(dir, JobBadgeIndex.SERIES_FILE_NAME);
+        series.write(file);
+        // overwrite
+        series.write(file);
+        assertThat(dir.list(), is(new String[] {JobBadgeIndex.SERIES_FILE_NAME}));
+
+        JobBadgeSeries read = JobBadgeSeries.read(file);
+        assertThat(read.getIds(), contains("coverage", "size"));
+        JobBadgeSeries.Points points = read.getPoints("coverage", 10);
+        assertThat(points.numbers(), is(new int[] {1, 2}));
+        assertThat(points.timestamps(), is(new long[] {10, 20}));
+        assertThat(points.values(), is(new double[] {80.0, Double.NaN}));
+        assertThat(read.getPoints("size", 10).values(), is(new double[] {-1.5}));
+    }
+
+    @Test
+    void readWriteLongId() throws Exception {
+        // ids beyond the 64 KiB limit of DataOutput#writeUTF
+        String id = "\u00e4".repeat(40_000);
+        File file = new File(dir, JobBadgeIndex.SERIES_FILE_NAME);
+        JobBadgeSeries.of(List.of(build(1, 10, badge(id, 1.0)))).write(file);
+
+        JobBadgeSeries read = JobBadgeSeries.read(file);
+        assertThat(read.getIds(), contains(id));
+        assertThat(read.getPoints(id, 10).values(), is(new double[] {1.0}));
+    }
+
+    @Test
+    void readUnknownFormat() throws Exception {
+        File file = new File(dir, JobBadgeIndex.SERIES_FILE_NAME);
+        Files.writeString(file.toPath(), "<badge-series/>");
+        assertThrows(IOException.class, () -> JobBadgeSeries.read(file));
+    }
+
+    private static BadgeRecord badge(String id, Double value) {
+        return new BadgeRecord(BadgeRecord.Kind.BADGE, id, null, null, null, null, null, null, null, null, value);
+    }
+
+    private static BuildRecord build(int number, long timestamp, BadgeRecord... badges) {
+        return new BuildRecord(number, timestamp, "SUCCESS", new ArrayList<>(List.of(badges)), 0);
+    }
+}
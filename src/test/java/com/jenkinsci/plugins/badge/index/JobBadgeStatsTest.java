@@ -0,0 +1,125 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.index;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.is;
+
+import com.jenkinsci.plugins.badge.index.JobBadgeStats.Type;
+import io.jenkins.plugins.ionicons.Ionicons;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import net.sf.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+class JobBadgeStatsTest {
+
+    private static final long DAY = 24 * 60 * 60 * 1000L;
+
+    @Test
+    void type() {
+        assertThat(Type.of(badge("id", Ionicons.getIconClassName("information-circle"))), is(Type.INFO));
+        assertThat(Type.of(badge("id", "warning.gif")), is(Type.WARNING));
+        assertThat(Type.of(badge("id", Ionicons.getIconClassName("remove-circle"))), is(Type.ERROR));
+        assertThat(Type.of(badge("id", "symbol-rocket")), is(Type.OTHER));
+        assertThat(Type.of(badge("id", null)), is(Type.OTHER));
+        assertThat(
+                Type.of(new BadgeRecord(BadgeRecord.Kind.SUMMARY, "id", null, null, null, null, null, null, null)),
+                is(Type.SUMMARY));
+    }
+
+    @Test
+    void incremental() {
+        TreeMap<Integer, BuildRecord> records = new TreeMap<>();
+        records.put(1, build(1, 0, badge("deploy", "info.gif"), badge("failure", "error.gif")));
+        records.put(2, build(2, DAY, badge("deploy", "info.gif")));
+        JobBadgeStats stats = JobBadgeStats.of(records.values());
+
+        assertThat(stats.getBuilds(), is(2));
+        assertThat(stats.getIds().get("deploy").getCount(), is(2));
+        assertThat(stats.getIds().get("deploy").getLastBuild(), is(2));
+        assertThat(stats.getIcons().get("info.gif"), is(2));
+        assertThat(stats.getCount(Type.INFO), is(2));
+        assertThat(stats.getBuilds(Type.ERROR), is(1));
+        assertThat(stats.getRate(Type.ERROR), is(0.5));
+        assertThat(stats.getDays().get("1970-01-01").get(Type.ERROR), is(1));
+        assertThat(stats.getDays().get("1970-01-02").get(Type.INFO), is(1));
+
+        // build 2 deleted
+        BuildRecord removed = records.remove(2);
+        stats.replace(removed, null, records);
+        assertThat(stats.getBuilds(), is(1));
+        assertThat(stats.getIds().get("deploy").getCount(), is(1));
+        assertThat(stats.getIds().get("deploy").getLastBuild(), is(1));
+        assertThat(stats.getRate(Type.ERROR), is(1.0));
+        assertThat(stats.getDays().containsKey("1970-01-02"), is(false));
+
+        // badge removed from build 1
+        BuildRecord updated = build(1, 0, badge("deploy", "info.gif"));
+        stats.replace(records.put(1, updated), updated, records);
+        assertThat(stats.getIds().containsKey("failure"), is(false));
+        assertThat(stats.getIcons().containsKey("error.gif"), is(false));
+        assertThat(stats.getBuilds(Type.ERROR), is(0));
+        assertThat(stats.getRate(Type.ERROR), is(0.0));
+
+        // new build
+        BuildRecord added = build(3, 2 * DAY, badge("deploy", "info.gif"));
+        records.put(3, added);
+        stats.replace(null, added, records);
+        assertThat(stats.getBuilds(), is(2));
+        assertThat(stats.getIds().get("deploy").getLastBuild(), is(3));
+
+        // the same as computing them from scratch
+        assertThat(stats.toJSON(), is(JobBadgeStats.of(records.values()).toJSON()));
+
+        records.clear();
+        stats.replace(added, null, records);
+        stats.replace(updated, null, records);
+        assertThat(stats.getBuilds(), is(0));
+        assertThat(stats.getIds(), is(anEmptyMap()));
+        assertThat(stats.getIcons(), is(anEmptyMap()));
+        assertThat(stats.getDays(), is(anEmptyMap()));
+    }
+
+    @Test
+    void json() {
+        JobBadgeStats stats = JobBadgeStats.of(List.of(build(1, 0, badge("deploy", "info.gif"))));
+        JSONObject json = stats.toJSON();
+        assertThat(json.getInt("builds"), is(1));
+        assertThat(json.getJSONObject("ids").getJSONObject("deploy").getInt("lastBuild"), is(1));
+        assertThat(json.getJSONObject("icons").getInt("info.gif"), is(1));
+        assertThat(json.getJSONObject("types").getJSONObject("info").getDouble("rate"), is(1.0));
+        assertThat(json.getJSONObject("days").getJSONObject("1970-01-01").getInt("info"), is(1));
+    }
+
+    private static BadgeRecord badge(String id, String icon) {
+        return new BadgeRecord(BadgeRecord.Kind.BADGE, id, icon, null, null, null, null, null, null);
+    }
+
+    private static BuildRecord build(int number, long timestamp, BadgeRecord... badges) {
+        return new BuildRecord(number, timestamp, "SUCCESS", new ArrayList<>(List.of(badges)), 0);
+    }
+}
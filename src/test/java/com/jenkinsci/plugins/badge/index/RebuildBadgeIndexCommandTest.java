@@ -0,0 +1,87 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.index;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.jvnet.hudson.test.CLICommandInvoker.Matcher.failedWith;
+import static org.jvnet.hudson.test.CLICommandInvoker.Matcher.succeeded;
+
+import java.util.concurrent.TimeUnit;
+import jenkins.model.Jenkins;
+import org.jenkinsci.plugins.workflow.cps.CpsFlowDefinition;
+import org.jenkinsci.plugins.workflow.job.WorkflowJob;
+import org.jenkinsci.plugins.workflow.job.WorkflowRun;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.CLICommandInvoker;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+@WithJenkins
+class RebuildBadgeIndexCommandTest {
+
+    private static JenkinsRule r;
+
+    @BeforeAll
+    static void setUp(JenkinsRule rule) {
+        r = rule;
+    }
+
+    @Test
+    void rebuild() throws Exception {
+        WorkflowJob project = r.createProject(WorkflowJob.class, "rebuilt");
+        project.setDefinition(new CpsFlowDefinition("addBadge(id: 'badge', text: 'Test Text')", true));
+        WorkflowRun run = r.assertBuildStatusSuccess(project.scheduleBuild2(0));
+        JobBadgeIndex index = JobBadgeIndex.get(project);
+        await().atMost(10, TimeUnit.SECONDS).until(() -> !index.isRebuilding());
+
+        index.remove(run.getNumber());
+        assertThat(index.size(), is(0));
+
+        CLICommandInvoker.Result result =
+                new CLICommandInvoker(r, new RebuildBadgeIndexCommand()).invokeWithArgs("rebuilt");
+        assertThat(result, succeeded());
+        assertThat(result.stdout(), containsString("rebuilt: 1 builds with badges"));
+        assertThat(index.size(), is(1));
+        assertThat(BadgeSearchIndex.get().search("badge", null, null, null, 10).size(), is(1));
+    }
+
+    @Test
+    void unknownJob() {
+        CLICommandInvoker.Result result =
+                new CLICommandInvoker(r, new RebuildBadgeIndexCommand()).invokeWithArgs("unknown");
+        assertThat(result, failedWith(3));
+    }
+
+    @Test
+    void permission() {
+        CLICommandInvoker.Result result = new CLICommandInvoker(r, new RebuildBadgeIndexCommand())
+                .authorizedTo(Jenkins.READ)
+                .invoke();
+        assertThat(result, failedWith(6));
+    }
+}
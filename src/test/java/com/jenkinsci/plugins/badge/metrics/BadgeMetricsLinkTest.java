@@ -0,0 +1,95 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anyOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import hudson.model.ManagementLink;
+import jenkins.model.Jenkins;
+import net.sf.json.JSONObject;
+import org.htmlunit.FailingHttpStatusCodeException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.MockAuthorizationStrategy;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+@WithJenkins
+class BadgeMetricsLinkTest {
+
+    private static JenkinsRule r;
+
+    @BeforeAll
+    static void setUp(JenkinsRule rule) {
+        r = rule;
+    }
+
+    @Test
+    void link() {
+        BadgeMetricsLink link = ManagementLink.all().get(BadgeMetricsLink.class);
+        assertThat(link.getUrlName(), is("badge-metrics"));
+        assertThat(link.getRequiredPermission(), is(Jenkins.ADMINISTER));
+        assertThat(link.getCategory(), is(ManagementLink.Category.STATUS));
+    }
+
+    @Test
+    void page() throws Exception {
+        r.jenkins.setSecurityRealm(r.createDummySecurityRealm());
+        r.jenkins.setAuthorizationStrategy(new MockAuthorizationStrategy()
+                .grant(Jenkins.ADMINISTER)
+                .everywhere()
+                .to("admin")
+                .grant(Jenkins.READ)
+                .everywhere()
+                .to("user"));
+        BadgeMetrics.get().removeScan(3);
+
+        try (JenkinsRule.WebClient webClient = r.createWebClient()) {
+            webClient.login("admin");
+            JSONObject json = JSONObject.fromObject(webClient
+                    .goTo("manage/badge-metrics/api/json", "application/json")
+                    .getWebResponse()
+                    .getContentAsString());
+            assertThat(json.getJSONObject("badges").getJSONObject("added").has("rate"), is(true));
+            assertThat(json.getJSONObject("icons").has("probes"), is(true));
+            assertThat(json.getJSONObject("removeScans").getLong("count") >= 1, is(true));
+
+            String page =
+                    webClient.goTo("manage/badge-metrics/").getWebResponse().getContentAsString();
+            assertThat(page, containsString("Markup translations"));
+        }
+
+        try (JenkinsRule.WebClient webClient = r.createWebClient()) {
+            webClient.login("user");
+            FailingHttpStatusCodeException ex = assertThrows(
+                    FailingHttpStatusCodeException.class, () -> webClient.goTo("manage/badge-metrics/api/json", null));
+            // hidden behind the permission check of the management page, or of the link itself
+            assertThat(ex.getStatusCode(), anyOf(is(403), is(404)));
+        }
+    }
+}
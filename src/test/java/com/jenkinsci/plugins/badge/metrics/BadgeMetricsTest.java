@@ -0,0 +1,88 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+
+import java.lang.management.ManagementFactory;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.jenkinsci.plugins.workflow.cps.CpsFlowDefinition;
+import org.jenkinsci.plugins.workflow.job.WorkflowJob;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+@WithJenkins
+class BadgeMetricsTest {
+
+    private static JenkinsRule r;
+
+    @BeforeAll
+    static void setUp(JenkinsRule rule) {
+        r = rule;
+    }
+
+    @Test
+    void steps() throws Exception {
+        BadgeMetrics metrics = BadgeMetrics.get();
+        long added = metrics.getBadgesAdded();
+        long updated = metrics.getBadgesUpdated();
+        long removed = metrics.getBadgesRemoved();
+        long translations = metrics.getTranslationCount();
+        long scans = metrics.getRemoveScanCount();
+
+        WorkflowJob project = r.createProject(WorkflowJob.class);
+        project.setDefinition(new CpsFlowDefinition(
+                "def badge = addBadge(id: 'a', text: 'A')\n"
+                        + "badge.setText('<b>B</b>')\n"
+                        + "echo badge.getText()\n"
+                        + "addSummary(id: 's', text: 'Summary')\n"
+                        + "removeBadges(id: 'a')",
+                true));
+        r.buildAndAssertSuccess(project);
+
+        assertThat(metrics.getBadgesAdded(), is(added + 2));
+        assertThat(metrics.getBadgesUpdated(), is(updated + 1));
+        assertThat(metrics.getBadgesRemoved(), is(removed + 1));
+        assertThat(metrics.getBadgesAddedPerSecond(), greaterThan(0.0));
+        assertThat(metrics.getTranslationCount(), greaterThanOrEqualTo(translations + 1));
+        assertThat(metrics.getRemoveScanCount(), is(scans + 1));
+        assertThat(metrics.getRemoveScanMaxSize(), greaterThanOrEqualTo(2L));
+    }
+
+    @Test
+    void mbean() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(BadgeMetrics.OBJECT_NAME);
+        assertThat(server.isRegistered(name), is(true));
+        BadgeMetrics.get().removeScan(7);
+        assertThat((Long) server.getAttribute(name, "RemoveScanCount"), greaterThanOrEqualTo(1L));
+        assertThat((Long) server.getAttribute(name, "RemoveScanMaxSize"), greaterThanOrEqualTo(7L));
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import net.sf.json.JSONArray;
+import net.sf.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+class HistogramTest {
+
+    @Test
+    void empty() {
+        Histogram histogram = Histogram.size();
+        assertThat(histogram.getCount(), is(0L));
+        assertThat(histogram.getMean(), is(0.0));
+        assertThat(histogram.getPercentile(99), is(0L));
+    }
+
+    @Test
+    void percentiles() {
+        Histogram histogram = new Histogram(10, 100, 1000);
+        for (int i = 1; i <= 90; i++) {
+            histogram.record(5);
+        }
+        for (int i = 1; i <= 9; i++) {
+            histogram.record(50);
+        }
+        histogram.record(5000);
+
+        assertThat(histogram.getCount(), is(100L));
+        assertThat(histogram.getSum(), is(90 * 5L + 9 * 50L + 5000L));
+        assertThat(histogram.getMax(), is(5000L));
+        assertThat(histogram.getPercentile(50), is(10L));
+        assertThat(histogram.getPercentile(90), is(10L));
+        assertThat(histogram.getPercentile(99), is(100L));
+        // the last bucket is estimated by the largest value
+        assertThat(histogram.getPercentile(100), is(5000L));
+    }
+
+    @Test
+    void boundsCappedByMax() {
+        Histogram histogram = Histogram.latency();
+        histogram.record(2_000);
+        assertThat(histogram.getPercentile(50), is(2_000L));
+    }
+
+    @Test
+    void json() {
+        Histogram histogram = Histogram.latency();
+        histogram.record(2_000_000);
+        JSONObject json = histogram.toJSON(1_000_000);
+        assertThat(json.getLong("count"), is(1L));
+        assertThat(json.getDouble("max"), is(2.0));
+        JSONArray buckets = json.getJSONArray("buckets");
+        assertThat(buckets.size(), is(13));
+        assertThat(buckets.getJSONObject(5).getDouble("le"), is(5.0));
+        assertThat(buckets.getJSONObject(5).getLong("count"), is(1L));
+        assertThat(buckets.getJSONObject(12).getString("le"), is("+Inf"));
+    }
+}
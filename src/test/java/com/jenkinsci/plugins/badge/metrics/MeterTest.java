@@ -0,0 +1,63 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class MeterTest {
+
+    @Test
+    void rate() {
+        AtomicLong clock = new AtomicLong(1000);
+        Meter meter = new Meter(clock::get);
+        assertThat(meter.getRate(), is(0.0));
+
+        for (int i = 0; i < 60; i++) {
+            meter.mark();
+        }
+        clock.incrementAndGet();
+        for (int i = 0; i < 60; i++) {
+            meter.mark();
+        }
+        assertThat(meter.getCount(), is(120L));
+        assertThat(meter.getRate(), is(2.0));
+
+        // the first second leaves the window
+        clock.addAndGet(Meter.WINDOW - 1);
+        assertThat(meter.getRate(), is(1.0));
+
+        // its bucket is reused
+        meter.mark();
+        assertThat(meter.getRate(), is(61.0 / Meter.WINDOW));
+
+        clock.addAndGet(Meter.WINDOW);
+        assertThat(meter.getRate(), is(0.0));
+        assertThat(meter.getCount(), is(121L));
+        assertThat(meter.toJSON().getLong("count"), is(121L));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.retention;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import hudson.model.FreeStyleProject;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.MockFolder;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+@WithJenkins
+class BadgeRetentionTest {
+
+    private static JenkinsRule r;
+
+    @BeforeAll
+    static void setUp(JenkinsRule rule) {
+        r = rule;
+    }
+
+    @Test
+    void configRoundtrip() throws Exception {
+        BadgeRetention retention = BadgeRetention.get();
+        retention.setDaysToKeep(30);
+        retention.setBuildsToKeep(10);
+        retention.setFolderRules(List.of(new BadgeRetention.FolderRule("/team/", 7, 0)));
+
+        r.configRoundtrip();
+        assertThat(retention.getDaysToKeep(), is(30));
+        assertThat(retention.getBuildsToKeep(), is(10));
+        assertThat(retention.getFolderRules().size(), is(1));
+        assertThat(retention.getFolderRules().get(0).getFolder(), is("team"));
+        assertThat(retention.getFolderRules().get(0).getDaysToKeep(), is(7));
+
+        retention.setFolderRules(List.of());
+        r.configRoundtrip();
+        assertThat(retention.getFolderRules().size(), is(0));
+    }
+
+    @Test
+    void rules() throws Exception {
+        BadgeRetention retention = BadgeRetention.get();
+        retention.setDaysToKeep(0);
+        retention.setBuildsToKeep(0);
+        retention.setFolderRules(List.of());
+        assertThat(retention.isEnabled(), is(false));
+
+        MockFolder team = r.createFolder("rules");
+        MockFolder exempt = team.createProject(MockFolder.class, "exempt");
+        FreeStyleProject root = r.createFreeStyleProject("root");
+        FreeStyleProject inTeam = team.createProject(FreeStyleProject.class, "job");
+        FreeStyleProject inExempt = exempt.createProject(FreeStyleProject.class, "job");
+
+        retention.setBuildsToKeep(20);
+        retention.setFolderRules(List.of(
+                new BadgeRetention.FolderRule("rules", 5, 0), new BadgeRetention.FolderRule("rules/exempt", 0, 0)));
+        assertThat(retention.isEnabled(), is(true));
+        assertThat(retention.getRule(root).getBuildsToKeep(), is(20));
+        assertThat(retention.getRule(inTeam).getDaysToKeep(), is(5));
+        assertThat(retention.getRule(inTeam).getBuildsToKeep(), is(0));
+        assertThat(retention.getRule(inExempt).isEnabled(), is(false));
+    }
+
+    @Test
+    void expired() {
+        long now = System.currentTimeMillis();
+        BadgeRetention.Rule rule = new BadgeRetention.Rule(2, 3);
+        assertThat(rule.isExpired(10, now, 10, now), is(false));
+        assertThat(rule.isExpired(8, now, 10, now), is(false));
+        assertThat(rule.isExpired(7, now, 10, now), is(true));
+        assertThat(rule.isExpired(10, now - TimeUnit.DAYS.toMillis(2) - 1, 10, now), is(true));
+        assertThat(new BadgeRetention.Rule(0, 0).isExpired(1, 0, 10, now), is(false));
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Badge Plugin Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.jenkinsci.plugins.badge.retention;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+
+import com.jenkinsci.plugins.badge.action.BadgeAction;
+import com.jenkinsci.plugins.badge.action.BadgeSummaryAction;
+import com.jenkinsci.plugins.badge.action.BadgeVersionAction;
+import com.jenkinsci.plugins.badge.index.JobBadgeIndex;
+import hudson.model.Run;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.jenkinsci.plugins.workflow.cps.CpsFlowDefinition;
+import org.jenkinsci.plugins.workflow.job.WorkflowJob;
+import org.jenkinsci.plugins.workflow.job.WorkflowRun;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+@WithJenkins
+class BadgeRetentionWorkTest {
+
+    private static final String TEXT = "<p>report</p>".repeat(1000);
+
+    private static JenkinsRule r;
+
+    @BeforeAll
+    static void setUp(JenkinsRule rule) {
+        r = rule;
+    }
+
+    @Test
+    void unindexed() throws Exception {
+        WorkflowJob project = r.createProject(WorkflowJob.class, "unindexed");
+        assertThat(
+                BadgeRetentionWork.compact(project, new BadgeRetention.Rule(0, 1), System.currentTimeMillis(), 0),
+                is(0));
+        // jobs are not indexed by the retention policy
+        assertThat(JobBadgeIndex.getIfExists(project), nullValue());
+    }
+
+    @Test
+    void compact() throws Exception {
+        WorkflowJob project = r.createProject(WorkflowJob.class, "compact");
+        project.setDefinition(new CpsFlowDefinition(
+                "addBadge(id: 'badge', text: 'kept')\n"
+                        + "addSummary(id: 'large', text: '<p>report</p>' * 1000)\n"
+                        + "addSummary(id: 'small', text: 'small')",
+                true));
+        for (int i = 0; i < 3; i++) {
+            r.buildAndAssertSuccess(project);
+        }
+        JobBadgeIndex index = JobBadgeIndex.get(project);
+        await().atMost(10, TimeUnit.SECONDS).until(() -> !index.isRebuilding());
+        long now = System.currentTimeMillis();
+
+        // keeps everything
+        assertThat(BadgeRetentionWork.compact(project, new BadgeRetention.Rule(0, 0), now, 0), is(0));
+        assertThat(BadgeRetentionWork.compact(project, new BadgeRetention.Rule(30, 0), now, 0), is(0));
+
+        // keeps the summaries of the last build
+        assertThat(BadgeRetentionWork.compact(project, new BadgeRetention.Rule(0, 1), now, 0), is(2));
+        for (WorkflowRun run : List.of(project.getBuildByNumber(1), project.getBuildByNumber(2))) {
+            BadgeSummaryAction large = getSummary(run, "large");
+            assertThat(large.getRawText(), startsWith("Removed by the badge retention policy"));
+            assertThat(large.getRemovedTextSize(), is((long) TEXT.length()));
+            assertThat(getSummary(run, "small").getRawText(), is("small"));
+            assertThat(run.getAction(BadgeAction.class).getRawText(), is("kept"));
+            // cached badge content is invalidated
+            assertThat(BadgeVersionAction.of(run).isModifiedAfterCompletion(), is(true));
+        }
+        assertThat(getSummary(project.getBuildByNumber(3), "large").getRawText(), is(TEXT));
+        assertThat(BadgeVersionAction.of(project.getBuildByNumber(3)).isModifiedAfterCompletion(), is(false));
+        assertThat(getSummary(project.getBuildByNumber(3), "large").getRemovedTextDigest(), nullValue());
+
+        // persisted and indexed
+        project.getBuildByNumber(1).reload();
+        assertThat(
+                getSummary(project.getBuildByNumber(1), "large").getRawText(),
+                startsWith("Removed by the badge retention policy"));
+        assertThat(index.getBuild(1).getTextBytes(), lessThan(index.getBuild(3).getTextBytes()));
+
+        // compacted summaries are not visited again
+        assertThat(BadgeRetentionWork.compact(project, new BadgeRetention.Rule(0, 1), now, 0), is(0));
+        // by age
+        assertThat(
+                BadgeRetentionWork.compact(project, new BadgeRetention.Rule(1, 0), now + TimeUnit.DAYS.toMillis(2), 0),
+                is(1));
+    }
+
+    private static BadgeSummaryAction getSummary(Run<?, ?> run, String id) {
+        return run.getActions(BadgeSummaryAction.class).stream()
+                .filter(action -> action.getId().equals(id))
+                .findFirst()
+                .orElseThrow();
+    }
+}